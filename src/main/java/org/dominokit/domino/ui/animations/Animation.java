@@ -3,7 +3,6 @@ package org.dominokit.domino.ui.animations;
 import elemental2.dom.EventListener;
 import elemental2.dom.HTMLElement;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
-import org.gwtproject.timer.client.Timer;
 import org.jboss.gwt.elemento.core.IsElement;
 
 public class Animation {
@@ -76,12 +75,7 @@ public class Animation {
 
     public Animation animate() {
         if (delay > 0) {
-            new Timer() {
-                @Override
-                public void run() {
-                    animateElement();
-                }
-            }.schedule(delay);
+            AnimationClock.schedule(delay, this::animateElement);
         } else {
             animateElement();
         }
@@ -94,9 +88,6 @@ public class Animation {
         this.stopListener = evt -> stop();
 
         element.addEventListener("webkitAnimationEnd", stopListener);
-        element.addEventListener("MSAnimationEnd", stopListener);
-        element.addEventListener("mozAnimationEnd", stopListener);
-        element.addEventListener("oanimationend", stopListener);
         element.addEventListener("animationend", stopListener);
 
         element.style.transitionDuration = duration + "ms";
@@ -118,9 +109,6 @@ public class Animation {
         element.style.removeProperty("animation-duration");
         element.style.removeProperty("-webkit-animation-duration");
         element.removeEventListener("webkitAnimationEnd", stopListener);
-        element.removeEventListener("MSAnimationEnd", stopListener);
-        element.removeEventListener("mozAnimationEnd", stopListener);
-        element.removeEventListener("oanimationend", stopListener);
         element.removeEventListener("animationend", stopListener);
         callback.onComplete(element);
     }
@@ -0,0 +1,158 @@
+package org.dominokit.domino.ui.animations;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.EventListener;
+import org.dominokit.domino.ui.utils.DocumentEvents;
+import org.gwtproject.timer.client.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static elemental2.dom.DomGlobal.document;
+
+/**
+ * A single requestAnimationFrame loop that runs the delayed and repeating tasks of the animated components, all the
+ * tasks due in the same frame run together so their DOM writes are batched. The loop only requests frames while a
+ * task is due within about a frame, otherwise a single timer waits for the earliest task, and the tasks are paused
+ * while the page is hidden.
+ */
+public final class AnimationClock {
+
+    private static final String VISIBILITY_CHANGE = "visibilitychange";
+    private static final int FRAME_TIME = 16;
+
+    private static final List<Task> tasks = new ArrayList<>();
+    private static boolean frameRequested = false;
+    private static double hiddenAt = -1;
+    private static final EventListener visibilityListener = evt -> onVisibilityChange();
+    private static double wakeTime = -1;
+    private static final Timer wakeTimer = new Timer() {
+        @Override
+        public void run() {
+            wakeTime = -1;
+            requestFrame();
+        }
+    };
+
+    public static Task schedule(int delay, Runnable runnable) {
+        return add(new Task(runnable, delay, 0));
+    }
+
+    public static Task scheduleRepeating(int interval, Runnable runnable) {
+        return add(new Task(runnable, interval, Math.max(1, interval)));
+    }
+
+    public static int getActiveCount() {
+        return tasks.size();
+    }
+
+    private static Task add(Task task) {
+        if (tasks.isEmpty()) {
+            DocumentEvents.addListener(VISIBILITY_CHANGE, visibilityListener);
+            hiddenAt = document.hidden ? now() : -1;
+        }
+        tasks.add(task);
+        requestFrame();
+        return task;
+    }
+
+    private static void remove(Task task) {
+        if (tasks.remove(task) && tasks.isEmpty()) {
+            DocumentEvents.removeListener(VISIBILITY_CHANGE, visibilityListener);
+            hiddenAt = -1;
+            cancelWakeTimer();
+        }
+    }
+
+    /**
+     * Requests a frame if a task is due within about a frame, otherwise schedules the wake timer for the earliest
+     * task unless it is already scheduled earlier.
+     */
+    private static void requestFrame() {
+        if (frameRequested || tasks.isEmpty() || hiddenAt >= 0) {
+            return;
+        }
+        double nextDueTime = Double.MAX_VALUE;
+        for (Task task : tasks) {
+            nextDueTime = Math.min(nextDueTime, task.dueTime);
+        }
+        double wait = nextDueTime - now() - FRAME_TIME;
+        if (wait <= 0) {
+            cancelWakeTimer();
+            frameRequested = true;
+            DomGlobal.requestAnimationFrame(timestamp -> onFrame());
+        } else if (wakeTime < 0 || nextDueTime < wakeTime) {
+            wakeTime = nextDueTime;
+            wakeTimer.schedule((int) Math.ceil(wait));
+        }
+    }
+
+    private static void cancelWakeTimer() {
+        wakeTimer.cancel();
+        wakeTime = -1;
+    }
+
+    private static void onFrame() {
+        frameRequested = false;
+        if (hiddenAt >= 0) {
+            return;
+        }
+        double now = now();
+        for (Task task : new ArrayList<>(tasks)) {
+            if (task.running && task.dueTime <= now) {
+                if (task.interval > 0) {
+                    task.dueTime = Math.max(task.dueTime + task.interval, now);
+                } else {
+                    task.cancel();
+                }
+                task.runnable.run();
+            }
+        }
+        requestFrame();
+    }
+
+    /**
+     * Shifts the due time of the tasks by the time the page was hidden, so they continue from where they stopped
+     * instead of all running at once.
+     */
+    private static void onVisibilityChange() {
+        if ("hidden".equals(document.visibilityState)) {
+            hiddenAt = now();
+            cancelWakeTimer();
+        } else if (hiddenAt >= 0) {
+            double hiddenTime = now() - hiddenAt;
+            hiddenAt = -1;
+            tasks.forEach(task -> task.dueTime += hiddenTime);
+            requestFrame();
+        }
+    }
+
+    private static double now() {
+        return DomGlobal.performance.now();
+    }
+
+    private AnimationClock() {
+    }
+
+    public static final class Task {
+        private final Runnable runnable;
+        private final int interval;
+        private double dueTime;
+        private boolean running = true;
+
+        private Task(Runnable runnable, int delay, int interval) {
+            this.runnable = runnable;
+            this.interval = interval;
+            this.dueTime = now() + delay;
+        }
+
+        public void cancel() {
+            running = false;
+            remove(this);
+        }
+
+        public boolean isRunning() {
+            return running;
+        }
+    }
+}
@@ -9,12 +9,13 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.ElementUtil;
 import org.dominokit.domino.ui.utils.SwipeUtil;
-import org.gwtproject.timer.client.Timer;
+import org.dominokit.domino.ui.animations.AnimationClock;
 import org.jboss.gwt.elemento.core.IsElement;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.*;
 
 public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel> {
@@ -54,7 +55,7 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel> {
     private List<Slide> slides = new ArrayList<>();
     private Slide activeSlide;
     private Slide targetSlide;
-    private Timer timer;
+    private AnimationClock.Task autoSlideTask;
     private int autoSlideDuration = 3000;
     private boolean attached = false;
 
@@ -69,13 +70,6 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel> {
             prevSlide();
         });
 
-        timer = new Timer() {
-            @Override
-            public void run() {
-                nextSlide();
-            }
-        };
-
         addAttachListener();
 
         addDetachListener();
@@ -84,8 +78,14 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel> {
     }
 
     private void resetTimer() {
-        timer.cancel();
-        timer.scheduleRepeating(autoSlideDuration);
+        cancelAutoSlideTask();
+        autoSlideTask = AnimationClock.scheduleRepeating(autoSlideDuration, this::nextSlide);
+    }
+
+    private void cancelAutoSlideTask() {
+        if (nonNull(autoSlideTask) && autoSlideTask.isRunning()) {
+            autoSlideTask.cancel();
+        }
     }
 
     private void addDetachListener() {
@@ -99,7 +99,7 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel> {
         ElementUtil.onAttach(this.asElement(), mutationRecord -> {
             this.attached = true;
             if(autoSlide){
-                timer.scheduleRepeating(autoSlideDuration);
+                resetTimer();
             }
 
             addDetachListener();
@@ -226,16 +226,14 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel> {
         this.autoSlide = true;
         this.autoSlideDuration = slideDuration;
         if(attached){
-            timer.scheduleRepeating(slideDuration);
+            resetTimer();
         }
 
         return this;
     }
 
     public Carousel stopAutoSlide() {
-        if (timer.isRunning()) {
-            timer.cancel();
-        }
+        cancelAutoSlideTask();
 
         addAttachListener();
         return this;
@@ -1,10 +1,12 @@
 package org.dominokit.domino.ui.counter;
 
-import org.gwtproject.timer.client.Timer;
+import org.dominokit.domino.ui.animations.AnimationClock;
+
+import static java.util.Objects.nonNull;
 
 public class Counter {
 
-    private Timer timer;
+    private AnimationClock.Task task;
     private final int countFrom;
     private final int countTo;
     private final int interval;
@@ -18,26 +20,19 @@ public class Counter {
         this.interval = interval;
         this.increment = increment;
         this.countHandler=countHandler;
-
-        initTimer();
     }
 
     public static CanCountTo countFrom(int countFrom){
         return new CounterBuilder(countFrom);
     }
 
-    private void initTimer() {
-        timer = new Timer() {
-            @Override
-            public void run() {
-                if (currentValue < countTo) {
-                    currentValue += increment;
-                    notifyCount();
-                } else {
-                    cancel();
-                }
-            }
-        };
+    private void count() {
+        if (currentValue < countTo) {
+            currentValue += increment;
+            notifyCount();
+        } else {
+            task.cancel();
+        }
     }
 
     private void notifyCount() {
@@ -49,11 +44,11 @@ public class Counter {
     }
 
     public void startCounting() {
-        if (timer.isRunning())
-            timer.cancel();
+        if (nonNull(task) && task.isRunning())
+            task.cancel();
         this.currentValue = countFrom;
         countHandler.onCount(countFrom);
-        timer.scheduleRepeating(interval);
+        task = AnimationClock.scheduleRepeating(interval, this::count);
     }
 
     @FunctionalInterface
@@ -3,8 +3,10 @@ package org.dominokit.domino.ui.datatable;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.Node;
+import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.TextNode;
+import org.jboss.gwt.elemento.core.IsElement;
 
 import static java.util.Objects.nonNull;
 
@@ -61,11 +63,13 @@ public class ColumnConfig<T> {
 
     public ColumnConfig<T> minWidth(String minWidth) {
         this.minWidth = minWidth;
+        updateHeadElementStyle();
         return this;
     }
 
     public ColumnConfig<T> maxWidth(String maxWidth) {
         this.maxWidth = maxWidth;
+        updateHeadElementStyle();
         return this;
     }
 
@@ -80,6 +84,7 @@ public class ColumnConfig<T> {
 
     public ColumnConfig<T> textAlign(String textAlign) {
         this.textAlign = textAlign;
+        updateHeadElementStyle();
         return this;
     }
 
@@ -182,6 +187,21 @@ public class ColumnConfig<T> {
     }
 
 
+    void updateHeadElementStyle() {
+        if (nonNull(headElement)) {
+            Style<HTMLTableCellElement, IsElement<HTMLTableCellElement>> style = Style.of(headElement);
+            if (nonNull(minWidth)) {
+                style.setMinWidth(minWidth);
+            }
+            if (nonNull(maxWidth)) {
+                style.setMaxWidth(maxWidth);
+            }
+            if (nonNull(textAlign)) {
+                style.setTextAlign(textAlign);
+            }
+        }
+    }
+
     void applyHeaderStyle() {
         headerStyler.styleCell(headElement);
     }
@@ -1,8 +1,11 @@
 package org.dominokit.domino.ui.datatable;
 
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLTableElement;
+import elemental2.dom.HTMLTableRowElement;
 import elemental2.dom.HTMLTableSectionElement;
+import elemental2.dom.Node;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.datatable.events.TableEventListener;
@@ -17,6 +20,7 @@ import org.jboss.gwt.elemento.core.IsElement;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.*;
 
@@ -41,6 +45,18 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
     private Map<String, List<TableEventListener>> events = new HashMap<>();
 
+    private HTMLTableRowElement topSpacer;
+    private HTMLTableRowElement bottomSpacer;
+    private int firstRenderedPosition = 0;
+    private boolean virtualRenderScheduled = false;
+    private List<Integer> visibleIndices;
+    private SelectionModel selectionModel = new SelectionModel();
+    private int selectionBatchDepth = 0;
+    private boolean selectionChangePending = false;
+    private int filteredRowsCount = 0;
+    private List<TableRow<T>> recycledRows = new ArrayList<>();
+    private TableRow<T> filterRow;
+
     public DataTable(TableConfig<T> tableConfig, DataStore<T> dataStore) {
         this.tableConfig = tableConfig;
         this.events.put(ANY, new ArrayList<>());
@@ -82,9 +98,129 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
                     .setMaxHeight(tableConfig.getFixedBodyHeight());
         }
         super.init(this);
+        if (tableConfig.isVirtualScroll()) {
+            initVirtualScroll();
+        }
         return this;
     }
 
+    private void initVirtualScroll() {
+        topSpacer = createSpacer();
+        bottomSpacer = createSpacer();
+        tbody.appendChild(topSpacer);
+        tbody.appendChild(bottomSpacer);
+        tbody.addEventListener("scroll", evt -> scheduleVirtualRender());
+        onAttached(mutationRecord -> renderVirtualRows());
+    }
+
+    private HTMLTableRowElement createSpacer() {
+        return tr().css("data-table-spacer")
+                .add(td().attr("colspan", tableConfig.getColumns().size() + ""))
+                .asElement();
+    }
+
+    private void scheduleVirtualRender() {
+        if (!virtualRenderScheduled) {
+            virtualRenderScheduled = true;
+            DomGlobal.requestAnimationFrame(timestamp -> {
+                virtualRenderScheduled = false;
+                renderVirtualRows();
+            });
+        }
+    }
+
+    private void renderVirtualRows() {
+        int count = visibleCount();
+        int rowHeight = tableConfig.getVirtualRowHeight();
+        int overscan = tableConfig.getVirtualOverscan();
+        int last = Math.min(count, (int) Math.ceil((tbody.scrollTop + tbody.clientHeight) / rowHeight) + overscan);
+        int first = Math.min(last, Math.max(0, (int) (tbody.scrollTop / rowHeight) - overscan));
+
+        if (first >= firstRenderedPosition + tableRows.size() || last <= firstRenderedPosition) {
+            releaseAllRows();
+        }
+        while (!tableRows.isEmpty() && firstRenderedPosition < first) {
+            releaseRow(tableRows.remove(0));
+            firstRenderedPosition++;
+        }
+        while (!tableRows.isEmpty() && firstRenderedPosition + tableRows.size() > last) {
+            releaseRow(tableRows.remove(tableRows.size() - 1));
+        }
+        if (tableRows.isEmpty()) {
+            firstRenderedPosition = first;
+        }
+
+        for (int position = firstRenderedPosition - 1; position >= first; position--) {
+            tableRows.add(0, renderVirtualRow(position, tableRows.get(0).asElement()));
+        }
+        firstRenderedPosition = first;
+        for (int position = first + tableRows.size(); position < last; position++) {
+            tableRows.add(renderVirtualRow(position, bottomSpacer));
+        }
+
+        Style.of(topSpacer).setHeight((first * rowHeight) + "px");
+        Style.of(bottomSpacer).setHeight(((count - last) * rowHeight) + "px");
+    }
+
+    private TableRow<T> renderVirtualRow(int position, Node before) {
+        int index = nonNull(visibleIndices) ? visibleIndices.get(position) : position;
+        T record = data.get(index);
+        TableRow<T> tableRow;
+        if (recycledRows.isEmpty()) {
+            tableRow = new TableRow<>(record, index);
+            Style.of(tableRow.asElement()).setHeight(tableConfig.getVirtualRowHeight() + "px");
+            trackSelection(tableRow);
+            tableConfig.drawRecord(this, tableRow, before);
+        } else {
+            tableRow = recycledRows.remove(recycledRows.size() - 1);
+            tableRow.bind(record, index);
+            trackSelection(tableRow);
+            tbody.insertBefore(tableRow.asElement(), before);
+            tableRow.updateRow();
+        }
+        if (selectionModel.isSelected(index)) {
+            tableRow.select();
+        }
+        return tableRow;
+    }
+
+    private void trackSelection(TableRow<T> tableRow) {
+        tableRow.addSelectionHandler(selectable -> {
+            if (selectable.isSelected()) {
+                if (!tableConfig.isMultiSelect()) {
+                    selectionModel.deselectAll();
+                }
+                selectionModel.select(tableRow.getIndex());
+            } else {
+                selectionModel.deselect(tableRow.getIndex());
+            }
+        });
+    }
+
+    private void releaseRow(TableRow<T> tableRow) {
+        tableRow.asElement().remove();
+        recycledRows.add(tableRow);
+        tableConfig.getPlugins().forEach(plugin -> plugin.onRowRemoved(DataTable.this, tableRow));
+    }
+
+    private void releaseAllRows() {
+        tableRows.forEach(this::releaseRow);
+        tableRows.clear();
+    }
+
+    private int visibleCount() {
+        if (nonNull(visibleIndices)) {
+            return visibleIndices.size();
+        }
+        return nonNull(data) ? data.size() : 0;
+    }
+
+    private void resetVirtualRows() {
+        releaseAllRows();
+        tbody.scrollTop = 0.0;
+        renderVirtualRows();
+    }
+
 
     public void load() {
         this.dataStore.load();
@@ -92,9 +228,28 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
 
     public void setData(List<T> data) {
+        List<T> oldData = this.data;
         this.data = data;
+        if (tableConfig.isVirtualScroll()) {
+            visibleIndices = null;
+            if (tableConfig.isKeyed()) {
+                remapSelectedIndices(oldData);
+                releaseAllRows();
+                renderVirtualRows();
+            } else {
+                selectionModel.reset(dataSize());
+                resetVirtualRows();
+            }
+            return;
+        }
+        if (tableConfig.isKeyed() && !tableRows.isEmpty()) {
+            reconcileRows(nonNull(data) ? data : new ArrayList<>());
+            return;
+        }
         tableRows.clear();
         ElementUtil.clear(tbody);
+        selectionModel.reset(dataSize());
+        filteredRowsCount = 0;
         if (nonNull(data) && !data.isEmpty()) {
             addRows(data, 0);
         }
@@ -102,21 +257,151 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         tbody.scrollTop = 0.0;
     }
 
+    private void reconcileRows(List<T> data) {
+        Map<Object, TableRow<T>> rowsByKey = new HashMap<>();
+        tableRows.forEach(tableRow -> rowsByKey.put(tableConfig.getRecordKey(tableRow.getRecord()), tableRow));
+
+        List<TableRow<T>> newRows = new ArrayList<>(data.size());
+        Set<TableRow<T>> retainedRows = new HashSet<>();
+        for (T record : data) {
+            TableRow<T> tableRow = rowsByKey.get(tableConfig.getRecordKey(record));
+            if (nonNull(tableRow) && retainedRows.add(tableRow)) {
+                newRows.add(tableRow);
+            } else {
+                newRows.add(null);
+            }
+        }
+
+        boolean selectionChanged = false;
+        for (TableRow<T> tableRow : tableRows) {
+            if (!retainedRows.contains(tableRow)) {
+                selectionChanged = selectionChanged || tableRow.isSelected();
+                if (nonNull(tableRow.getFlag("data-table-row-filtered"))) {
+                    filteredRowsCount--;
+                }
+                tableRow.asElement().remove();
+                tableConfig.getPlugins().forEach(plugin -> plugin.onRowRemoved(DataTable.this, tableRow));
+            }
+        }
+
+        Set<Node> recordRows = new HashSet<>();
+        retainedRows.forEach(tableRow -> recordRows.add(tableRow.asElement()));
+        RowsCursor<Node> cursor = new RowsCursor<>(new RowsCursor.Nodes<Node>() {
+            @Override
+            public Node first() {
+                return tbody.firstChild;
+            }
+
+            @Override
+            public Node next(Node node) {
+                return node.nextSibling;
+            }
+
+            @Override
+            public void insertBefore(Node node, Node before) {
+                tbody.insertBefore(node, before);
+            }
+        }, recordRows);
+        for (int index = 0; index < data.size(); index++) {
+            TableRow<T> tableRow = newRows.get(index);
+            if (isNull(tableRow)) {
+                tableRow = new TableRow<>(data.get(index), index);
+                trackSelection(tableRow);
+                tableConfig.drawRecord(this, tableRow, cursor.insertionPoint());
+                newRows.set(index, tableRow);
+            } else {
+                cursor.place(tableRow.asElement());
+                boolean recordChanged = tableRow.update(data.get(index), index);
+                if (recordChanged) {
+                    trackSelection(tableRow);
+                }
+                tableRow.updateRow();
+                if (recordChanged) {
+                    tableRow.fireSelectionHandlers();
+                }
+            }
+        }
+
+        tableRows = newRows;
+        rebuildSelectionModel();
+        if (selectionChanged) {
+            onSelectionChange(null);
+        }
+    }
+
+    private void rebuildSelectionModel() {
+        boolean selectAllMode = selectionModel.isSelectAllMode();
+        selectionModel.reset(dataSize());
+        if (selectAllMode) {
+            selectionModel.selectAll();
+        }
+        tableRows.forEach(tableRow -> {
+            if (tableRow.isSelected()) {
+                selectionModel.select(tableRow.getIndex());
+            } else {
+                selectionModel.deselect(tableRow.getIndex());
+            }
+        });
+    }
+
+    private void remapSelectedIndices(List<T> oldData) {
+        boolean selectAllMode = selectionModel.isSelectAllMode();
+        if (!selectionModel.hasSelection() || isNull(oldData) || isNull(data)) {
+            selectionModel.reset(dataSize());
+            return;
+        }
+        Set<Object> exceptionKeys = new HashSet<>();
+        selectionModel.getExceptions().forEach(index -> exceptionKeys.add(tableConfig.getRecordKey(oldData.get(index))));
+        Set<Object> oldKeys = new HashSet<>();
+        if (selectAllMode) {
+            oldData.forEach(record -> oldKeys.add(tableConfig.getRecordKey(record)));
+        }
+        selectionModel.reset(data.size());
+        if (selectAllMode) {
+            selectionModel.selectAll();
+        }
+        for (int index = 0; index < data.size(); index++) {
+            Object key = tableConfig.getRecordKey(data.get(index));
+            if (!selectAllMode && exceptionKeys.contains(key)) {
+                selectionModel.select(index);
+            } else if (selectAllMode && (exceptionKeys.contains(key) || !oldKeys.contains(key))) {
+                selectionModel.deselect(index);
+            }
+        }
+    }
+
+    private int dataSize() {
+        return nonNull(data) ? data.size() : 0;
+    }
+
     public void appendData(List<T> newData) {
-        if (nonNull(this.data)) {
+        if (nonNull(this.data) && tableConfig.isVirtualScroll()) {
+            if (nonNull(visibleIndices)) {
+                for (int index = 0; index < newData.size(); index++) {
+                    visibleIndices.add(this.data.size() + index);
+                }
+            }
+            this.data.addAll(newData);
+            selectionModel.grow(this.data.size());
+            renderVirtualRows();
+        } else if (nonNull(this.data)) {
             addRows(newData, this.data.size());
             this.data.addAll(newData);
+            selectionModel.grow(this.data.size());
         } else {
             setData(newData);
         }
     }
 
     private void addRows(List<T> data, int initialIndex) {
+        List<TableRow<T>> addedRows = new ArrayList<>(data.size());
         for (int index = 0; index < data.size(); index++) {
             TableRow<T> tableRow = new TableRow<>(data.get(index), initialIndex + index);
-            tableConfig.drawRecord(DataTable.this, tableRow);
-            tableRows.add(tableRow);
+            trackSelection(tableRow);
+            addedRows.add(tableRow);
         }
+        tableConfig.drawRecords(DataTable.this, addedRows);
+        tableRows.addAll(addedRows);
     }
 
     public Collection<T> getData() {
@@ -207,7 +492,18 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         return bordered;
     }
 
+    /**
+     * In virtual scroll mode the rows of the filtered out records do not exist, the filter is then called with a
+     * single shared row bound to each record in turn, which has no cells, use {@link #filterRecords(LocalRecordFilter)}
+     * to filter by the records only.
+     */
     public void filterRows(LocalRowFilter<T> rowFilter) {
+        if (tableConfig.isVirtualScroll()) {
+            filterVirtualRows(rowFilter);
+            return;
+        }
+        filteredRowsCount = 0;
+        beginSelectionUpdate();
         tableRows.forEach(tableRow -> {
             if (rowFilter.filter(tableRow)) {
                 Style.of(tableRow.asElement()).removeProperty("display");
@@ -216,13 +512,61 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
             } else {
                 Style.of(tableRow.asElement()).setDisplay("none");
                 tableRow.setFlag("data-table-row-filtered", "true");
-                tableRow.deselect();
+                if (tableRow.isSelected()) {
+                    tableRow.deselect();
+                    onSelectionChange(tableRow);
+                }
                 tableRow.fireUpdate();
+                filteredRowsCount++;
             }
         });
+        endSelectionUpdate();
+    }
+
+    private void filterVirtualRows(LocalRowFilter<T> rowFilter) {
+        if (isNull(filterRow)) {
+            filterRow = new TableRow<>(null, -1);
+        }
+        int[] index = {0};
+        filterVirtualRecords(record -> {
+            filterRow.bind(record, index[0]++);
+            return rowFilter.filter(filterRow);
+        });
+    }
+
+    public void filterRecords(LocalRecordFilter<T> recordFilter) {
+        if (tableConfig.isVirtualScroll()) {
+            filterVirtualRecords(recordFilter);
+        } else {
+            filterRows(tableRow -> recordFilter.filter(tableRow.getRecord()));
+        }
+    }
+
+    private void filterVirtualRecords(LocalRecordFilter<T> recordFilter) {
+        List<Integer> indices = new ArrayList<>();
+        beginSelectionUpdate();
+        for (int index = 0; index < data.size(); index++) {
+            if (recordFilter.filter(data.get(index))) {
+                indices.add(index);
+            } else if (selectionModel.isSelected(index)) {
+                selectionModel.deselect(index);
+                onSelectionChange(null);
+            }
+        }
+        visibleIndices = indices;
+        resetVirtualRows();
+        endSelectionUpdate();
     }
 
     public void clearRowFilters() {
+        if (tableConfig.isVirtualScroll()) {
+            if (nonNull(visibleIndices)) {
+                visibleIndices = null;
+                resetVirtualRows();
+            }
+            return;
+        }
+        filteredRowsCount = 0;
         tableRows.stream().filter(tableRow -> nonNull(tableRow.getFlag("data-table-row-filtered")))
                 .forEach(tableRow -> {
                     Style.of(tableRow.asElement()).removeProperty("display");
@@ -238,11 +582,33 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
     @Override
     public List<TableRow<T>> getSelectedItems() {
-        return tableRows.stream().filter(TableRow::isSelected).collect(Collectors.toList());
+        if (tableConfig.isVirtualScroll()) {
+            return tableRows.stream().filter(TableRow::isSelected).collect(Collectors.toList());
+        }
+        return selectionModel.getSelectedIndices().stream()
+                .filter(index -> index < tableRows.size())
+                .map(tableRows::get)
+                .collect(Collectors.toList());
     }
 
     public List<T> getSelectedRecords() {
-        return getSelectedItems().stream().map(TableRow::getRecord).collect(Collectors.toList());
+        return selectionModel.getSelectedIndices().stream().map(data::get).collect(Collectors.toList());
+    }
+
+    public SelectionModel getSelectionModel() {
+        return selectionModel;
+    }
+
+    public int getSelectableCount() {
+        if (tableConfig.isVirtualScroll()) {
+            return visibleCount();
+        }
+        return tableRows.size() - filteredRowsCount;
+    }
+
+    public boolean isAllSelected() {
+        int selectableCount = getSelectableCount();
+        return selectableCount > 0 && selectionModel.getSelectedCount() == selectableCount;
     }
 
     @Override
@@ -252,23 +618,113 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
     @Override
     public void onSelectionChange(TableRow<T> source) {
-        selectionChangeListeners.forEach(selectionChangeListener -> selectionChangeListener.onSelectionChanged(getSelectedItems(), getSelectedRecords()));
+        if (selectionBatchDepth > 0) {
+            selectionChangePending = true;
+            return;
+        }
+        selectionChangePending = false;
+        if (selectionChangeListeners.isEmpty()) {
+            return;
+        }
+        List<TableRow<T>> selectedItems = getSelectedItems();
+        List<T> selectedRecords = getSelectedRecords();
+        new ArrayList<>(selectionChangeListeners).forEach(selectionChangeListener -> selectionChangeListener.onSelectionChanged(selectedItems, selectedRecords));
+    }
+
+    private void beginSelectionUpdate() {
+        selectionBatchDepth++;
+    }
+
+    private void endSelectionUpdate() {
+        selectionBatchDepth--;
+        if (selectionBatchDepth == 0 && selectionChangePending) {
+            onSelectionChange(null);
+        }
+    }
+
+    public void selectRows(Collection<Integer> indices) {
+        updateRowsSelection(indices, true);
+    }
+
+    public void deselectRows(Collection<Integer> indices) {
+        updateRowsSelection(indices, false);
+    }
+
+    private void updateRowsSelection(Collection<Integer> indices, boolean select) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        Collection<Integer> targetIndices = select && !tableConfig.isMultiSelect() ? Collections.singletonList(new ArrayList<>(indices).get(indices.size() - 1)) : indices;
+        Map<Integer, TableRow<T>> renderedRows = new HashMap<>();
+        tableRows.forEach(tableRow -> renderedRows.put(tableRow.getIndex(), tableRow));
+        beginSelectionUpdate();
+        for (Integer index : targetIndices) {
+            if (index < 0 || index >= dataSize() || selectionModel.isSelected(index) == select) {
+                continue;
+            }
+            TableRow<T> tableRow = renderedRows.get(index);
+            if (nonNull(tableRow)) {
+                if (select) {
+                    tableRow.select();
+                } else {
+                    tableRow.deselect();
+                }
+            } else if (select) {
+                if (!tableConfig.isMultiSelect()) {
+                    tableRows.stream().filter(TableRow::isSelected).forEach(TableRow::deselect);
+                    selectionModel.deselectAll();
+                }
+                selectionModel.select(index);
+            } else {
+                selectionModel.deselect(index);
+            }
+            onSelectionChange(tableRow);
+        }
+        endSelectionUpdate();
     }
 
     @Override
     public void selectAll() {
-        if (tableConfig.isMultiSelect() && !tableRows.isEmpty()) {
-            tableRows.forEach(TableRow::select);
-            onSelectionChange(tableRows.get(0));
+        if (!tableConfig.isMultiSelect() || getSelectableCount() == 0) {
+            return;
+        }
+        beginSelectionUpdate();
+        selectionModel.selectAll();
+        if (tableConfig.isVirtualScroll()) {
+            if (nonNull(visibleIndices)) {
+                int position = 0;
+                for (int index = 0; index < data.size(); index++) {
+                    if (position < visibleIndices.size() && visibleIndices.get(position) == index) {
+                        position++;
+                    } else {
+                        selectionModel.deselect(index);
+                    }
+                }
+            }
+            tableRows.stream().filter(tableRow -> !tableRow.isSelected()).forEach(TableRow::select);
+        } else {
+            tableRows.forEach(tableRow -> {
+                if (nonNull(tableRow.getFlag("data-table-row-filtered"))) {
+                    selectionModel.deselect(tableRow.getIndex());
+                } else if (!tableRow.isSelected()) {
+                    tableRow.select();
+                }
+            });
         }
+        onSelectionChange(null);
+        endSelectionUpdate();
     }
 
     @Override
     public void deselectAll() {
-        if (!tableRows.isEmpty()) {
-            tableRows.stream().filter(TableRow::isSelected).forEach(TableRow::deselect);
-            onSelectionChange(tableRows.get(0));
+        if (!selectionModel.hasSelection()) {
+            return;
         }
+        beginSelectionUpdate();
+        tableRows.stream().filter(TableRow::isSelected).forEach(TableRow::deselect);
+        selectionModel.deselectAll();
+        onSelectionChange(null);
+        endSelectionUpdate();
     }
 
     @Override
@@ -314,4 +770,9 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         boolean filter(TableRow<T> tableRow);
     }
 
+    @FunctionalInterface
+    public interface LocalRecordFilter<T> {
+        boolean filter(T record);
+    }
+
 }
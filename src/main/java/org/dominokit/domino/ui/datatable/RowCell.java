@@ -1,11 +1,6 @@
 package org.dominokit.domino.ui.datatable;
 
-import elemental2.dom.HTMLTableCellElement;
-import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.ElementUtil;
-import org.jboss.gwt.elemento.core.IsElement;
-
-import static java.util.Objects.nonNull;
 
 public class RowCell<T> {
 
@@ -22,24 +17,13 @@ public class RowCell<T> {
         return columnConfig;
     }
 
+    void reset() {
+        cellInfo.getElement().className = "";
+        columnConfig.applyCellStyle(cellInfo.getElement());
+    }
+
     public void updateCell() {
         ElementUtil.clear(cellInfo.getElement());
-        Style<HTMLTableCellElement, IsElement<HTMLTableCellElement>> style = Style.of(cellInfo.getElement());
-        if (nonNull(columnConfig.getMinWidth())) {
-            style.setMinWidth(columnConfig.getMinWidth());
-            columnConfig.getHeadElement().style().setMinWidth(columnConfig.getMinWidth());
-        }
-
-        if (nonNull(columnConfig.getMaxWidth())) {
-            style.setMaxWidth(columnConfig.getMaxWidth());
-            columnConfig.getHeadElement().style().setMaxWidth(columnConfig.getMaxWidth());
-        }
-
-        if (nonNull(columnConfig.getTextAlign())) {
-            style.setTextAlign(columnConfig.getTextAlign());
-            columnConfig.getHeadElement().style().setTextAlign(columnConfig.getTextAlign());
-        }
-
         cellInfo.getElement().appendChild(columnConfig.getCellRenderer().asElement(cellInfo));
     }
 }
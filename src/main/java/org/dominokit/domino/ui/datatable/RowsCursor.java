@@ -0,0 +1,64 @@
+package org.dominokit.domino.ui.datatable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Walks the body rows while they are put in the order of the data, the rows that are not record rows, e.g the details
+ * row of {@link org.dominokit.domino.ui.datatable.plugins.RecordDetailsPlugin}, are skipped and moved together with
+ * the record row they follow.
+ */
+final class RowsCursor<N> {
+
+    private final Nodes<N> nodes;
+    private final Set<N> recordRows;
+    private N cursor;
+
+    RowsCursor(Nodes<N> nodes, Set<N> recordRows) {
+        this.nodes = nodes;
+        this.recordRows = recordRows;
+        this.cursor = skipOtherRows(nodes.first());
+    }
+
+    /**
+     * The row a new record row should be inserted before, null to append it.
+     */
+    N insertionPoint() {
+        return cursor;
+    }
+
+    /**
+     * Places the record row at the cursor together with the rows that follow it.
+     */
+    void place(N row) {
+        if (row == cursor) {
+            cursor = skipOtherRows(nodes.next(row));
+            return;
+        }
+        List<N> followingRows = new ArrayList<>();
+        for (N node = nodes.next(row); nonNull(node) && !recordRows.contains(node); node = nodes.next(node)) {
+            followingRows.add(node);
+        }
+        nodes.insertBefore(row, cursor);
+        followingRows.forEach(node -> nodes.insertBefore(node, cursor));
+    }
+
+    private N skipOtherRows(N node) {
+        N current = node;
+        while (nonNull(current) && !recordRows.contains(current)) {
+            current = nodes.next(current);
+        }
+        return current;
+    }
+
+    interface Nodes<N> {
+        N first();
+
+        N next(N node);
+
+        void insertBefore(N node, N before);
+    }
+}
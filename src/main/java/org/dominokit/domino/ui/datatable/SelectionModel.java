@@ -0,0 +1,89 @@
+package org.dominokit.domino.ui.datatable;
+
+import java.util.*;
+
+public class SelectionModel {
+
+    private boolean selectAllMode = false;
+    private Set<Integer> exceptions = new HashSet<>();
+    private int size = 0;
+
+    public boolean isSelected(int index) {
+        return selectAllMode != exceptions.contains(index);
+    }
+
+    public int getSelectedCount() {
+        return selectAllMode ? size - exceptions.size() : exceptions.size();
+    }
+
+    public boolean hasSelection() {
+        return getSelectedCount() > 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isSelectAllMode() {
+        return selectAllMode;
+    }
+
+    public Set<Integer> getExceptions() {
+        return Collections.unmodifiableSet(exceptions);
+    }
+
+    public List<Integer> getSelectedIndices() {
+        List<Integer> selectedIndices = new ArrayList<>(getSelectedCount());
+        if (selectAllMode) {
+            for (int index = 0; index < size; index++) {
+                if (!exceptions.contains(index)) {
+                    selectedIndices.add(index);
+                }
+            }
+        } else {
+            selectedIndices.addAll(exceptions);
+            Collections.sort(selectedIndices);
+        }
+        return selectedIndices;
+    }
+
+    void select(int index) {
+        if (selectAllMode) {
+            exceptions.remove(index);
+        } else {
+            exceptions.add(index);
+        }
+    }
+
+    void deselect(int index) {
+        if (selectAllMode) {
+            exceptions.add(index);
+        } else {
+            exceptions.remove(index);
+        }
+    }
+
+    void selectAll() {
+        this.selectAllMode = true;
+        this.exceptions.clear();
+    }
+
+    void deselectAll() {
+        this.selectAllMode = false;
+        this.exceptions.clear();
+    }
+
+    void reset(int size) {
+        this.size = size;
+        deselectAll();
+    }
+
+    void grow(int size) {
+        if (selectAllMode) {
+            for (int index = this.size; index < size; index++) {
+                exceptions.add(index);
+            }
+        }
+        this.size = size;
+    }
+}
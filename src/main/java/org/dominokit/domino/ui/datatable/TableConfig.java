@@ -2,11 +2,12 @@ package org.dominokit.domino.ui.datatable;
 
 import elemental2.dom.*;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
-import org.dominokit.domino.ui.popover.Tooltip;
+import org.dominokit.domino.ui.popover.DelegatedTooltip;
 import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.HasMultiSelectionSupport;
 import org.jboss.gwt.elemento.core.builder.HtmlContentBuilder;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -23,6 +24,10 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
     private String fixedBodyHeight = "400px";
     private boolean lazyLoad = true;
     private boolean multiSelect = true;
+    private boolean virtualScroll = false;
+    private int virtualRowHeight = 37;
+    private int virtualOverscan = 10;
+    private RecordKeyProvider<T> recordKeyProvider;
 
     public void drawHeaders(DataTable<T> dataTable, HTMLTableSectionElement thead) {
         this.dataTable = dataTable;
@@ -41,8 +46,9 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
             if (dataTable.getTableConfig().isFixed() || columnConfig.isFixed()) {
                 fixElementWidth(columnConfig, th.asElement());
             }
+            columnConfig.updateHeadElementStyle();
 
-            Tooltip.create(th.asElement(), columnConfig.getTooltipNode());
+            DelegatedTooltip.set(th.asElement(), columnConfig::getTooltipNode);
             columnConfig.applyHeaderStyle();
 
             plugins.forEach(plugin -> plugin.onHeaderAdded(dataTable, columnConfig));
@@ -64,7 +70,34 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
     }
 
     public void drawRecord(DataTable<T> dataTable, TableRow<T> tableRow) {
-        columns.forEach(columnConfig -> {
+        drawCells(tableRow, cellStyles());
+        dataTable.bodyElement().appendChild(tableRow.asElement());
+
+        plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
+    }
+
+    void drawRecord(DataTable<T> dataTable, TableRow<T> tableRow, Node before) {
+        dataTable.bodyElement().insertBefore(tableRow.asElement(), before);
+        drawCells(tableRow, cellStyles());
+
+        plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
+    }
+
+    void drawRecords(DataTable<T> dataTable, List<TableRow<T>> tableRows) {
+        List<String> cellStyles = cellStyles();
+        DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+        tableRows.forEach(tableRow -> {
+            drawCells(tableRow, cellStyles);
+            fragment.appendChild(tableRow.asElement());
+        });
+        dataTable.bodyElement().appendChild(fragment);
+
+        tableRows.forEach(tableRow -> plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow)));
+    }
+
+    private void drawCells(TableRow<T> tableRow, List<String> cellStyles) {
+        for (int index = 0; index < columns.size(); index++) {
+            ColumnConfig<T> columnConfig = columns.get(index);
 
             HTMLTableCellElement cellElement;
             if (columnConfig.isHeader()) {
@@ -73,8 +106,9 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
                 cellElement = td().asElement();
             }
 
-            if (dataTable.getTableConfig().isFixed() || columnConfig.isFixed()) {
-                fixElementWidth(columnConfig, cellElement);
+            String cellStyle = cellStyles.get(index);
+            if (!cellStyle.isEmpty()) {
+                cellElement.style.cssText = cellStyle;
             }
 
             RowCell<T> rowCell = new RowCell<>(new CellRenderer.CellInfo<>(tableRow, cellElement), columnConfig);
@@ -83,10 +117,34 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
 
             tableRow.asElement().appendChild(cellElement);
             columnConfig.applyCellStyle(cellElement);
-        });
-        dataTable.bodyElement().appendChild(tableRow.asElement());
+        }
+    }
 
-        plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
+    private List<String> cellStyles() {
+        List<String> cellStyles = new ArrayList<>(columns.size());
+        columns.forEach(columnConfig -> cellStyles.add(cellStyle(columnConfig)));
+        return cellStyles;
+    }
+
+    private String cellStyle(ColumnConfig<T> columnConfig) {
+        StringBuilder cellStyle = new StringBuilder();
+        if (isFixed() || columnConfig.isFixed()) {
+            String fixedWidth = bestFitWidth(columnConfig);
+            cellStyle.append("width: ").append(fixedWidth).append("; ")
+                    .append("min-width: ").append(fixedWidth).append("; ")
+                    .append("max-width: ").append(fixedWidth).append("; ")
+                    .append("overflow: hidden; text-overflow: ellipsis; white-space: nowrap; ");
+        }
+        if (nonNull(columnConfig.getMinWidth())) {
+            cellStyle.append("min-width: ").append(columnConfig.getMinWidth()).append("; ");
+        }
+        if (nonNull(columnConfig.getMaxWidth())) {
+            cellStyle.append("max-width: ").append(columnConfig.getMaxWidth()).append("; ");
+        }
+        if (nonNull(columnConfig.getTextAlign())) {
+            cellStyle.append("text-align: ").append(columnConfig.getTextAlign()).append("; ");
+        }
+        return cellStyle.toString().trim();
     }
 
 
@@ -128,6 +186,57 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
         return this;
     }
 
+    public boolean isVirtualScroll() {
+        return virtualScroll;
+    }
+
+    public TableConfig<T> setVirtualScroll(boolean virtualScroll) {
+        this.virtualScroll = virtualScroll;
+        if (virtualScroll) {
+            this.fixed = true;
+        }
+        return this;
+    }
+
+    public int getVirtualRowHeight() {
+        return virtualRowHeight;
+    }
+
+    public TableConfig<T> setVirtualRowHeight(int virtualRowHeight) {
+        this.virtualRowHeight = virtualRowHeight;
+        return this;
+    }
+
+    public int getVirtualOverscan() {
+        return virtualOverscan;
+    }
+
+    public TableConfig<T> setVirtualOverscan(int virtualOverscan) {
+        this.virtualOverscan = virtualOverscan;
+        return this;
+    }
+
+    public RecordKeyProvider<T> getRecordKeyProvider() {
+        return recordKeyProvider;
+    }
+
+    /**
+     * With a key provider the rows of the records whose key is still in the data are kept when the data is set again,
+     * their cells are rendered again from the new records, including records that were changed in place.
+     */
+    public TableConfig<T> setRecordKeyProvider(RecordKeyProvider<T> recordKeyProvider) {
+        this.recordKeyProvider = recordKeyProvider;
+        return this;
+    }
+
+    public boolean isKeyed() {
+        return nonNull(recordKeyProvider);
+    }
+
+    public Object getRecordKey(T record) {
+        return isKeyed() ? recordKeyProvider.getKey(record) : record;
+    }
+
     public String getFixedBodyHeight() {
         return fixedBodyHeight;
     }
@@ -183,4 +292,9 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
     public DataTable<T> getDataTable() {
         return dataTable;
     }
+
+    @FunctionalInterface
+    public interface RecordKeyProvider<T> {
+        Object getKey(T record);
+    }
 }
@@ -14,7 +14,7 @@ import static org.jboss.gwt.elemento.core.Elements.tr;
 public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement,TableRow<T> > implements Selectable<T> {
     private T record;
     private boolean selected = false;
-    private final int index;
+    private int index;
     private final Map<String, RowCell<T>> rowCells = new HashMap<>();
 
     private Map<String, String> flags = new HashMap<>();
@@ -126,6 +126,39 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement,TableRow<
         return index;
     }
 
+    void bind(T record, int index) {
+        this.selected = false;
+        this.flags.clear();
+        this.element.className = "";
+        resetCells(record, index);
+    }
+
+    /**
+     * Returns true if the row is bound to a different record, its selection handlers and meta objects are then reset.
+     */
+    boolean update(T record, int index) {
+        this.index = index;
+        if (this.record != record) {
+            resetCells(record, index);
+            return true;
+        }
+        return false;
+    }
+
+    private void resetCells(T record, int index) {
+        this.record = record;
+        this.index = index;
+        this.selectionHandlers.clear();
+        this.metaObjects.clear();
+        rowCells.values().forEach(RowCell::reset);
+    }
+
+    void fireSelectionHandlers() {
+        if (selected) {
+            selectionHandlers.forEach(selectionHandler -> selectionHandler.onSelectionChanged(TableRow.this));
+        }
+    }
+
     public void updateRow() {
         rowCells.values().forEach(RowCell::updateCell);
     }
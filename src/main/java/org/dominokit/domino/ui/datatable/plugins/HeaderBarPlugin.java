@@ -12,7 +12,7 @@ import org.dominokit.domino.ui.grid.Column;
 import org.dominokit.domino.ui.grid.Row;
 import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.Icons;
-import org.dominokit.domino.ui.popover.Tooltip;
+import org.dominokit.domino.ui.popover.DelegatedTooltip;
 import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.style.Styles;
 import org.dominokit.domino.ui.utils.ElementUtil;
@@ -80,17 +80,17 @@ public class HeaderBarPlugin<T> implements DataTablePlugin<T> {
                     .add(Styles.pull_right, Styles.m_r_15)
                     .get();
 
-            Tooltip tooltip = Tooltip.create(condenseButton, DomGlobal.document.createTextNode("Condense"));
+            DelegatedTooltip.set(condenseButton.asElement(), "Condense");
 
             condenseButton.addClickListener(evt -> {
                 if (dataTable.isCondensed()) {
                     dataTable.expand();
                     condenseButton.setIcon(Icons.ALL.line_weight());
-                    tooltip.setContent(DomGlobal.document.createTextNode("Condense"));
+                    DelegatedTooltip.set(condenseButton.asElement(), "Condense");
                 } else {
                     dataTable.condense();
                     condenseButton.setIcon(Icons.ALL.format_line_spacing());
-                    tooltip.setContent(DomGlobal.document.createTextNode("Expand"));
+                    DelegatedTooltip.set(condenseButton.asElement(), "Expand");
                 }
             });
 
@@ -109,16 +109,16 @@ public class HeaderBarPlugin<T> implements DataTablePlugin<T> {
                     .setColor("black", true)
                     .add(Styles.pull_right, Styles.m_r_15)
                     .get();
-            Tooltip tooltip = Tooltip.create(strippedButton.asElement(), DomGlobal.document.createTextNode("No Stripes"));
+            DelegatedTooltip.set(strippedButton.asElement(), "No Stripes");
             strippedButton.addClickListener(evt -> {
                 if (dataTable.isStriped()) {
                     dataTable.noStripes();
                     strippedButton.setIcon(Icons.ALL.drag_handle());
-                    tooltip.setContent(DomGlobal.document.createTextNode("Stripped"));
+                    DelegatedTooltip.set(strippedButton.asElement(), "Stripped");
                 } else {
                     dataTable.striped();
                     strippedButton.setIcon(Icons.ALL.power_input());
-                    tooltip.setContent(DomGlobal.document.createTextNode("No Stripes"));
+                    DelegatedTooltip.set(strippedButton.asElement(), "No Stripes");
                 }
             });
 
@@ -137,17 +137,17 @@ public class HeaderBarPlugin<T> implements DataTablePlugin<T> {
                     .setColor("black", true)
                     .add(Styles.pull_right, Styles.m_r_15)
                     .get();
-            Tooltip tooltip = Tooltip.create(borderedButton.asElement(), DomGlobal.document.createTextNode("Bordered"));
+            DelegatedTooltip.set(borderedButton.asElement(), "Bordered");
 
             borderedButton.addClickListener(evt -> {
                 if (dataTable.isBordered()) {
                     dataTable.noBorder();
                     borderedButton.setIcon(Icons.ALL.border_vertical());
-                    tooltip.setContent(DomGlobal.document.createTextNode("Bordered"));
+                    DelegatedTooltip.set(borderedButton.asElement(), "Bordered");
                 } else {
                     dataTable.bordered();
                     borderedButton.setIcon(Icons.ALL.border_clear());
-                    tooltip.setContent(DomGlobal.document.createTextNode("No Borders"));
+                    DelegatedTooltip.set(borderedButton.asElement(), "No Borders");
                 }
             });
 
@@ -166,16 +166,16 @@ public class HeaderBarPlugin<T> implements DataTablePlugin<T> {
                     .setColor("black", true)
                     .add(Styles.pull_right, Styles.m_r_15)
                     .get();
-            Tooltip tooltip = Tooltip.create(hoverButton.asElement(), DomGlobal.document.createTextNode("No Hover"));
+            DelegatedTooltip.set(hoverButton.asElement(), "No Hover");
             hoverButton.addClickListener(evt -> {
                 if (dataTable.isHoverable()) {
                     dataTable.noHover();
                     hoverButton.setIcon(Icons.ALL.blur_on());
-                    tooltip.setContent(DomGlobal.document.createTextNode("Hover"));
+                    DelegatedTooltip.set(hoverButton.asElement(), "Hover");
                 } else {
                     dataTable.hovered();
                     hoverButton.setIcon(Icons.ALL.blur_off());
-                    tooltip.setContent(DomGlobal.document.createTextNode("No Hover"));
+                    DelegatedTooltip.set(hoverButton.asElement(), "No Hover");
                 }
             });
 
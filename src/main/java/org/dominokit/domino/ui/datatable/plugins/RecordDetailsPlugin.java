@@ -7,12 +7,16 @@ import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.ExpandRecordEvent;
+import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.utils.ElementUtil;
 import org.jboss.gwt.elemento.core.IsElement;
 
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.*;
 
@@ -28,6 +32,8 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     private final CellRenderer<T> cellRenderer;
     private DetailsButtonElement buttonElement;
     private DataTable<T> dataTable;
+    private int expandedIndex = -1;
+    private T expandedRecord;
 
 
     public RecordDetailsPlugin(CellRenderer<T> cellRenderer) {
@@ -52,6 +58,9 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
                     DetailsButtonElement<T> detailsButtonElement = new DetailsButtonElement<>(expandIcon, collapseIcon, RecordDetailsPlugin.this, cell);
                     cell.getTableRow().addMetaObject(detailsButtonElement);
                     applyStyles(cell);
+                    if (isExpandedRow(cell.getTableRow())) {
+                        reattach(detailsButtonElement);
+                    }
                     return detailsButtonElement.asElement();
                 })
                 .setHeaderElement(columnTitle -> Button.create(expandIcon.copy())
@@ -72,7 +81,77 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     public void handleEvent(TableEvent event) {
         if (ExpandRecordEvent.EXPAND_RECORD.equals(event.getType())) {
             expandRow((ExpandRecordEvent<T>) event);
+        } else if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType())) {
+            onDataUpdated();
+        }
+    }
+
+    private void onDataUpdated() {
+        if (isNull(buttonElement)) {
+            return;
+        }
+        expandedIndex = indexOfExpandedRecord();
+        if (expandedIndex < 0) {
+            clear();
+            return;
+        }
+        for (TableRow<T> tableRow : dataTable.getItems()) {
+            if (tableRow.getIndex() == expandedIndex && tableRow.asElement().parentNode == dataTable.bodyElement().asElement()) {
+                DetailsButtonElement<T> detailsButtonElement = tableRow.getMetaObject(RECORD_DETAILS_BUTTON);
+                if (nonNull(detailsButtonElement)) {
+                    expandedRecord = tableRow.getRecord();
+                    reattach(detailsButtonElement);
+                    return;
+                }
+            }
+        }
+        tr.remove();
+    }
+
+    private int indexOfExpandedRecord() {
+        if (isNull(dataTable.getData())) {
+            return -1;
+        }
+        int index = 0;
+        for (T record : dataTable.getData()) {
+            if (isSameRecord(record, expandedRecord)) {
+                return index;
+            }
+            index++;
         }
+        return -1;
+    }
+
+    private boolean isSameRecord(T record, T other) {
+        if (dataTable.getTableConfig().isKeyed()) {
+            return Objects.equals(dataTable.getTableConfig().getRecordKey(record), dataTable.getTableConfig().getRecordKey(other));
+        }
+        return record == other;
+    }
+
+    @Override
+    public void onRowRemoved(DataTable<T> dataTable, TableRow<T> tableRow) {
+        if (nonNull(buttonElement) && buttonElement.getCellInfo().getTableRow() == tableRow) {
+            tr.remove();
+        }
+    }
+
+    private boolean isExpandedRow(TableRow<T> tableRow) {
+        if (isNull(buttonElement) || tableRow.asElement().parentNode != dataTable.bodyElement().asElement()) {
+            return false;
+        }
+        if (buttonElement.getCellInfo().getTableRow() == tableRow && nonNull(tr.parentNode)) {
+            return true;
+        }
+        return tableRow.getIndex() == expandedIndex && isSameRecord(tableRow.getRecord(), expandedRecord);
+    }
+
+    private void reattach(DetailsButtonElement<T> detailsButtonElement) {
+        detailsButtonElement.button.setIcon(collapseIcon.copy());
+        detailsButtonElement.expanded = true;
+        this.buttonElement = detailsButtonElement;
+        HTMLTableRowElement rowElement = detailsButtonElement.getCellInfo().getTableRow().asElement();
+        dataTable.bodyElement().asElement().insertBefore(tr, rowElement.nextSibling);
     }
 
     private void expandRow(ExpandRecordEvent<T> event) {
@@ -158,6 +237,8 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
         tr.remove();
         ElementUtil.clear(element);
         this.buttonElement = null;
+        this.expandedIndex = -1;
+        this.expandedRecord = null;
     }
 
     private void setExpanded(DetailsButtonElement buttonElement) {
@@ -166,6 +247,8 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
             clear();
         }
         this.buttonElement = buttonElement;
+        this.expandedIndex = buttonElement.getCellInfo().getTableRow().getIndex();
+        this.expandedRecord = (T) buttonElement.getCellInfo().getRecord();
         ElementUtil.contentBuilder(td).attr("colspan", dataTable.getTableConfig().getColumns().size() + "");
         element.appendChild(cellRenderer.asElement(buttonElement.getCellInfo()));
         dataTable.bodyElement().asElement().insertBefore(tr, buttonElement.getCellInfo().getTableRow().asElement().nextSibling);
@@ -63,19 +63,25 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
                 }).asHeader());
     }
 
+    @Override
+    public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
+        if (!dataTable.getTableConfig().isMultiSelect()) {
+            tableRow.asElement().addEventListener("click", evt -> {
+                tableRow.select();
+                dataTable.onSelectionChange(tableRow);
+            });
+        }
+    }
+
     private Node createSingleSelectHeader() {
         return singleSelectIndicator.cloneNode(true);
     }
 
     private Node createSingleSelectCell(DataTable<T> dataTable, CellRenderer.CellInfo<T> cell) {
         HTMLElement clonedIndicator = Js.uncheckedCast(singleSelectIndicator.cloneNode(true));
-        cell.getTableRow().asElement().addEventListener("click", evt -> {
-            cell.getTableRow().select();
-            dataTable.onSelectionChange(cell.getTableRow());
-        });
         cell.getTableRow().addSelectionHandler(selectable -> {
             if (selectable.isSelected()) {
-                if (nonNull(selectedRow)) {
+                if (nonNull(selectedRow) && selectedRow != selectable) {
                     selectedRow.deselect();
                 }
                 Style.of(clonedIndicator).setDisplay("inline-block");
@@ -140,10 +146,10 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
         });
 
         dataTable.addSelectionListener((selectedRows, selectedRecords) -> {
-            if (selectedRows.size() != dataTable.getItems().size()) {
-                checkBox.uncheck(true);
-            } else {
+            if (dataTable.isAllSelected()) {
                 checkBox.check(true);
+            } else {
+                checkBox.uncheck(true);
             }
         });
         return checkBox.asElement();
@@ -0,0 +1,70 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+
+import java.util.Objects;
+
+public class LoadRequest {
+
+    private final String searchText;
+    private final String searchField;
+    private final String sortBy;
+    private final SortDirection sortDirection;
+    private final int page;
+    private final int pageSize;
+
+    public LoadRequest(String searchText, String searchField, String sortBy, SortDirection sortDirection, int page, int pageSize) {
+        this.searchText = searchText;
+        this.searchField = searchField;
+        this.sortBy = sortBy;
+        this.sortDirection = sortDirection;
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public String getSearchField() {
+        return searchField;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public SortDirection getSortDirection() {
+        return sortDirection;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getOffset() {
+        return pageSize > 0 ? (page - 1) * pageSize : 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LoadRequest that = (LoadRequest) o;
+        return page == that.page &&
+                pageSize == that.pageSize &&
+                Objects.equals(searchText, that.searchText) &&
+                Objects.equals(searchField, that.searchField) &&
+                Objects.equals(sortBy, that.sortBy) &&
+                sortDirection == that.sortDirection;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(searchText, searchField, sortBy, sortDirection, page, pageSize);
+    }
+}
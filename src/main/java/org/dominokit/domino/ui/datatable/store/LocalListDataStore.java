@@ -3,13 +3,13 @@ package org.dominokit.domino.ui.datatable.store;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
 import org.dominokit.domino.ui.pagination.HasPagination;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
 import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
@@ -25,6 +25,10 @@ public class LocalListDataStore<T> implements DataStore<T> {
     private SearchFilter<T> searchFilter;
     private RecordsSorter<T> recordsSorter;
     private SortEvent<T> lastSort;
+    private Comparator<T> lastComparator;
+    private SearchEvent lastSearch;
+    private boolean incrementalSearch = false;
+    private Map<String, List<T>> sortedRecords = new HashMap<>();
 
     public LocalListDataStore() {
         this.original = new ArrayList<>();
@@ -41,6 +45,11 @@ public class LocalListDataStore<T> implements DataStore<T> {
         this.original.addAll(data);
         this.filtered.clear();
         this.filtered.addAll(original);
+        this.lastSearch = null;
+        clearSortedRecords();
+        if (nonNull(lastSort)) {
+            sort(lastSort);
+        }
     }
 
     public SearchFilter<T> getSearchFilter() {
@@ -70,6 +79,20 @@ public class LocalListDataStore<T> implements DataStore<T> {
         return this;
     }
 
+    public boolean isIncrementalSearch() {
+        return incrementalSearch;
+    }
+
+    /**
+     * When enabled a search text that starts with the previous search text on the same field only filters the
+     * previous search result instead of all records, this is only valid for search filters that never match a record
+     * for the longer text that they did not match for the shorter one, e.g. contains or starts with checks.
+     */
+    public LocalListDataStore<T> setIncrementalSearch(boolean incrementalSearch) {
+        this.incrementalSearch = incrementalSearch;
+        return this;
+    }
+
     private void updatePagination() {
         if (nonNull(pagination) && nonNull(original)) {
             this.pagination.updatePagesByTotalCount(this.original.size());
@@ -103,14 +126,28 @@ public class LocalListDataStore<T> implements DataStore<T> {
 
     private void onSearchChanged(SearchEvent event) {
         if (nonNull(searchFilter)) {
-            filtered = original.stream().filter(record -> searchFilter.filterRecord(event, record)).collect(Collectors.toList());
-            if (nonNull(lastSort)) {
+            boolean narrowing = isNarrowing(event);
+            List<T> source = narrowing ? filtered : original;
+            filtered = source.stream().filter(record -> searchFilter.filterRecord(event, record)).collect(Collectors.toList());
+            lastSearch = event;
+            if (nonNull(lastSort) && !narrowing) {
+                clearSortedRecords();
                 sort(lastSort);
+            } else {
+                keepCurrentSortOnly();
             }
             loadFirstPage();
         }
     }
 
+    private boolean isNarrowing(SearchEvent event) {
+        return incrementalSearch
+                && nonNull(lastSearch)
+                && nonNull(lastSearch.getSearchText())
+                && nonNull(event.getSearchText())
+                && Objects.equals(lastSearch.getSearchField(), event.getSearchField())
+                && event.getSearchText().startsWith(lastSearch.getSearchText());
+    }
 
     private void onSortChanged(SortEvent<T> event) {
         if (nonNull(this.recordsSorter)) {
@@ -121,7 +158,33 @@ public class LocalListDataStore<T> implements DataStore<T> {
     }
 
     private void sort(SortEvent<T> event) {
-        filtered.sort(recordsSorter.onSortChange(event.getColumnConfig().getName(), event.getSortDirection()));
+        String sortBy = event.getColumnConfig().getName();
+        SortDirection sortDirection = event.getSortDirection();
+        lastComparator = recordsSorter.onSortChange(sortBy, sortDirection);
+
+        String key = sortKey(sortBy, sortDirection);
+        List<T> sorted = sortedRecords.get(key);
+        if (isNull(sorted)) {
+            sorted = new ArrayList<>(filtered);
+            sorted.sort(lastComparator);
+            sortedRecords.put(key, sorted);
+        }
+        filtered = sorted;
+    }
+
+    private static String sortKey(String sortBy, SortDirection sortDirection) {
+        return sortBy + ":" + sortDirection;
+    }
+
+    private void clearSortedRecords() {
+        sortedRecords.clear();
+    }
+
+    private void keepCurrentSortOnly() {
+        clearSortedRecords();
+        if (nonNull(lastSort)) {
+            sortedRecords.put(sortKey(lastSort.getColumnConfig().getName(), lastSort.getSortDirection()), filtered);
+        }
     }
 
     private void loadFirstPage() {
@@ -159,29 +222,64 @@ public class LocalListDataStore<T> implements DataStore<T> {
 
     public void addRecord(T record) {
         original.add(record);
-        List<T> newData= new ArrayList<>(original);
-        setData(newData);
-        load();
+        if (matchesSearch(record)) {
+            if (nonNull(lastSort)) {
+                int position = Collections.binarySearch(filtered, record, lastComparator);
+                filtered.add(position < 0 ? -(position + 1) : position + 1, record);
+            } else {
+                filtered.add(record);
+            }
+        }
+        keepCurrentSortOnly();
+        loadFirstPage();
     }
 
     public void removeRecord(T record) {
         if (original.contains(record)) {
             original.remove(record);
             filtered.remove(record);
+            keepCurrentSortOnly();
             fireUpdate();
         }
     }
 
     public void addRecords(Collection<T> records) {
         original.addAll(records);
-        List<T> newData= new ArrayList<>(original);
-        setData(newData);
-        load();
+        List<T> added = records.stream().filter(this::matchesSearch).collect(Collectors.toList());
+        if (nonNull(lastSort)) {
+            added.sort(lastComparator);
+            filtered = merge(filtered, added, lastComparator);
+        } else {
+            filtered.addAll(added);
+        }
+        keepCurrentSortOnly();
+        loadFirstPage();
+    }
+
+    private boolean matchesSearch(T record) {
+        return isNull(lastSearch) || isNull(searchFilter) || searchFilter.filterRecord(lastSearch, record);
+    }
+
+    private static <T> List<T> merge(List<T> sorted, List<T> added, Comparator<T> comparator) {
+        List<T> merged = new ArrayList<>(sorted.size() + added.size());
+        int sortedIndex = 0;
+        int addedIndex = 0;
+        while (sortedIndex < sorted.size() && addedIndex < added.size()) {
+            if (comparator.compare(added.get(addedIndex), sorted.get(sortedIndex)) < 0) {
+                merged.add(added.get(addedIndex++));
+            } else {
+                merged.add(sorted.get(sortedIndex++));
+            }
+        }
+        merged.addAll(sorted.subList(sortedIndex, sorted.size()));
+        merged.addAll(added.subList(addedIndex, added.size()));
+        return merged;
     }
 
     public void removeRecord(Collection<T> records) {
         original.removeAll(records);
         filtered.removeAll(records);
+        keepCurrentSortOnly();
         fireUpdate();
     }
 
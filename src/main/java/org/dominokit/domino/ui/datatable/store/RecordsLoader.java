@@ -0,0 +1,23 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface RecordsLoader<T> {
+    void load(LoadRequest request, LoadCallback<T> callback);
+
+    interface LoadCallback<T> {
+        void onSuccess(List<T> records, int totalCount);
+
+        void onFailed(Throwable error);
+
+        boolean isCancelled();
+
+        void onCancel(CancelHandler cancelHandler);
+    }
+
+    @FunctionalInterface
+    interface CancelHandler {
+        void onCancel();
+    }
+}
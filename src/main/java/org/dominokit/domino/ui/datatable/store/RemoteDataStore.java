@@ -0,0 +1,251 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.dominokit.domino.ui.pagination.HasPagination;
+import org.gwtproject.timer.client.Timer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+public class RemoteDataStore<T> implements DataStore<T> {
+
+    private List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+    private final RecordsLoader<T> recordsLoader;
+    private HasPagination pagination;
+    private LoadFailedHandler loadFailedHandler = (request, error) -> {
+    };
+
+    private String searchText;
+    private String searchField;
+    private String sortBy;
+    private SortDirection sortDirection;
+    private int page = 1;
+    private int totalCount = -1;
+
+    private int debounceDelay = 200;
+    private int cacheSize = 20;
+    private final Map<LoadRequest, CachedPage<T>> cache = new LinkedHashMap<LoadRequest, CachedPage<T>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LoadRequest, CachedPage<T>> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    private PendingLoad pendingLoad;
+    private Timer loadTimer = new Timer() {
+        @Override
+        public void run() {
+            fetch(currentRequest());
+        }
+    };
+
+    public RemoteDataStore(RecordsLoader<T> recordsLoader) {
+        this.recordsLoader = recordsLoader;
+    }
+
+    public HasPagination getPagination() {
+        return pagination;
+    }
+
+    public RemoteDataStore<T> setPagination(HasPagination pagination) {
+        this.pagination = pagination;
+        return this;
+    }
+
+    public int getDebounceDelay() {
+        return debounceDelay;
+    }
+
+    public RemoteDataStore<T> setDebounceDelay(int debounceDelay) {
+        this.debounceDelay = debounceDelay;
+        return this;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public RemoteDataStore<T> setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+        return this;
+    }
+
+    public RemoteDataStore<T> onLoadFailed(LoadFailedHandler loadFailedHandler) {
+        this.loadFailedHandler = loadFailedHandler;
+        return this;
+    }
+
+    public void invalidateCache() {
+        cache.clear();
+    }
+
+    @Override
+    public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.add(dataChangeListener);
+    }
+
+    @Override
+    public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.remove(dataChangeListener);
+    }
+
+    @Override
+    public void load() {
+        invalidateCache();
+        loadTimer.cancel();
+        fetch(currentRequest());
+    }
+
+    @Override
+    public void handleEvent(TableEvent event) {
+        switch (event.getType()) {
+            case SEARCH_EVENT:
+                onSearchChanged((SearchEvent) event);
+                break;
+            case SORT_EVENT:
+                onSortChanged((SortEvent<T>) event);
+                break;
+            case PAGINATION_EVENT:
+                onPageChanged((TablePageChangeEvent) event);
+                break;
+        }
+    }
+
+    private void onSearchChanged(SearchEvent event) {
+        this.searchText = event.getSearchText();
+        this.searchField = event.getSearchField();
+        this.page = 1;
+        requestLoad();
+    }
+
+    private void onSortChanged(SortEvent<T> event) {
+        this.sortBy = event.getColumnConfig().getName();
+        this.sortDirection = event.getSortDirection();
+        requestLoad();
+    }
+
+    private void onPageChanged(TablePageChangeEvent event) {
+        this.page = event.getPage();
+        requestLoad();
+    }
+
+    private void requestLoad() {
+        LoadRequest request = currentRequest();
+        CachedPage<T> cachedPage = cache.get(request);
+        loadTimer.cancel();
+        if (nonNull(cachedPage)) {
+            cancelPendingLoad();
+            fireUpdate(cachedPage);
+        } else {
+            loadTimer.schedule(debounceDelay);
+        }
+    }
+
+    private LoadRequest currentRequest() {
+        int pageSize = nonNull(pagination) ? pagination.getPageSize() : 0;
+        return new LoadRequest(searchText, searchField, sortBy, sortDirection, page, pageSize);
+    }
+
+    private void fetch(LoadRequest request) {
+        cancelPendingLoad();
+        PendingLoad load = new PendingLoad(request);
+        this.pendingLoad = load;
+        recordsLoader.load(request, load);
+    }
+
+    private void cancelPendingLoad() {
+        if (nonNull(pendingLoad)) {
+            pendingLoad.cancel();
+            pendingLoad = null;
+        }
+    }
+
+    private void fireUpdate(CachedPage<T> cachedPage) {
+        updatePagination(cachedPage.totalCount);
+        listeners.forEach(dataChangeListener -> dataChangeListener.onDataChanged(new DataChangedEvent<>(new ArrayList<>(cachedPage.records), cachedPage.totalCount)));
+    }
+
+    private void updatePagination(int totalCount) {
+        if (nonNull(pagination)) {
+            if (this.totalCount != totalCount) {
+                pagination.updatePagesByTotalCount(totalCount);
+            }
+            pagination.gotoPage(page, true);
+        }
+        this.totalCount = totalCount;
+    }
+
+    private static class CachedPage<T> {
+        private final List<T> records;
+        private final int totalCount;
+
+        private CachedPage(List<T> records, int totalCount) {
+            this.records = records;
+            this.totalCount = totalCount;
+        }
+    }
+
+    private class PendingLoad implements RecordsLoader.LoadCallback<T> {
+        private final LoadRequest request;
+        private boolean cancelled = false;
+        private RecordsLoader.CancelHandler cancelHandler;
+
+        private PendingLoad(LoadRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void onSuccess(List<T> records, int totalCount) {
+            if (!cancelled && pendingLoad == this) {
+                pendingLoad = null;
+                CachedPage<T> cachedPage = new CachedPage<>(new ArrayList<>(records), totalCount);
+                cache.put(request, cachedPage);
+                fireUpdate(cachedPage);
+            }
+        }
+
+        @Override
+        public void onFailed(Throwable error) {
+            if (!cancelled && pendingLoad == this) {
+                pendingLoad = null;
+                loadFailedHandler.onLoadFailed(request, error);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void onCancel(RecordsLoader.CancelHandler cancelHandler) {
+            this.cancelHandler = cancelHandler;
+            if (cancelled) {
+                cancelHandler.onCancel();
+            }
+        }
+
+        private void cancel() {
+            this.cancelled = true;
+            if (nonNull(cancelHandler)) {
+                cancelHandler.onCancel();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface LoadFailedHandler {
+        void onLoadFailed(LoadRequest request, Throwable error);
+    }
+}
@@ -4,6 +4,7 @@ import elemental2.dom.*;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.DocumentEvents;
 import org.dominokit.domino.ui.utils.ElementUtil;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.IsElement;
@@ -15,38 +16,35 @@ import static elemental2.dom.DomGlobal.document;
 
 public class DropDownMenu extends BaseDominoElement<HTMLUListElement, DropDownMenu> {
 
+    private static List<DropDownMenu> openedMenus = new ArrayList<>();
+
     private HTMLUListElement element = Elements.ul().css("dropdown-menu").asElement();
     private HTMLElement targetElement;
     private DropDownPosition position = DropDownPosition.BOTTOM;
     private List<DropdownAction> actions = new ArrayList<>();
-    private boolean touchMoved;
+    private boolean detachObserved;
+    private EventListener outsideClickListener = this::closeOnOutsideClick;
 
     public DropDownMenu(HTMLElement targetElement) {
         this.targetElement = targetElement;
-        EventListener listener = this::closeAllGroups;
-        document.addEventListener("click", listener);
-        document.addEventListener("touchend", evt -> {
-            if (!touchMoved) {
-                closeAllGroups(evt);
-            }
-            touchMoved = false;
-        });
-        document.addEventListener("touchmove", evt -> this.touchMoved = true);
-    }
-
-    private void closeAllGroups(Event evt) {
+    }
+
+    private void closeOnOutsideClick(Event evt) {
         HTMLElement element = Js.uncheckedCast(evt.target);
         if (!this.element.contains(element)) {
-            closeAllMenus();
+            close();
         }
     }
 
-    private void close(HTMLElement item) {
-        item.style.display = "none";
-    }
-
-    private boolean isOpened(HTMLElement item) {
-        return item.style.display.equals("block");
+    private void observeDetach() {
+        if (!detachObserved) {
+            detachObserved = true;
+            ElementUtil.onDetach(targetElement, mutationRecord -> {
+                detachObserved = false;
+                close();
+                element.remove();
+            });
+        }
     }
 
     public static DropDownMenu create(HTMLElement targetElement) {
@@ -76,6 +74,9 @@ public class DropDownMenu extends BaseDominoElement<HTMLUListElement, DropDownMe
 
     public void close() {
         Style.of(element).setDisplay("none");
+        if (openedMenus.remove(this)) {
+            DocumentEvents.removeClickListener(outsideClickListener);
+        }
     }
 
     public void open() {
@@ -84,6 +85,15 @@ public class DropDownMenu extends BaseDominoElement<HTMLUListElement, DropDownMe
         }
         Style.of(element).setDisplay("block");
         position.position(element, targetElement);
+        if (!openedMenus.contains(this)) {
+            openedMenus.add(this);
+            DocumentEvents.addClickListener(outsideClickListener);
+            observeDetach();
+        }
+    }
+
+    public boolean isOpened() {
+        return openedMenus.contains(this);
     }
 
     public DropDownMenu setPosition(DropDownPosition position) {
@@ -107,12 +117,6 @@ public class DropDownMenu extends BaseDominoElement<HTMLUListElement, DropDownMe
     }
 
     public void closeAllMenus() {
-        NodeList<Element> elementsByName = document.body.querySelectorAll(".dropdown-menu");
-        for (int i = 0; i < elementsByName.length; i++) {
-            HTMLElement item = Js.uncheckedCast(elementsByName.item(i));
-            if (isOpened(item)) {
-                close(item);
-            }
-        }
+        new ArrayList<>(openedMenus).forEach(DropDownMenu::close);
     }
 }
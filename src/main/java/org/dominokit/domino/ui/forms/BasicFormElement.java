@@ -72,6 +72,51 @@ public abstract class BasicFormElement<T extends BasicFormElement<T, V>, V> exte
         return elementValidations.validate();
     }
 
+    /**
+     * Runs all the validators including the asynchronous ones, if the validation is superseded by another one or
+     * canceled the callback gets the result of the next validation.
+     */
+    public T validate(ValidationCallback callback) {
+        elementValidations.validate(callback);
+        return (T) this;
+    }
+
+    public T cancelValidation() {
+        elementValidations.cancel();
+        return (T) this;
+    }
+
+    public boolean isValidating() {
+        return elementValidations.isValidating();
+    }
+
+    public boolean isValidationDirty() {
+        return elementValidations.isDirty();
+    }
+
+    public T markValidationDirty() {
+        elementValidations.markDirty();
+        return (T) this;
+    }
+
+    public ValidationResult getLastValidationResult() {
+        return elementValidations.getLastResult();
+    }
+
+    public T addAsyncValidator(AsyncValidator validator) {
+        elementValidations.addAsyncValidator(validator);
+        return (T) this;
+    }
+
+    public T removeAsyncValidator(AsyncValidator validator) {
+        elementValidations.removeAsyncValidator(validator);
+        return (T) this;
+    }
+
+    public boolean hasAsyncValidator(AsyncValidator validator) {
+        return elementValidations.hasAsyncValidator(validator);
+    }
+
     @Override
     public T removeValidator(Validator validator) {
         elementValidations.removeValidator(validator);
@@ -10,6 +10,7 @@ public class FieldsGrouping implements HasValidation<FieldsGrouping> {
 
     private List<FormElement> formElements = new ArrayList<>();
     private List<Validator> validators = new ArrayList<>();
+    private int validationId = 0;
 
     public static FieldsGrouping create() {
         return new FieldsGrouping();
@@ -21,12 +22,29 @@ public class FieldsGrouping implements HasValidation<FieldsGrouping> {
     }
 
     public ValidationResult validate() {
-        boolean fieldsValid = validateFields();
+        return validate(false);
+    }
+
+    /**
+     * Validates only the fields whose value changed since their last validation and reuses the last result of the
+     * others.
+     */
+    public ValidationResult validateChanged() {
+        return validate(true);
+    }
+
+    private ValidationResult validate(boolean changedOnly) {
+        validationId++;
+        boolean fieldsValid = validateFields(changedOnly);
 
         if (!fieldsValid) {
             return new ValidationResult(false, "Invalid fields");
         }
 
+        return validateGroup();
+    }
+
+    private ValidationResult validateGroup() {
         for (Validator validator : validators) {
             ValidationResult result = validator.isValid();
             if (!result.isValid()) {
@@ -36,12 +54,12 @@ public class FieldsGrouping implements HasValidation<FieldsGrouping> {
         return ValidationResult.valid();
     }
 
-    private boolean validateFields() {
+    private boolean validateFields(boolean changedOnly) {
 
         boolean valid = true;
 
         for (FormElement formElement : formElements) {
-            ValidationResult result = formElement.validate();
+            ValidationResult result = isClean(formElement, changedOnly) ? lastResult(formElement) : formElement.validate();
             if (!result.isValid()) {
                 valid = false;
             }
@@ -49,18 +67,83 @@ public class FieldsGrouping implements HasValidation<FieldsGrouping> {
         return valid;
     }
 
+    /**
+     * Validates the fields including their asynchronous validators, then calls the callback with the group result
+     * once all of them complete. The callback is not called if another group validation starts meanwhile.
+     */
+    public FieldsGrouping validate(ValidationCallback callback) {
+        return validate(false, callback);
+    }
+
+    public FieldsGrouping validateChanged(ValidationCallback callback) {
+        return validate(true, callback);
+    }
+
+    private FieldsGrouping validate(boolean changedOnly, ValidationCallback callback) {
+        int id = ++validationId;
+        List<BasicFormElement> pending = new ArrayList<>();
+        boolean valid = true;
+        for (FormElement formElement : formElements) {
+            if (isClean(formElement, changedOnly)) {
+                valid &= lastResult(formElement).isValid();
+            } else if (formElement instanceof BasicFormElement) {
+                pending.add((BasicFormElement) formElement);
+            } else {
+                valid &= formElement.validate().isValid();
+            }
+        }
+
+        boolean[] fieldsValid = {valid};
+        int[] remaining = {pending.size()};
+        Runnable complete = () -> {
+            if (id == validationId) {
+                callback.onValidated(fieldsValid[0] ? validateGroup() : new ValidationResult(false, "Invalid fields"));
+            }
+        };
+        if (pending.isEmpty()) {
+            complete.run();
+        }
+        for (BasicFormElement formElement : pending) {
+            formElement.validate(result -> {
+                fieldsValid[0] &= result.isValid();
+                if (--remaining[0] == 0) {
+                    complete.run();
+                }
+            });
+        }
+        return this;
+    }
+
+    private boolean isClean(FormElement formElement, boolean changedOnly) {
+        return changedOnly && formElement instanceof BasicFormElement
+                && !((BasicFormElement) formElement).isValidationDirty();
+    }
+
+    private ValidationResult lastResult(FormElement formElement) {
+        return ((BasicFormElement) formElement).getLastValidationResult();
+    }
+
+    private void markDirty() {
+        formElements.stream().filter(formElement -> formElement instanceof BasicFormElement)
+                .map(formElement -> (BasicFormElement) formElement)
+                .forEach(BasicFormElement::markValidationDirty);
+    }
+
     public FieldsGrouping clear() {
         formElements.forEach(FormElement::clear);
+        markDirty();
         return this;
     }
 
     public FieldsGrouping clearInvalid() {
         formElements.forEach(FormElement::clearInvalid);
+        markDirty();
         return this;
     }
 
     public FieldsGrouping invalidate(String errorMessage) {
         formElements.forEach(formElement -> formElement.invalidate(errorMessage));
+        markDirty();
         return this;
     }
 
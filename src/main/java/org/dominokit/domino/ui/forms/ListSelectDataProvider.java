@@ -0,0 +1,53 @@
+package org.dominokit.domino.ui.forms;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class ListSelectDataProvider<T> implements SelectDataProvider<T> {
+
+    private final List<T> values;
+    private final Function<T, String> keyProvider;
+    private final Function<T, String> displayValueProvider;
+
+    public ListSelectDataProvider(List<T> values, Function<T, String> keyProvider, Function<T, String> displayValueProvider) {
+        this.values = values;
+        this.keyProvider = keyProvider;
+        this.displayValueProvider = displayValueProvider;
+    }
+
+    public ListSelectDataProvider(List<T> values, Function<T, String> keyProvider) {
+        this(values, keyProvider, keyProvider);
+    }
+
+    public static <T> ListSelectDataProvider<T> create(List<T> values, Function<T, String> keyProvider, Function<T, String> displayValueProvider) {
+        return new ListSelectDataProvider<>(values, keyProvider, displayValueProvider);
+    }
+
+    public static <T> ListSelectDataProvider<T> create(List<T> values, Function<T, String> keyProvider) {
+        return new ListSelectDataProvider<>(values, keyProvider);
+    }
+
+    @Override
+    public int getSize() {
+        return values.size();
+    }
+
+    @Override
+    public T getValue(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public String getKey(int index) {
+        return keyProvider.apply(values.get(index));
+    }
+
+    @Override
+    public String getDisplayValue(int index) {
+        return displayValueProvider.apply(values.get(index));
+    }
+
+    public List<T> getValues() {
+        return values;
+    }
+}
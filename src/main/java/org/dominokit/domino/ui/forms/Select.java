@@ -7,9 +7,12 @@ import jsinterop.base.Js;
 import org.dominokit.domino.ui.style.Color;
 import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.DocumentEvents;
 import org.dominokit.domino.ui.utils.DominoElement;
+import org.dominokit.domino.ui.utils.ElementUtil;
 import org.dominokit.domino.ui.utils.Focusable;
 import org.dominokit.domino.ui.utils.IsReadOnly;
+import org.gwtproject.timer.client.Timer;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.IsElement;
 import org.jboss.gwt.elemento.template.DataElement;
@@ -19,7 +22,6 @@ import javax.annotation.PostConstruct;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static elemental2.dom.DomGlobal.document;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.ElementUtil.*;
@@ -34,11 +36,15 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     private static final String FOCUSED = "focused";
     private static final String TOUCH_START_EVENT = "touchend";
 
+    private static List<Select<?>> openedSelects = new ArrayList<>();
+
     private HTMLDivElement container = div().css("form-group").asElement();
     private SelectElement selectElement = SelectElement.create();
     private HTMLElement leftAddonContainer = div().css("input-addon-container").asElement();
     private HTMLElement rightAddonContainer = div().css("input-addon-container").asElement();
-    private LinkedHashMap<String, SelectOption<T>> searchableOptions = new LinkedHashMap<>();
+    private SelectSearchIndex<SelectOption<T>> searchIndex = new SelectSearchIndex<>();
+    private SelectSearchIndex<Integer> virtualSearchIndex;
+    private Set<SelectOption<T>> hiddenOptions = new HashSet<>();
     private LinkedList<SelectOption<T>> options = new LinkedList<>();
     private SelectOption<T> selectedOption;
     private List<SelectionHandler<T>> selectionHandlers = new ArrayList<>();
@@ -54,7 +60,31 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     private boolean caseSensitiveSearch = false;
     private List<SelectOptionGroup<T>> groups = new ArrayList<>();
     private boolean touchMoved;
+    private boolean detachObserved;
+    private EventListener outsideClickListener = this::closeOnOutsideClick;
     private String noMatchSearchResultText = "No results matched";
+    private int searchDelay = 200;
+    private Timer searchTimer = new Timer() {
+        @Override
+        public void run() {
+            doSearch();
+        }
+    };
+    private SearchLoader<T> searchLoader;
+    private int searchRequestId = 0;
+
+    private SelectDataProvider<T> dataProvider;
+    private int virtualItemHeight = 32;
+    private int virtualOverscan = 5;
+    private HTMLLIElement topSpacer;
+    private HTMLLIElement bottomSpacer;
+    private List<SelectOption<T>> renderedOptions = new ArrayList<>();
+    private List<SelectOption<T>> recycledOptions = new ArrayList<>();
+    private int firstRenderedPosition = 0;
+    private boolean virtualRenderScheduled;
+    private List<Integer> visibleIndices;
+    private int selectedIndex = -1;
+    private HTMLOptionElement selectedNativeOption;
 
     public Select() {
         initListeners();
@@ -70,18 +100,9 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     private void initListeners() {
-        EventListener hideAllListener = this::hideAllMenus;
-        document.addEventListener(CLICK_EVENT, hideAllListener);
-        document.addEventListener("touchend", evt -> {
-            if (!touchMoved) {
-                hideAllListener.handleEvent(evt);
-            }
-            touchMoved = false;
-        });
-
-        document.addEventListener("touchmove", evt -> this.touchMoved = true);
-
-        document.body.addEventListener(KEYDOWN, new NavigateOptionsKeyListener());
+        selectElement.getOptionsList().addEventListener("touchstart", evt -> this.touchMoved = false);
+        selectElement.getOptionsList().addEventListener("touchmove", evt -> this.touchMoved = true);
+        selectElement.getOptionsList().addEventListener(KEYDOWN, new NavigateOptionsKeyListener());
 
         EventListener clickListener = evt -> {
             open();
@@ -99,10 +120,18 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
             }
         });
 
-        selectElement.getSearchBox().addEventListener("input", evt -> doSearch());
+        selectElement.getSearchBox().addEventListener("input", evt -> scheduleSearch());
         selectElement.getSearchBox().addEventListener(KEYDOWN, evt -> {
             KeyboardEvent keyboardEvent = (KeyboardEvent) evt;
-            if (isArrowUp(keyboardEvent)) {
+            if (isVirtual()) {
+                if (isArrowUp(keyboardEvent)) {
+                    focusPosition(visibleOptionsCount() - 1);
+                    evt.preventDefault();
+                } else if (isArrowDown(keyboardEvent)) {
+                    focusPosition(0);
+                    evt.preventDefault();
+                }
+            } else if (isArrowUp(keyboardEvent)) {
                 options.getLast().focus();
                 evt.preventDefault();
             } else if (isArrowDown(keyboardEvent)) {
@@ -114,19 +143,32 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     private boolean isHidden(SelectOption<T> option) {
-        return option.asElement().classList.contains("hidden");
+        return hiddenOptions.contains(option);
     }
 
-    private void hideAllMenus(Event evt) {
+    private void closeOnOutsideClick(Event evt) {
         HTMLElement element = Js.uncheckedCast(evt.target);
         if (!selectElement.getFormControl().contains(element)) {
-            hideAllMenus();
+            doClose();
+        }
+    }
+
+    private void scheduleSearch() {
+        searchTimer.cancel();
+        if (searchDelay > 0) {
+            searchTimer.schedule(searchDelay);
+        } else {
+            doSearch();
         }
     }
 
     private void doSearch() {
         if (searchable) {
             String searchValue = selectElement.getSearchBox().asElement().value;
+            if (nonNull(searchLoader) && !isVirtual()) {
+                loadSearchResults(searchValue);
+                return;
+            }
             boolean isThereValues = changeOptionsVisibility(searchValue);
 
             if (!isThereValues) {
@@ -137,24 +179,57 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         }
     }
 
+    private void loadSearchResults(String searchValue) {
+        int requestId = ++searchRequestId;
+        searchLoader.load(searchValue, searchResults -> {
+            if (requestId == searchRequestId) {
+                setSearchResults(searchResults);
+                if (searchResults.isEmpty()) {
+                    showNoResultsElement(searchValue);
+                } else {
+                    hideNoResultsElement();
+                }
+            }
+        });
+    }
+
+    private void setSearchResults(List<SelectOption<T>> searchResults) {
+        options.forEach(option -> option.asElement().remove());
+        options.clear();
+        searchIndex.clear();
+        hiddenOptions.clear();
+        ElementUtil.clear(selectElement.getSelectMenu().asElement());
+        for (SelectOption<T> option : searchResults) {
+            appendChild(option);
+            if (nonNull(selectedOption) && Objects.equals(selectedOption.getKey(), option.getKey())) {
+                option.select(true);
+            }
+        }
+    }
+
     private boolean changeOptionsVisibility(String searchValue) {
-        boolean isThereValues = false;
-        for (Map.Entry<String, SelectOption<T>> entry : searchableOptions.entrySet()) {
-            boolean contains;
-            if (caseSensitiveSearch)
-                contains = entry.getKey().contains(searchValue);
-            else
-                contains = entry.getKey().toLowerCase().contains(searchValue.toLowerCase());
-
-            if (!contains) {
-                entry.getValue().asElement().classList.add("hidden");
-            } else {
-                isThereValues = true;
-                entry.getValue().asElement().classList.remove("hidden");
+        if (isVirtual()) {
+            return changeVirtualOptionsVisibility(searchValue);
+        }
+        Set<SelectOption<T>> matches = new HashSet<>(searchIndex.search(searchValue));
+        boolean changed = false;
+        for (SelectOption<T> option : options) {
+            boolean hidden = !matches.contains(option);
+            if (hidden != hiddenOptions.contains(option)) {
+                if (hidden) {
+                    hiddenOptions.add(option);
+                    option.asElement().classList.add("hidden");
+                } else {
+                    hiddenOptions.remove(option);
+                    option.asElement().classList.remove("hidden");
+                }
+                changed = true;
             }
         }
-        groups.forEach(SelectOptionGroup::changeVisibility);
-        return isThereValues;
+        if (changed) {
+            groups.forEach(SelectOptionGroup::changeVisibility);
+        }
+        return !matches.isEmpty();
     }
 
     private void showNoResultsElement(String searchValue) {
@@ -174,12 +249,40 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         }
     }
 
+    private boolean changeVirtualOptionsVisibility(String searchValue) {
+        visibleIndices = getVirtualSearchIndex().search(searchValue);
+        resetVirtualOptions();
+        return !visibleIndices.isEmpty();
+    }
+
+    private SelectSearchIndex<Integer> getVirtualSearchIndex() {
+        if (isNull(virtualSearchIndex)) {
+            virtualSearchIndex = new SelectSearchIndex<>();
+            virtualSearchIndex.setCaseSensitive(caseSensitiveSearch);
+            for (int index = 0; index < dataProvider.getSize(); index++) {
+                virtualSearchIndex.add(index, dataProvider.getDisplayValue(index));
+            }
+        }
+        return virtualSearchIndex;
+    }
+
     public Select<T> clearSearch() {
-        for (SelectOption<T> option : options) {
-            option.asElement().classList.remove("hidden");
+        searchTimer.cancel();
+        if (!hiddenOptions.isEmpty()) {
+            hiddenOptions.forEach(option -> option.asElement().classList.remove("hidden"));
+            hiddenOptions.clear();
+            groups.forEach(SelectOptionGroup::changeVisibility);
         }
+        searchIndex.resetLastSearch();
         selectElement.getSearchBox().asElement().value = "";
         hideNoResultsElement();
+        if (nonNull(virtualSearchIndex)) {
+            virtualSearchIndex.resetLastSearch();
+        }
+        if (isVirtual() && nonNull(visibleIndices)) {
+            visibleIndices = null;
+            resetVirtualOptions();
+        }
         return this;
     }
 
@@ -187,6 +290,16 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         if (isEnabled() && !isReadOnly()) {
             hideAllMenus();
             doOpen();
+            openedSelects.add(this);
+            DocumentEvents.addClickListener(outsideClickListener);
+            observeDetach();
+            if (isVirtual()) {
+                if (searchable) {
+                    clearSearch();
+                }
+                focusPosition(Math.max(selectedIndex, 0));
+                return this;
+            }
             if (nonNull(getSelectedOption()))
                 getSelectedOption().focus();
             else if (!options.isEmpty())
@@ -200,6 +313,10 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
 
     public Select<T> setCaseSensitiveSearch(boolean caseSensitiveSearch) {
         this.caseSensitiveSearch = caseSensitiveSearch;
+        searchIndex.setCaseSensitive(caseSensitiveSearch);
+        if (nonNull(virtualSearchIndex)) {
+            virtualSearchIndex.setCaseSensitive(caseSensitiveSearch);
+        }
         return this;
     }
 
@@ -222,13 +339,24 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public void hideAllMenus() {
-        NodeList<Element> elementsByName = document.body
-                .getElementsByClassName("bootstrap-select");
-        for (int i = 0; i < elementsByName.length; i++) {
-            Element item = elementsByName.item(i);
-            if (item.classList.contains(OPEN))
-                close(item);
+        new ArrayList<>(openedSelects).forEach(Select::doClose);
+    }
+
+    private void observeDetach() {
+        if (!detachObserved) {
+            detachObserved = true;
+            onDetached(mutationRecord -> {
+                detachObserved = false;
+                doClose();
+            });
+        }
+    }
+
+    private void doClose() {
+        if (openedSelects.remove(this)) {
+            DocumentEvents.removeClickListener(outsideClickListener);
         }
+        close(selectElement.getFormControl().asElement());
     }
 
     private void close(Element item) {
@@ -239,7 +367,7 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public void close() {
-        close(selectElement.getFormControl().asElement());
+        doClose();
         selectElement.getSelectMenu().asElement().focus();
     }
 
@@ -290,7 +418,7 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
 
     public Select<T> appendChild(SelectOption<T> option) {
         options.add(option);
-        searchableOptions.put(option.getDisplayValue(), option);
+        searchIndex.add(option, option.getDisplayValue());
         EventListener openOptionListener = evt -> {
             doSelectOption(option);
             evt.stopPropagation();
@@ -320,17 +448,274 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
                 .asElement());
     }
 
+    /**
+     * Switches the select to render its options from the data provider, only the options visible in the open menu are
+     * rendered and their elements are recycled while scrolling. Options added with {@link #appendChild(SelectOption)}
+     * and groups are removed.
+     *
+     * @param dataProvider the provider of the options, or null to switch back to regular options
+     * @return same instance
+     */
+    public Select<T> setDataProvider(SelectDataProvider<T> dataProvider) {
+        removeAllOptions();
+        groups.forEach(group -> group.asElement().remove());
+        groups.clear();
+        this.dataProvider = dataProvider;
+        if (isVirtual()) {
+            initVirtualScroll();
+            resetVirtualOptions();
+        }
+        return this;
+    }
+
+    /**
+     * Renders the options again after the data provider data changed, the search index is rebuilt on the next search,
+     * the current search is cleared and the selection is cleared if its index is beyond the new size.
+     */
+    public Select<T> refreshData() {
+        if (isVirtual()) {
+            searchTimer.cancel();
+            virtualSearchIndex = null;
+            visibleIndices = null;
+            selectElement.getSearchBox().asElement().value = "";
+            hideNoResultsElement();
+            if (selectedIndex >= dataProvider.getSize()) {
+                clear();
+            }
+            resetVirtualOptions();
+        }
+        return this;
+    }
+
+    public SelectDataProvider<T> getDataProvider() {
+        return dataProvider;
+    }
+
+    public boolean isVirtual() {
+        return nonNull(dataProvider);
+    }
+
+    public Select<T> setVirtualItemHeight(int virtualItemHeight) {
+        this.virtualItemHeight = virtualItemHeight;
+        return this;
+    }
+
+    public int getVirtualItemHeight() {
+        return virtualItemHeight;
+    }
+
+    public Select<T> setVirtualOverscan(int virtualOverscan) {
+        this.virtualOverscan = virtualOverscan;
+        return this;
+    }
+
+    public int getVirtualOverscan() {
+        return virtualOverscan;
+    }
+
+    private void initVirtualScroll() {
+        HTMLUListElement optionsList = selectElement.getOptionsList().asElement();
+        if (isNull(topSpacer)) {
+            topSpacer = createSpacer();
+            bottomSpacer = createSpacer();
+            optionsList.addEventListener("scroll", evt -> scheduleVirtualRender());
+        }
+        optionsList.insertBefore(topSpacer, optionsList.firstChild);
+        optionsList.insertBefore(bottomSpacer, topSpacer.nextSibling);
+    }
+
+    private HTMLLIElement createSpacer() {
+        HTMLLIElement spacer = li().attr("role", "presentation").asElement();
+        Style.of(spacer).setHeight("0px").setProperty("padding", "0px");
+        return spacer;
+    }
+
+    private void scheduleVirtualRender() {
+        if (isVirtual() && !virtualRenderScheduled) {
+            virtualRenderScheduled = true;
+            DomGlobal.requestAnimationFrame(timestamp -> {
+                virtualRenderScheduled = false;
+                if (isVirtual()) {
+                    renderVirtualOptions();
+                }
+            });
+        }
+    }
+
+    private void renderVirtualOptions() {
+        HTMLUListElement optionsList = selectElement.getOptionsList().asElement();
+        int count = visibleOptionsCount();
+        int last = Math.min(count, (int) Math.ceil((optionsList.scrollTop + optionsList.clientHeight) / virtualItemHeight) + virtualOverscan);
+        int first = Math.min(last, Math.max(0, (int) (optionsList.scrollTop / virtualItemHeight) - virtualOverscan));
+
+        if (first >= firstRenderedPosition + renderedOptions.size() || last <= firstRenderedPosition) {
+            releaseAllOptions();
+        }
+        while (!renderedOptions.isEmpty() && firstRenderedPosition < first) {
+            releaseOption(renderedOptions.remove(0));
+            firstRenderedPosition++;
+        }
+        while (!renderedOptions.isEmpty() && firstRenderedPosition + renderedOptions.size() > last) {
+            releaseOption(renderedOptions.remove(renderedOptions.size() - 1));
+        }
+        if (renderedOptions.isEmpty()) {
+            firstRenderedPosition = first;
+        }
+
+        for (int position = firstRenderedPosition - 1; position >= first; position--) {
+            renderedOptions.add(0, renderVirtualOption(position, renderedOptions.get(0).asElement()));
+        }
+        firstRenderedPosition = first;
+        for (int position = first + renderedOptions.size(); position < last; position++) {
+            renderedOptions.add(renderVirtualOption(position, bottomSpacer));
+        }
+
+        Style.of(topSpacer).setHeight((first * virtualItemHeight) + "px");
+        Style.of(bottomSpacer).setHeight(((count - last) * virtualItemHeight) + "px");
+    }
+
+    private SelectOption<T> renderVirtualOption(int position, Node before) {
+        int index = indexAt(position);
+        SelectOption<T> option = recycledOptions.isEmpty() ? createVirtualOption() : recycledOptions.remove(recycledOptions.size() - 1);
+        option.setKey(dataProvider.getKey(index));
+        option.setValue(dataProvider.getValue(index));
+        option.setDisplayValue(dataProvider.getDisplayValue(index));
+        if (index == selectedIndex) {
+            option.select(true);
+        } else {
+            option.deselect(true);
+        }
+        selectElement.getOptionsList().asElement().insertBefore(option.asElement(), before);
+        return option;
+    }
+
+    private SelectOption<T> createVirtualOption() {
+        SelectOption<T> option = SelectOption.create(null, "");
+        option.style()
+                .setHeight(virtualItemHeight + "px")
+                .setProperty("overflow", "hidden");
+        option.asElement().addEventListener(CLICK_EVENT, evt -> {
+            doSelectVirtualOption(option);
+            evt.stopPropagation();
+        });
+        option.asElement().addEventListener(TOUCH_START_EVENT, evt -> {
+            if (!touchMoved) {
+                doSelectVirtualOption(option);
+                evt.preventDefault();
+            }
+        });
+        return option;
+    }
+
+    private void releaseOption(SelectOption<T> option) {
+        option.asElement().remove();
+        recycledOptions.add(option);
+    }
+
+    private void releaseAllOptions() {
+        renderedOptions.forEach(this::releaseOption);
+        renderedOptions.clear();
+    }
+
+    private void resetVirtualOptions() {
+        releaseAllOptions();
+        selectElement.getOptionsList().asElement().scrollTop = 0.0;
+        renderVirtualOptions();
+    }
+
+    private int visibleOptionsCount() {
+        if (!isVirtual()) {
+            return 0;
+        }
+        return nonNull(visibleIndices) ? visibleIndices.size() : dataProvider.getSize();
+    }
+
+    private int indexAt(int position) {
+        return nonNull(visibleIndices) ? visibleIndices.get(position) : position;
+    }
+
+    private int positionOf(SelectOption<T> option) {
+        int offset = renderedOptions.indexOf(option);
+        return offset < 0 ? -1 : firstRenderedPosition + offset;
+    }
+
+    private void focusPosition(int position) {
+        int count = visibleOptionsCount();
+        if (count == 0) {
+            return;
+        }
+        int targetPosition = (position % count + count) % count;
+        HTMLUListElement optionsList = selectElement.getOptionsList().asElement();
+        double top = targetPosition * virtualItemHeight;
+        if (top < optionsList.scrollTop) {
+            optionsList.scrollTop = top;
+        } else if (top + virtualItemHeight > optionsList.scrollTop + optionsList.clientHeight) {
+            optionsList.scrollTop = top + virtualItemHeight - optionsList.clientHeight;
+        }
+        renderVirtualOptions();
+        int offset = targetPosition - firstRenderedPosition;
+        if (offset >= 0 && offset < renderedOptions.size()) {
+            renderedOptions.get(offset).focus();
+        }
+    }
+
+    private void doSelectVirtualOption(SelectOption<T> option) {
+        int position = positionOf(option);
+        if (position >= 0 && isEnabled()) {
+            selectIndex(indexAt(position), false);
+            close();
+        }
+    }
+
+    private void selectIndex(int index, boolean silent) {
+        this.selectedIndex = index;
+        for (int offset = 0; offset < renderedOptions.size(); offset++) {
+            if (indexAt(firstRenderedPosition + offset) == index) {
+                renderedOptions.get(offset).select(true);
+            } else {
+                renderedOptions.get(offset).deselect(true);
+            }
+        }
+        select(createOptionAt(index), silent);
+    }
+
+    private SelectOption<T> createOptionAt(int index) {
+        return SelectOption.create(dataProvider.getValue(index), dataProvider.getKey(index), dataProvider.getDisplayValue(index));
+    }
+
+    private void setSelectedNativeOption(SelectOption<T> option) {
+        removeSelectedNativeOption();
+        selectedNativeOption = Elements.option().attr("value", option.getKey())
+                .textContent(option.getDisplayValue())
+                .asElement();
+        selectElement.getSelectMenu().appendChild(selectedNativeOption);
+        selectedNativeOption.selected = true;
+    }
+
+    private void removeSelectedNativeOption() {
+        if (nonNull(selectedNativeOption)) {
+            selectedNativeOption.remove();
+            selectedNativeOption = null;
+        }
+    }
+
     public Select<T> selectAt(int index) {
         return selectAt(index, false);
     }
 
     public Select<T> selectAt(int index, boolean silent) {
-        if (index < options.size() && index >= 0)
+        if (isVirtual()) {
+            if (index < dataProvider.getSize() && index >= 0)
+                selectIndex(index, silent);
+        } else if (index < options.size() && index >= 0)
             select(options.get(index), silent);
         return this;
     }
 
     public SelectOption<T> getOptionAt(int index) {
+        if (isVirtual()) {
+            return index < dataProvider.getSize() && index >= 0 ? createOptionAt(index) : null;
+        }
         if (index < options.size() && index >= 0)
             return options.get(index);
         return null;
@@ -352,6 +737,9 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         this.selectedOption = option;
         option.select();
         selectElement.getSelectedValueContainer().setTextContent(option.getDisplayValue());
+        if (isVirtual()) {
+            setSelectedNativeOption(option);
+        }
         if (!silent)
             onSelection(option);
         return this;
@@ -412,6 +800,15 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public Select<T> setValue(T value, boolean silent) {
+        if (isVirtual()) {
+            for (int index = 0; index < dataProvider.getSize(); index++) {
+                if (Objects.equals(dataProvider.getValue(index), value)) {
+                    selectIndex(index, silent);
+                    break;
+                }
+            }
+            return this;
+        }
         for (SelectOption<T> option : getOptions()) {
             if (Objects.equals(option.getValue(), value)) {
                 select(option, silent);
@@ -434,6 +831,9 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     public Select<T> clear() {
         selectElement.getSelectLabel().style().remove(FOCUSED);
         getOptions().forEach(selectOption -> selectOption.deselect(true));
+        renderedOptions.forEach(selectOption -> selectOption.deselect(true));
+        selectedIndex = -1;
+        removeSelectedNativeOption();
         selectedOption = null;
         selectElement.getSelectedValueContainer().setTextContent("");
         if (isAutoValidation())
@@ -529,6 +929,8 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         if (nonNull(option) && getOptions().contains(option)) {
             option.deselect(true);
             option.asElement().remove();
+            searchIndex.remove(option);
+            hiddenOptions.remove(option);
         }
         return this;
     }
@@ -541,10 +943,20 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public Select<T> removeAllOptions() {
+        if (isVirtual()) {
+            releaseAllOptions();
+            topSpacer.remove();
+            bottomSpacer.remove();
+            dataProvider = null;
+            visibleIndices = null;
+            virtualSearchIndex = null;
+        }
         if (nonNull(options) && !options.isEmpty()) {
             options.forEach(this::removeOption);
             options.clear();
         }
+        searchIndex.clear();
+        hiddenOptions.clear();
         clear();
         return this;
     }
@@ -587,6 +999,16 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         void onSelection(SelectOption<T> option);
     }
 
+    @FunctionalInterface
+    public interface SearchLoader<T> {
+        void load(String searchValue, SearchResultsCallback<T> callback);
+    }
+
+    @FunctionalInterface
+    public interface SearchResultsCallback<T> {
+        void onResults(List<SelectOption<T>> options);
+    }
+
     public DominoElement<HTMLButtonElement> getSelectButton() {
         return selectElement.getSelectButton();
     }
@@ -679,10 +1101,24 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public List<T> getValues() {
+        if (isVirtual()) {
+            List<T> values = new ArrayList<>(dataProvider.getSize());
+            for (int index = 0; index < dataProvider.getSize(); index++) {
+                values.add(dataProvider.getValue(index));
+            }
+            return values;
+        }
         return options.stream().map(SelectOption::getValue).collect(Collectors.toList());
     }
 
     public List<String> getKeys() {
+        if (isVirtual()) {
+            List<String> keys = new ArrayList<>(dataProvider.getSize());
+            for (int index = 0; index < dataProvider.getSize(); index++) {
+                keys.add(dataProvider.getKey(index));
+            }
+            return keys;
+        }
         return options.stream().map(SelectOption::getKey).collect(Collectors.toList());
     }
 
@@ -712,6 +1148,31 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         return searchable;
     }
 
+    public Select<T> setSearchDelay(int searchDelay) {
+        this.searchDelay = searchDelay;
+        return this;
+    }
+
+    public int getSearchDelay() {
+        return searchDelay;
+    }
+
+    /**
+     * Sets a loader that provides the options for the search value instead of filtering the existing options, the
+     * options are replaced with the results of the latest search, results of earlier searches are ignored.
+     *
+     * @param searchLoader the search loader, or null to filter the existing options
+     * @return same instance
+     */
+    public Select<T> setSearchLoader(SearchLoader<T> searchLoader) {
+        this.searchLoader = searchLoader;
+        return this;
+    }
+
+    public SearchLoader<T> getSearchLoader() {
+        return searchLoader;
+    }
+
     public Select<T> setNoSearchResultsElement(HTMLElement noResultsElement) {
         this.noSearchResultsElement = noResultsElement;
         this.noResultsElementDisplay = noResultsElement.style.display;
@@ -835,6 +1296,10 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         public void handleEvent(Event evt) {
             KeyboardEvent keyboardEvent = (KeyboardEvent) evt;
             HTMLElement element = Js.uncheckedCast(keyboardEvent.target);
+            if (isVirtual()) {
+                handleVirtualEvent(keyboardEvent, element);
+                return;
+            }
             for (SelectOption<T> option : options) {
                 if (option.asElement().contains(element)) {
                     if (isArrowUp(keyboardEvent)) {
@@ -855,6 +1320,27 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
             }
         }
 
+        private void handleVirtualEvent(KeyboardEvent keyboardEvent, HTMLElement element) {
+            for (SelectOption<T> option : renderedOptions) {
+                if (option.asElement().contains(element)) {
+                    int position = positionOf(option);
+                    if (isArrowUp(keyboardEvent)) {
+                        focusPosition(position - 1);
+                        keyboardEvent.preventDefault();
+                    } else if (isArrowDown(keyboardEvent)) {
+                        focusPosition(position + 1);
+                        keyboardEvent.preventDefault();
+                    } else if (isEnterKey(keyboardEvent) ||
+                            isSpaceKey(keyboardEvent)
+                            || isKeyOf("tab", keyboardEvent)) {
+                        doSelectVirtualOption(option);
+                        keyboardEvent.preventDefault();
+                    }
+                    return;
+                }
+            }
+        }
+
         private void focusNext(SelectOption<T> option) {
             int nextIndex = options.indexOf(option) + 1;
             int size = options.size();
@@ -0,0 +1,12 @@
+package org.dominokit.domino.ui.forms;
+
+public interface SelectDataProvider<T> {
+
+    int getSize();
+
+    T getValue(int index);
+
+    String getKey(int index);
+
+    String getDisplayValue(int index);
+}
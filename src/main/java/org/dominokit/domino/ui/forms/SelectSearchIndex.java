@@ -0,0 +1,104 @@
+package org.dominokit.domino.ui.forms;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps the normalized display values of the select items so a search does not normalize them on every keystroke,
+ * a search that extends the previous one is only matched against the previous matches.
+ */
+final class SelectSearchIndex<E> {
+
+    private final List<Entry<E>> entries = new ArrayList<>();
+    private boolean caseSensitive;
+    private String lastSearch;
+    private List<Entry<E>> lastMatches;
+
+    void add(E item, String displayValue) {
+        entries.add(new Entry<>(item, displayValue, normalize(displayValue)));
+        resetLastSearch();
+    }
+
+    void remove(E item) {
+        Iterator<Entry<E>> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().item == item) {
+                iterator.remove();
+                resetLastSearch();
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        entries.clear();
+        resetLastSearch();
+    }
+
+    void setCaseSensitive(boolean caseSensitive) {
+        if (this.caseSensitive != caseSensitive) {
+            this.caseSensitive = caseSensitive;
+            entries.forEach(entry -> entry.normalizedValue = normalize(entry.displayValue));
+            resetLastSearch();
+        }
+    }
+
+    List<E> search(String searchValue) {
+        String normalizedSearch = normalize(isNull(searchValue) ? "" : searchValue);
+        String[] tokens = normalizedSearch.trim().split("\\s+");
+        List<Entry<E>> candidates = nonNull(lastSearch) && normalizedSearch.startsWith(lastSearch) ? lastMatches : entries;
+        List<Entry<E>> matches = new ArrayList<>();
+        for (Entry<E> entry : candidates) {
+            if (entry.matches(tokens)) {
+                matches.add(entry);
+            }
+        }
+        lastSearch = normalizedSearch;
+        lastMatches = matches;
+
+        List<E> items = new ArrayList<>(matches.size());
+        matches.forEach(entry -> items.add(entry.item));
+        return items;
+    }
+
+    void resetLastSearch() {
+        lastSearch = null;
+        lastMatches = null;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private String normalize(String value) {
+        if (isNull(value)) {
+            return "";
+        }
+        return caseSensitive ? value : value.toLowerCase();
+    }
+
+    private static final class Entry<E> {
+        private final E item;
+        private final String displayValue;
+        private String normalizedValue;
+
+        private Entry(E item, String displayValue, String normalizedValue) {
+            this.item = item;
+            this.displayValue = displayValue;
+            this.normalizedValue = normalizedValue;
+        }
+
+        private boolean matches(String[] tokens) {
+            for (String token : tokens) {
+                if (!normalizedValue.contains(token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
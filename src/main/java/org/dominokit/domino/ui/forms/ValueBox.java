@@ -4,6 +4,7 @@ import elemental2.dom.*;
 import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.style.Color;
 import org.dominokit.domino.ui.utils.*;
+import org.gwtproject.timer.client.Timer;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.IsElement;
 
@@ -32,6 +33,13 @@ public abstract class ValueBox<T extends ValueBox<T, E, V>, E extends HTMLElemen
     private EventListener changeEventListener;
     private boolean readOnly;
     private List<ChangeHandler<V>> changeHandlers = new ArrayList<>();
+    private int autoValidationDelay = 0;
+    private Timer autoValidationTimer = new Timer() {
+        @Override
+        public void run() {
+            validate();
+        }
+    };
 
     public enum ValueBoxSize {
         LARGE("lg"),
@@ -345,7 +353,7 @@ public abstract class ValueBox<T extends ValueBox<T, E, V>, E extends HTMLElemen
     public T setAutoValidation(boolean autoValidation) {
         if (autoValidation) {
             if (changeEventListener == null) {
-                changeEventListener = evt -> validate();
+                changeEventListener = evt -> onInputValidation();
                 getInputElement().addEventListener("input", changeEventListener);
             }
         } else {
@@ -353,6 +361,7 @@ public abstract class ValueBox<T extends ValueBox<T, E, V>, E extends HTMLElemen
                 getInputElement().removeEventListener("input", changeEventListener);
             }
             changeEventListener = null;
+            autoValidationTimer.cancel();
         }
         return (T) this;
     }
@@ -362,6 +371,28 @@ public abstract class ValueBox<T extends ValueBox<T, E, V>, E extends HTMLElemen
         return nonNull(changeEventListener);
     }
 
+    private void onInputValidation() {
+        if (autoValidationDelay > 0) {
+            cancelValidation();
+            autoValidationTimer.schedule(autoValidationDelay);
+        } else {
+            validate();
+        }
+    }
+
+    /**
+     * Delays the auto validation until the user stops typing for the given milliseconds, zero validates on every
+     * input.
+     */
+    public T setAutoValidationDelay(int autoValidationDelay) {
+        this.autoValidationDelay = autoValidationDelay;
+        return (T) this;
+    }
+
+    public int getAutoValidationDelay() {
+        return autoValidationDelay;
+    }
+
     @Override
     public T clear() {
         clearValue();
@@ -426,8 +457,10 @@ public abstract class ValueBox<T extends ValueBox<T, E, V>, E extends HTMLElemen
     }
 
     protected void autoValidate() {
-        if (isAutoValidation())
+        if (isAutoValidation()) {
+            autoValidationTimer.cancel();
             validate();
+        }
     }
 
     @Override
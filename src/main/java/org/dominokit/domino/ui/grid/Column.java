@@ -366,7 +366,7 @@ public class Column extends BaseDominoElement<HTMLDivElement, Column> implements
         if (nonNull(this.onXSmallOffsetStyle))
             column.onXSmallOffset(this.onXSmallOffsetStyle);
 
-        if (style.contains(Styles.align_center))
+        if (style().contains(Styles.align_center))
             column.centerContent();
 
         return column;
@@ -402,92 +402,92 @@ public class Column extends BaseDominoElement<HTMLDivElement, Column> implements
 
     public Column onXLarge(OnXLarge onXLarge) {
         if (nonNull(this.onXLargeStyle)) {
-            style.remove(this.onXLargeStyle.getStyle());
+            style().remove(this.onXLargeStyle.getStyle());
         }
         this.onXLargeStyle = onXLarge;
-        style.add(this.onXLargeStyle.getStyle());
+        style().add(this.onXLargeStyle.getStyle());
         return this;
     }
 
     public Column onLarge(OnLarge onLarge) {
         if (nonNull(this.onLargeStyle)) {
-            style.remove(this.onLargeStyle.getStyle());
+            style().remove(this.onLargeStyle.getStyle());
         }
         this.onLargeStyle = onLarge;
-        style.add(this.onLargeStyle.getStyle());
+        style().add(this.onLargeStyle.getStyle());
         return this;
     }
 
     public Column onMedium(OnMedium onMedium) {
         if (nonNull(this.onMediumStyle)) {
-            style.remove(this.onMediumStyle.getStyle());
+            style().remove(this.onMediumStyle.getStyle());
         }
         this.onMediumStyle = onMedium;
-        style.add(this.onMediumStyle.getStyle());
+        style().add(this.onMediumStyle.getStyle());
         return this;
     }
 
     public Column onSmall(OnSmall onSmall) {
         if (nonNull(this.onSmallStyle)) {
-            style.remove(this.onSmallStyle.getStyle());
+            style().remove(this.onSmallStyle.getStyle());
         }
         this.onSmallStyle = onSmall;
-        style.add(this.onSmallStyle.getStyle());
+        style().add(this.onSmallStyle.getStyle());
         return this;
     }
 
     public Column onXSmall(OnXSmall onXSmall) {
         if (nonNull(this.onXSmallStyle)) {
-            style.remove(this.onXSmallStyle.getStyle());
+            style().remove(this.onXSmallStyle.getStyle());
         }
         this.onXSmallStyle = onXSmall;
-        style.add(this.onXSmallStyle.getStyle());
+        style().add(this.onXSmallStyle.getStyle());
         return this;
     }
 
     //----------------
     public Column onXLargeOffset(OnXLargeOffset onXLarge) {
         if (nonNull(this.onXLargeOffsetStyle)) {
-            style.remove(this.onXLargeOffsetStyle.getStyle());
+            style().remove(this.onXLargeOffsetStyle.getStyle());
         }
         this.onXLargeOffsetStyle = onXLarge;
-        style.add(this.onXLargeOffsetStyle.getStyle());
+        style().add(this.onXLargeOffsetStyle.getStyle());
         return this;
     }
 
     public Column onLargeOffset(OnLargeOffset onLarge) {
         if (nonNull(this.onLargeOffsetStyle)) {
-            style.remove(this.onLargeOffsetStyle.getStyle());
+            style().remove(this.onLargeOffsetStyle.getStyle());
         }
         this.onLargeOffsetStyle = onLarge;
-        style.add(this.onLargeOffsetStyle.getStyle());
+        style().add(this.onLargeOffsetStyle.getStyle());
         return this;
     }
 
     public Column onMediumOffset(OnMediumOffset onMedium) {
         if (nonNull(this.onMediumOffsetStyle)) {
-            style.remove(this.onMediumOffsetStyle.getStyle());
+            style().remove(this.onMediumOffsetStyle.getStyle());
         }
         this.onMediumOffsetStyle = onMedium;
-        style.add(this.onMediumOffsetStyle.getStyle());
+        style().add(this.onMediumOffsetStyle.getStyle());
         return this;
     }
 
     public Column onSmallOffset(OnSmallOffset onSmall) {
         if (nonNull(this.onSmallOffsetStyle)) {
-            style.remove(this.onSmallOffsetStyle.getStyle());
+            style().remove(this.onSmallOffsetStyle.getStyle());
         }
         this.onSmallOffsetStyle = onSmall;
-        style.add(this.onSmallOffsetStyle.getStyle());
+        style().add(this.onSmallOffsetStyle.getStyle());
         return this;
     }
 
     public Column onXSmallOffset(OnXSmallOffset onXSmall) {
         if (nonNull(this.onXSmallOffsetStyle)) {
-            style.remove(this.onXSmallOffsetStyle.getStyle());
+            style().remove(this.onXSmallOffsetStyle.getStyle());
         }
         this.onXSmallOffsetStyle = onXSmall;
-        style.add(this.onXSmallOffsetStyle.getStyle());
+        style().add(this.onXSmallOffsetStyle.getStyle());
         return this;
     }
 
@@ -502,7 +502,7 @@ public class Column extends BaseDominoElement<HTMLDivElement, Column> implements
     }
 
     public Column condenced() {
-        style.remove("condense")
+        style().remove("condense")
                 .add("condense");
         return this;
     }
@@ -28,7 +28,7 @@ public class GridLayout extends BaseDominoElement<HTMLDivElement, GridLayout> {
     }
 
     private void updateGridLayout() {
-        style.setProperty("grid-template-areas", editor.gridAreasAsString());
+        style().setProperty("grid-template-areas", editor.gridAreasAsString());
     }
 
     public static GridLayout create() {
@@ -36,7 +36,7 @@ public class GridLayout extends BaseDominoElement<HTMLDivElement, GridLayout> {
     }
 
     public GridLayout setGap(String gap) {
-        style.setProperty("grid-gap", gap);
+        style().setProperty("grid-gap", gap);
         return this;
     }
 
@@ -0,0 +1,75 @@
+package org.dominokit.domino.ui.lists;
+
+/**
+ * Keeps the estimated or measured height of each item of a virtual list in a binary indexed tree, so both updating a
+ * height and finding the offset of an item or the item at an offset take logarithmic time.
+ */
+final class ItemHeights {
+
+    private double[] heights = new double[0];
+    private double[] tree = new double[1];
+    private int size;
+
+    void reset(int size, double estimatedHeight) {
+        this.size = size;
+        this.heights = new double[size];
+        this.tree = new double[size + 1];
+        for (int i = 0; i < size; i++) {
+            heights[i] = estimatedHeight;
+            tree[i + 1] += estimatedHeight;
+            int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= size) {
+                tree[parent] += tree[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Returns true if the height of the item changed.
+     */
+    boolean set(int index, double height) {
+        double delta = height - heights[index];
+        if (delta == 0) {
+            return false;
+        }
+        heights[index] = height;
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+        return true;
+    }
+
+    /**
+     * The total height of the items before the given index.
+     */
+    double offsetOf(int index) {
+        double offset = 0;
+        for (int i = Math.min(index, size); i > 0; i -= i & -i) {
+            offset += tree[i];
+        }
+        return offset;
+    }
+
+    /**
+     * The index of the item at the given offset.
+     */
+    int indexAt(double offset) {
+        int position = 0;
+        double remaining = offset;
+        for (int step = Integer.highestOneBit(Math.max(1, size)); step > 0; step >>= 1) {
+            if (position + step <= size && tree[position + step] <= remaining) {
+                position += step;
+                remaining -= tree[position];
+            }
+        }
+        return Math.min(position, Math.max(0, size - 1));
+    }
+
+    double total() {
+        return offsetOf(size);
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,27 @@
+package org.dominokit.domino.ui.lists;
+
+import java.util.List;
+
+/**
+ * Supplies the values of a virtual list group, only the values of the visible items are requested.
+ */
+public interface ListDataProvider<T> {
+
+    int getSize();
+
+    T getValue(int index);
+
+    static <T> ListDataProvider<T> of(List<T> values) {
+        return new ListDataProvider<T>() {
+            @Override
+            public int getSize() {
+                return values.size();
+            }
+
+            @Override
+            public T getValue(int index) {
+                return values.get(index);
+            }
+        };
+    }
+}
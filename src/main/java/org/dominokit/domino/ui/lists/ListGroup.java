@@ -8,7 +8,11 @@ import org.dominokit.domino.ui.utils.HasSelectionSupport;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.gwt.elemento.core.Elements.div;
 
@@ -20,6 +24,12 @@ public class ListGroup<T> extends BaseDominoElement<HTMLDivElement, ListGroup<T>
     private List<SelectionChangeHandler<T>> selectionHandlers = new ArrayList<>();
     private boolean selectable = true;
 
+    private ListDataProvider<T> dataProvider;
+    private ListItemRenderer<ListItem<T>, T> itemRenderer;
+    private double estimatedItemHeight = 40;
+    private VirtualListRenderer<ListItem<T>> virtualRenderer;
+    private final TreeSet<Integer> selectedIndices = new TreeSet<>();
+
     private ListGroup(HTMLDivElement element) {
         this.element = element;
         init(this);
@@ -75,12 +85,151 @@ public class ListGroup<T> extends BaseDominoElement<HTMLDivElement, ListGroup<T>
         return this;
     }
 
+    /**
+     * Switches the list group to a virtual mode where only the items in the scrolled window are rendered, the values
+     * are requested from the data provider and the rendered items are recycled while scrolling. The list group should
+     * be given a fixed height so it can scroll.
+     */
+    public ListGroup<T> setDataProvider(ListDataProvider<T> dataProvider) {
+        return setDataProvider(dataProvider, (item, value, index) -> item.setText(String.valueOf(value)));
+    }
+
+    public ListGroup<T> setDataProvider(ListDataProvider<T> dataProvider, ListItemRenderer<ListItem<T>, T> itemRenderer) {
+        if (isNull(virtualRenderer)) {
+            allItems.forEach(item -> item.asElement().remove());
+            allItems.clear();
+            virtualRenderer = new VirtualListRenderer<>(element, div().asElement(), div().asElement(),
+                    estimatedItemHeight, this::createVirtualItem, this::bindVirtualItem);
+        }
+        this.dataProvider = dataProvider;
+        this.itemRenderer = itemRenderer;
+        selectedIndices.clear();
+        virtualRenderer.reset(dataProvider.getSize());
+        return this;
+    }
+
+    /**
+     * Renders the items of a virtual list group again after the data provider data changed, the selected indices
+     * beyond the new size are dropped.
+     */
+    public ListGroup<T> refreshData() {
+        if (isVirtual()) {
+            int size = dataProvider.getSize();
+            selectedIndices.tailSet(size).clear();
+            virtualRenderer.reset(size);
+        }
+        return this;
+    }
+
+    public boolean isVirtual() {
+        return nonNull(virtualRenderer);
+    }
+
+    public ListDataProvider<T> getDataProvider() {
+        return dataProvider;
+    }
+
+    /**
+     * Sets the height used for the items that were not rendered yet, it can be set before or after the data provider.
+     */
+    public ListGroup<T> setEstimatedItemHeight(double estimatedItemHeight) {
+        this.estimatedItemHeight = estimatedItemHeight;
+        if (isVirtual()) {
+            virtualRenderer.setEstimatedItemHeight(estimatedItemHeight);
+        }
+        return this;
+    }
+
+    public ListGroup<T> scrollToIndex(int index) {
+        if (isVirtual()) {
+            virtualRenderer.scrollToIndex(index);
+        }
+        return this;
+    }
+
+    public ListGroup<T> selectAt(int index) {
+        return selectAt(index, false);
+    }
+
+    public ListGroup<T> selectAt(int index, boolean silent) {
+        if (!isVirtual() || !selectable || index < 0 || index >= dataProvider.getSize()) {
+            return this;
+        }
+        if (!multiSelect) {
+            new ArrayList<>(selectedIndices).stream()
+                    .filter(selectedIndex -> selectedIndex != index)
+                    .forEach(selectedIndex -> deselectAt(selectedIndex, true));
+        }
+        if (selectedIndices.add(index)) {
+            ListItem<T> item = virtualRenderer.getItem(index);
+            if (nonNull(item)) {
+                item.setSelectedState(true);
+            }
+            if (!silent) {
+                onSelectionChange(itemAt(index));
+            }
+        }
+        return this;
+    }
+
+    public ListGroup<T> deselectAt(int index) {
+        return deselectAt(index, false);
+    }
+
+    public ListGroup<T> deselectAt(int index, boolean silent) {
+        if (isVirtual() && selectedIndices.remove(index)) {
+            ListItem<T> item = virtualRenderer.getItem(index);
+            if (nonNull(item)) {
+                item.setSelectedState(false);
+            }
+            if (!silent) {
+                onSelectionChange(itemAt(index));
+            }
+        }
+        return this;
+    }
+
+    public List<Integer> getSelectedIndices() {
+        return new ArrayList<>(selectedIndices);
+    }
+
+    private ListItem<T> createVirtualItem() {
+        ListItem<T> listItem = ListItem.create(null);
+        listItem.setParent(this);
+        return listItem;
+    }
+
+    private void bindVirtualItem(ListItem<T> listItem, int index) {
+        T value = dataProvider.getValue(index);
+        listItem.bindIndex(index, value, selectedIndices.contains(index));
+        itemRenderer.render(listItem, value, index);
+    }
+
+    /**
+     * The rendered item at the index, or a detached item bound to the index when it is out of the scrolled window.
+     */
+    private ListItem<T> itemAt(int index) {
+        ListItem<T> item = virtualRenderer.getItem(index);
+        if (isNull(item)) {
+            item = createVirtualItem();
+            bindVirtualItem(item, index);
+        }
+        return item;
+    }
+
+    /**
+     * In a virtual list group only the selected items that are rendered are returned, use {@link #getSelectedValues()}
+     * or {@link #getSelectedIndices()} for the complete selection.
+     */
     @Override
     public List<ListItem<T>> getSelectedItems() {
-        return allItems.stream().filter(ListItem::isSelected).collect(toList());
+        return getItems().stream().filter(ListItem::isSelected).collect(toList());
     }
 
     public List<T> getSelectedValues() {
+        if (isVirtual()) {
+            return selectedIndices.stream().map(dataProvider::getValue).collect(toList());
+        }
         List<ListItem<T>> selectedItems = getSelectedItems();
         if (selectedItems.isEmpty())
             return new ArrayList<>();
@@ -111,6 +260,10 @@ public class ListGroup<T> extends BaseDominoElement<HTMLDivElement, ListGroup<T>
 
     public ListGroup<T> setSelectable(boolean selectable) {
         this.selectable = selectable;
+        if (!selectable && isVirtual()) {
+            selectedIndices.clear();
+            virtualRenderer.refresh();
+        }
         for (ListItem<T> listItem : getSelectedItems()) {
             if (!selectable) {
                 listItem.deselect(true);
@@ -130,12 +283,25 @@ public class ListGroup<T> extends BaseDominoElement<HTMLDivElement, ListGroup<T>
         this.multiSelect = multiSelect;
     }
 
+    /**
+     * In a virtual list group only the rendered items are returned in their index order.
+     */
     @Override
     public List<ListItem<T>> getItems() {
+        if (isVirtual()) {
+            return new ArrayList<>(new TreeMap<>(virtualRenderer.getBoundItems()).values());
+        }
         return allItems;
     }
 
     public List<T> getAllValues() {
+        if (isVirtual()) {
+            List<T> values = new ArrayList<>(dataProvider.getSize());
+            for (int i = 0; i < dataProvider.getSize(); i++) {
+                values.add(dataProvider.getValue(i));
+            }
+            return values;
+        }
         return allItems.stream().map(ListItem::getValue).collect(toList());
     }
 
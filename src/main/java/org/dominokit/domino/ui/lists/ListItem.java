@@ -20,6 +20,7 @@ public class ListItem<T> extends BaseListItem<HTMLAnchorElement, ListItem<T>> im
     private boolean selected = false;
     private boolean disabled = false;
     private String style;
+    private int index = -1;
 
     public ListItem(T value) {
         super(a().css("list-group-item").asElement());
@@ -63,6 +64,10 @@ public class ListItem<T> extends BaseListItem<HTMLAnchorElement, ListItem<T>> im
 
     @Override
     public ListItem<T> select(boolean silent) {
+        if (parent.isVirtual()) {
+            parent.selectAt(index, silent);
+            return this;
+        }
         if (parent.isSelectable()) {
             if (!parent.isMultiSelect())
                 parent.getItems().forEach(tListItem -> tListItem.deselect(true));
@@ -79,6 +84,10 @@ public class ListItem<T> extends BaseListItem<HTMLAnchorElement, ListItem<T>> im
 
     @Override
     public ListItem<T> deselect(boolean silent) {
+        if (parent.isVirtual()) {
+            parent.deselectAt(index, silent);
+            return this;
+        }
         if (selected) {
             asElement().classList.remove("active");
             this.selected = false;
@@ -199,4 +208,31 @@ public class ListItem<T> extends BaseListItem<HTMLAnchorElement, ListItem<T>> im
     void setParent(ListGroup<T> parent) {
         this.parent = parent;
     }
+
+    /**
+     * Binds a recycled item of a virtual list group to the value at the given index.
+     */
+    void bindIndex(int index, T value, boolean selected) {
+        this.index = index;
+        this.value = value;
+        setSelectedState(selected);
+    }
+
+    void setSelectedState(boolean selected) {
+        if (this.selected != selected) {
+            this.selected = selected;
+            if (selected) {
+                asElement().classList.add("active");
+            } else {
+                asElement().classList.remove("active");
+            }
+        }
+    }
+
+    /**
+     * The index of the value this item is bound to in a virtual list group, or -1.
+     */
+    public int getIndex() {
+        return index;
+    }
 }
@@ -0,0 +1,10 @@
+package org.dominokit.domino.ui.lists;
+
+/**
+ * Renders a value into a recycled list item, the item may have rendered another value before so the renderer should
+ * set all the content it uses.
+ */
+@FunctionalInterface
+public interface ListItemRenderer<I, T> {
+    void render(I item, T value, int index);
+}
@@ -2,12 +2,20 @@ package org.dominokit.domino.ui.lists;
 
 import elemental2.dom.HTMLUListElement;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.ElementUtil;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.li;
 import static org.jboss.gwt.elemento.core.Elements.ul;
 
 public class SimpleListGroup extends BaseDominoElement<HTMLUListElement, SimpleListGroup> {
 
     private final HTMLUListElement element;
+    private double estimatedItemHeight = 40;
+    private VirtualListRenderer<SimpleListItem> virtualRenderer;
+    private VirtualListRenderer.ItemBinder<SimpleListItem> itemBinder;
+    private ListDataProvider<?> dataProvider;
 
     private SimpleListGroup(HTMLUListElement element){
         this.element=element;
@@ -56,6 +64,55 @@ public class SimpleListGroup extends BaseDominoElement<HTMLUListElement, SimpleL
         return this;
     }
 
+    /**
+     * Switches the list group to a virtual mode where only the items in the scrolled window are rendered and recycled
+     * while scrolling, the list group should be given a fixed height so it can scroll.
+     */
+    public <V> SimpleListGroup setDataProvider(ListDataProvider<V> dataProvider) {
+        return setDataProvider(dataProvider, (item, value, index) -> item.setText(String.valueOf(value)));
+    }
+
+    public <V> SimpleListGroup setDataProvider(ListDataProvider<V> dataProvider, ListItemRenderer<SimpleListItem, V> itemRenderer) {
+        if (isNull(virtualRenderer)) {
+            ElementUtil.clear(element);
+            virtualRenderer = new VirtualListRenderer<>(element, li().asElement(), li().asElement(),
+                    estimatedItemHeight, () -> SimpleListItem.create(""), (item, index) -> itemBinder.bind(item, index));
+        }
+        this.dataProvider = dataProvider;
+        this.itemBinder = (item, index) -> itemRenderer.render(item, dataProvider.getValue(index), index);
+        virtualRenderer.reset(dataProvider.getSize());
+        return this;
+    }
+
+    public SimpleListGroup refreshData() {
+        if (isVirtual()) {
+            virtualRenderer.reset(dataProvider.getSize());
+        }
+        return this;
+    }
+
+    public boolean isVirtual() {
+        return nonNull(virtualRenderer);
+    }
+
+    /**
+     * Sets the height used for the items that were not rendered yet, it can be set before or after the data provider.
+     */
+    public SimpleListGroup setEstimatedItemHeight(double estimatedItemHeight) {
+        this.estimatedItemHeight = estimatedItemHeight;
+        if (isVirtual()) {
+            virtualRenderer.setEstimatedItemHeight(estimatedItemHeight);
+        }
+        return this;
+    }
+
+    public SimpleListGroup scrollToIndex(int index) {
+        if (isVirtual()) {
+            virtualRenderer.scrollToIndex(index);
+        }
+        return this;
+    }
+
     @Override
     public HTMLUListElement asElement() {
         return element;
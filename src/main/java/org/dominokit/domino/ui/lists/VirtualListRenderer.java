@@ -0,0 +1,173 @@
+package org.dominokit.domino.ui.lists;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.Node;
+import org.dominokit.domino.ui.style.Style;
+import org.dominokit.domino.ui.utils.ElementUtil;
+import org.jboss.gwt.elemento.core.IsElement;
+
+import java.util.*;
+
+/**
+ * Renders the items of a virtual list group that are inside the scrolled window between two spacers, the items that
+ * leave the window are recycled for the ones entering it. The heights of the rendered items are measured and
+ * replace the estimated height used for the items that were not rendered yet.
+ */
+final class VirtualListRenderer<I extends IsElement<? extends HTMLElement>> {
+
+    private final HTMLElement container;
+    private final HTMLElement topSpacer;
+    private final HTMLElement bottomSpacer;
+    private final ItemFactory<I> itemFactory;
+    private final ItemBinder<I> itemBinder;
+    private final ItemHeights heights = new ItemHeights();
+    private final Map<Integer, I> boundItems = new HashMap<>();
+    private final List<I> freeItems = new ArrayList<>();
+    private double estimatedItemHeight;
+    private int overscan = 5;
+    private boolean renderScheduled = false;
+
+    VirtualListRenderer(HTMLElement container, HTMLElement topSpacer, HTMLElement bottomSpacer,
+                        double estimatedItemHeight, ItemFactory<I> itemFactory, ItemBinder<I> itemBinder) {
+        this.container = container;
+        this.estimatedItemHeight = estimatedItemHeight;
+        this.topSpacer = topSpacer;
+        this.bottomSpacer = bottomSpacer;
+        this.itemFactory = itemFactory;
+        this.itemBinder = itemBinder;
+        Style.of(topSpacer).setHeight("0px").setProperty("padding", "0px").setProperty("border", "none");
+        Style.of(bottomSpacer).setHeight("0px").setProperty("padding", "0px").setProperty("border", "none");
+        Style.of(container).setProperty("overflow-y", "auto");
+        container.appendChild(topSpacer);
+        container.appendChild(bottomSpacer);
+        container.addEventListener("scroll", evt -> scheduleRender());
+        ElementUtil.onAttach(container, mutationRecord -> scheduleRender());
+    }
+
+    void reset(int size) {
+        releaseAll();
+        heights.reset(size, estimatedItemHeight);
+        scheduleRender();
+    }
+
+    /**
+     * Binds the rendered items again, for when the state they show changed but not the data size.
+     */
+    void refresh() {
+        boundItems.forEach((index, item) -> itemBinder.bind(item, index));
+    }
+
+    /**
+     * Changing the estimate resets the heights of all the items, the rendered items are measured again.
+     */
+    void setEstimatedItemHeight(double estimatedItemHeight) {
+        if (this.estimatedItemHeight != estimatedItemHeight) {
+            this.estimatedItemHeight = estimatedItemHeight;
+            reset(heights.size());
+        }
+    }
+
+    double getEstimatedItemHeight() {
+        return estimatedItemHeight;
+    }
+
+    void setOverscan(int overscan) {
+        this.overscan = overscan;
+    }
+
+    int getOverscan() {
+        return overscan;
+    }
+
+    I getItem(int index) {
+        return boundItems.get(index);
+    }
+
+    Map<Integer, I> getBoundItems() {
+        return boundItems;
+    }
+
+    void scrollToIndex(int index) {
+        container.scrollTop = heights.offsetOf(index);
+        scheduleRender();
+    }
+
+    void scheduleRender() {
+        if (!renderScheduled) {
+            renderScheduled = true;
+            DomGlobal.requestAnimationFrame(timestamp -> {
+                renderScheduled = false;
+                render();
+            });
+        }
+    }
+
+    private void render() {
+        int size = heights.size();
+        if (size == 0) {
+            releaseAll();
+            Style.of(topSpacer).setHeight("0px");
+            Style.of(bottomSpacer).setHeight("0px");
+            return;
+        }
+        double scrollTop = container.scrollTop;
+        double viewportHeight = container.clientHeight > 0 ? container.clientHeight : estimatedItemHeight * 10;
+        int first = Math.max(0, heights.indexAt(scrollTop) - overscan);
+        int last = Math.min(size - 1, heights.indexAt(scrollTop + viewportHeight) + overscan);
+
+        Iterator<Map.Entry<Integer, I>> iterator = boundItems.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, I> entry = iterator.next();
+            if (entry.getKey() < first || entry.getKey() > last) {
+                release(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        Node cursor = topSpacer.nextSibling;
+        for (int index = first; index <= last; index++) {
+            I item = boundItems.get(index);
+            if (item == null) {
+                item = freeItems.isEmpty() ? itemFactory.create() : freeItems.remove(freeItems.size() - 1);
+                itemBinder.bind(item, index);
+                boundItems.put(index, item);
+            }
+            HTMLElement element = item.asElement();
+            if (element == cursor) {
+                cursor = cursor.nextSibling;
+            } else {
+                container.insertBefore(element, cursor);
+            }
+        }
+
+        for (int index = first; index <= last; index++) {
+            double height = boundItems.get(index).asElement().offsetHeight;
+            if (height > 0) {
+                heights.set(index, height);
+            }
+        }
+        Style.of(topSpacer).setHeight(heights.offsetOf(first) + "px");
+        Style.of(bottomSpacer).setHeight((heights.total() - heights.offsetOf(last + 1)) + "px");
+    }
+
+    private void releaseAll() {
+        boundItems.values().forEach(this::release);
+        boundItems.clear();
+    }
+
+    private void release(I item) {
+        item.asElement().remove();
+        freeItems.add(item);
+    }
+
+    @FunctionalInterface
+    interface ItemFactory<I> {
+        I create();
+    }
+
+    @FunctionalInterface
+    interface ItemBinder<I> {
+        void bind(I item, int index);
+    }
+}
@@ -14,9 +14,4 @@ public class BottomCenterPosition extends NotificationPosition {
         element.style.setProperty("right", "0px");
         element.style.setProperty("left", "0px");
     }
-
-    @Override
-    protected int getOffsetPosition(HTMLElement element) {
-        return 20;
-    }
 }
@@ -19,9 +19,4 @@ public class BottomLeftPosition extends NotificationPosition {
         element.style.setProperty("bottom", "20px");
         element.style.setProperty("left", "20px");
     }
-
-    @Override
-    protected int getOffsetPosition(HTMLElement element) {
-        return 20;
-    }
 }
@@ -13,9 +13,4 @@ public class BottomRightPosition extends NotificationPosition {
         element.style.setProperty("bottom", "20px");
         element.style.setProperty("right", "20px");
     }
-
-    @Override
-    protected int getOffsetPosition(HTMLElement element) {
-        return 20;
-    }
 }
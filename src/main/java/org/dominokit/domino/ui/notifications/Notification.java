@@ -5,13 +5,17 @@ import org.dominokit.domino.ui.animations.Transition;
 import elemental2.dom.*;
 import org.dominokit.domino.ui.style.Color;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.gwtproject.timer.client.Timer;
 import org.jboss.gwt.elemento.core.IsElement;
 import org.jboss.gwt.elemento.template.DataElement;
 import org.jboss.gwt.elemento.template.Templated;
 
 import javax.annotation.PostConstruct;
+import java.util.Objects;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.span;
 
 @Templated
 public abstract class Notification extends BaseDominoElement<HTMLDivElement, Notification> implements IsElement<HTMLDivElement> {
@@ -36,6 +40,17 @@ public abstract class Notification extends BaseDominoElement<HTMLDivElement, Not
     private Position position = TOP_RIGHT;
     private Color background=Color.BLACK;
     private String type;
+    private int count = 1;
+    private HTMLElement countBadge;
+    private Timer closeTimer = new Timer() {
+        @Override
+        public void run() {
+            Animation.create(asElement())
+                    .transition(outTransition)
+                    .callback(e -> close())
+                    .animate();
+        }
+    };
 
     @PostConstruct
     void init(){
@@ -75,10 +90,35 @@ public abstract class Notification extends BaseDominoElement<HTMLDivElement, Not
     }
 
     private  void close() {
-        int dataPosition = Integer.parseInt(asElement().getAttribute("data-position"));
-        int height=asElement().offsetHeight;
+        closeTimer.cancel();
+        if (isNull(asElement().parentNode)) {
+            return;
+        }
+        position.onRemoveElement(asElement());
         asElement().remove();
-        position.onRemoveElement(dataPosition, height);
+    }
+
+    boolean isDuplicateOf(Notification other) {
+        return Objects.equals(type, other.type)
+                && Objects.equals(background, other.background)
+                && Objects.equals(messageSpan.textContent, other.messageSpan.textContent);
+    }
+
+    void onDuplicate() {
+        count++;
+        if (isNull(countBadge)) {
+            countBadge = span().css("badge").style("margin-left: 10px;").asElement();
+            asElement().appendChild(countBadge);
+        }
+        countBadge.textContent = String.valueOf(count);
+        if (closeTimer.isRunning()) {
+            closeTimer.cancel();
+            closeTimer.schedule(duration);
+        }
+    }
+
+    public int getCount() {
+        return count;
     }
 
     public Notification duration(int duration) {
@@ -123,26 +163,37 @@ public abstract class Notification extends BaseDominoElement<HTMLDivElement, Not
     }
 
     public Notification show() {
+        if (!position.onShow(this)) {
+            return this;
+        }
         position.onBeforeAttach(asElement());
         DomGlobal.document.body.appendChild(asElement());
         position.onNewElement(asElement());
         Animation.create(asElement())
                 .transition(inTransition)
-                .callback(e -> Animation.create(asElement())
-                        .delay(duration)
-                        .transition(outTransition)
-                        .callback(e2 -> asElement().remove())
-                        .animate())
+                .callback(e -> closeTimer.schedule(duration))
                 .animate();
 
         return this;
     }
 
     public interface Position {
+        /**
+         * Called before a notification is shown, returning false means the position took over the notification, for
+         * example by queuing it or merging it with an already visible one, and it should not be attached now.
+         */
+        default boolean onShow(Notification notification) {
+            return true;
+        }
+
         void onBeforeAttach(HTMLElement element);
 
         void onNewElement(HTMLElement element);
 
         void onRemoveElement(int dataPosition, int height);
+
+        default void onRemoveElement(HTMLElement element) {
+            onRemoveElement(Integer.parseInt(element.getAttribute(NotificationPosition.DATA_POSITION)), element.offsetHeight);
+        }
     }
 }
@@ -1,69 +1,184 @@
 package org.dominokit.domino.ui.notifications;
 
-import elemental2.dom.Element;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLElement;
-import jsinterop.base.Js;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
-import static elemental2.dom.DomGlobal.document;
+import static java.util.Objects.nonNull;
 
 public abstract class NotificationPosition implements Notification.Position {
 
     public static final String DATA_POSITION = "data-position";
+    private static final int SPACING = 20;
 
     private final String selector;
     private final String positionProprety;
 
+    private final List<StackEntry> stack = new ArrayList<>();
+    private final List<Notification> queue = new ArrayList<>();
+    private int maxVisible = Integer.MAX_VALUE;
+    private boolean coalesceDuplicates = false;
+    private boolean layoutScheduled = false;
+
     protected NotificationPosition(String selector, String positionProprety) {
         this.selector = selector;
         this.positionProprety = positionProprety;
     }
 
+    @Override
+    public boolean onShow(Notification notification) {
+        if (coalesceDuplicates) {
+            for (StackEntry entry : stack) {
+                if (entry.notification.isDuplicateOf(notification)) {
+                    entry.notification.onDuplicate();
+                    entry.height = -1;
+                    scheduleLayout();
+                    return false;
+                }
+            }
+            for (Notification queued : queue) {
+                if (queued.isDuplicateOf(notification)) {
+                    queued.onDuplicate();
+                    return false;
+                }
+            }
+        }
+        if (stack.size() >= maxVisible) {
+            queue.add(notification);
+            return false;
+        }
+        stack.add(0, new StackEntry(notification));
+        return true;
+    }
+
     @Override
     public void onBeforeAttach(HTMLElement element) {
-        element.setAttribute(DATA_POSITION, "20");
+        element.setAttribute(DATA_POSITION, SPACING);
         element.setAttribute("data-notify-position", selector);
         onBeforePosition(element);
     }
 
     protected abstract void onBeforePosition(HTMLElement element);
 
+    /**
+     * The space left after the element before the next stacked notification, it is read together with the heights
+     * during the measuring pass of the layout.
+     *
+     * @deprecated the built-in positions use the default spacing, override only to keep a custom spacing.
+     */
+    @Deprecated
+    protected int getOffsetPosition(HTMLElement element) {
+        return SPACING;
+    }
+
     @Override
     public void onNewElement(HTMLElement element) {
-        List<Element> elements = getElements();
-        elements.forEach(e -> {
-            HTMLElement htmlElement = (HTMLElement) Js.cast(e);
-            int position = getDataPosition(htmlElement);
-            if (htmlElement != element) {
-                int newPosition = position + (element.offsetHeight + getOffsetPosition(element));
-                htmlElement.setAttribute(DATA_POSITION, newPosition);
-                htmlElement.style.setProperty(positionProprety, newPosition + "px");
-            }
-        });
+        scheduleLayout();
     }
 
-    protected abstract int getOffsetPosition(HTMLElement element);
+    @Override
+    public void onRemoveElement(int dataPosition, int height) {
+        removeEntry(entry -> entry.position == dataPosition);
+    }
 
-    private int getDataPosition(HTMLElement htmlElement) {
-        return Integer.parseInt(htmlElement.getAttribute(DATA_POSITION));
+    @Override
+    public void onRemoveElement(HTMLElement element) {
+        removeEntry(entry -> entry.notification.asElement() == element);
     }
 
-    private List<Element> getElements() {
-        return document.querySelectorAll("div[data-notify-position=" + selector + "]").asList();
+    private void removeEntry(EntryMatcher matcher) {
+        Iterator<StackEntry> iterator = stack.iterator();
+        while (iterator.hasNext()) {
+            if (matcher.matches(iterator.next())) {
+                iterator.remove();
+                scheduleLayout();
+                break;
+            }
+        }
+        while (!queue.isEmpty() && stack.size() < maxVisible) {
+            queue.remove(0).show();
+        }
     }
 
-    @Override
-    public void onRemoveElement(int dataPosition, int height) {
-        List<Element> elements = getElements();
-        elements.forEach(e -> {
-            HTMLElement htmlElement = Js.cast(e);
-            int position = getDataPosition(htmlElement);
-            if (position > dataPosition) {
-                int newPosition = position - height - 20;
-                e.setAttribute(DATA_POSITION, newPosition);
-                htmlElement.style.setProperty(positionProprety, newPosition + "px");
+    private void scheduleLayout() {
+        if (!layoutScheduled) {
+            layoutScheduled = true;
+            DomGlobal.requestAnimationFrame(timestamp -> {
+                layoutScheduled = false;
+                layout();
+            });
+        }
+    }
+
+    /**
+     * Measures all the stacked notifications that were not measured yet and then writes the new positions, so a
+     * burst of notifications costs a single layout per frame.
+     */
+    private void layout() {
+        for (StackEntry entry : stack) {
+            if (entry.height < 0 && nonNull(entry.notification.asElement().parentNode)) {
+                entry.height = entry.notification.asElement().offsetHeight;
+                entry.spacing = getOffsetPosition(entry.notification.asElement());
+            }
+        }
+
+        int offset = SPACING;
+        for (StackEntry entry : stack) {
+            if (entry.height < 0) {
+                continue;
+            }
+            if (entry.position != offset) {
+                entry.position = offset;
+                HTMLElement element = entry.notification.asElement();
+                element.setAttribute(DATA_POSITION, offset);
+                element.style.setProperty(positionProprety, offset + "px");
             }
-        });
+            offset += entry.height + entry.spacing;
+        }
+    }
+
+    public NotificationPosition setMaxVisible(int maxVisible) {
+        this.maxVisible = maxVisible;
+        return this;
+    }
+
+    public int getMaxVisible() {
+        return maxVisible;
+    }
+
+    public NotificationPosition setCoalesceDuplicates(boolean coalesceDuplicates) {
+        this.coalesceDuplicates = coalesceDuplicates;
+        return this;
+    }
+
+    public boolean isCoalesceDuplicates() {
+        return coalesceDuplicates;
+    }
+
+    public int getVisibleCount() {
+        return stack.size();
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    @FunctionalInterface
+    private interface EntryMatcher {
+        boolean matches(StackEntry entry);
+    }
+
+    private static final class StackEntry {
+        private final Notification notification;
+        private int height = -1;
+        private int spacing = SPACING;
+        private int position = SPACING;
+
+        private StackEntry(Notification notification) {
+            this.notification = notification;
+        }
     }
 }
@@ -15,9 +15,4 @@ public class TopCenterPosition extends NotificationPosition {
         element.style.setProperty("left", "0px");
         element.style.setProperty("right", "0px");
     }
-
-    @Override
-    protected int getOffsetPosition(HTMLElement element) {
-        return element.offsetTop;
-    }
 }
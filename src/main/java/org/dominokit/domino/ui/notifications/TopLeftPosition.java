@@ -14,9 +14,4 @@ public class TopLeftPosition extends NotificationPosition{
         element.style.setProperty("top", "20px");
         element.style.setProperty("left", "20px");
     }
-
-    @Override
-    protected int getOffsetPosition(HTMLElement element) {
-        return element.offsetTop;
-    }
 }
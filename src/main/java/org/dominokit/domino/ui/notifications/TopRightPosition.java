@@ -13,9 +13,4 @@ public class TopRightPosition extends NotificationPosition {
         element.style.setProperty("top", "20px");
         element.style.setProperty("right", "20px");
     }
-
-    @Override
-    protected int getOffsetPosition(HTMLElement element) {
-        return element.offsetTop;
-    }
 }
@@ -22,6 +22,14 @@ public interface HasPagination{
     HasPagination updatePagesByTotalCount(int totalCount);
     HasPagination updatePagesByTotalCount(int totalCount, int pageSize);
 
+    default HasPagination updatePagesByTotalCount(long totalCount) {
+        return updatePagesByTotalCount((int) Math.min(totalCount, Integer.MAX_VALUE));
+    }
+
+    default HasPagination updatePagesByTotalCount(long totalCount, int pageSize) {
+        return updatePagesByTotalCount((int) Math.min(totalCount, Integer.MAX_VALUE), pageSize);
+    }
+
     HasPagination setPageSize(int pageSize);
     int getPageSize();
     int activePage();
@@ -7,27 +7,25 @@ import elemental2.dom.HTMLUListElement;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.style.Waves;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
-import org.dominokit.domino.ui.utils.ElementUtil;
 import org.jboss.gwt.elemento.core.EventType;
-import org.jboss.gwt.elemento.core.builder.HtmlContentBuilder;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 
 import static org.jboss.gwt.elemento.core.Elements.*;
 
 public class SimplePagination extends BaseDominoElement<HTMLElement, SimplePagination> implements HasPagination {
 
     private static final String WAVES_EFFECT = "waves-effect";
+    private static final String ELLIPSIS = "...";
+    private static final int MIN_VISIBLE_PAGES = 5;
 
     private HTMLUListElement pagesElement = ul().css("pagination").asElement();
     private HTMLElement element = nav().add(pagesElement).asElement();
-    private HTMLLIElement activePage = li().asElement();
     private HTMLLIElement prevElement;
     private HTMLLIElement nextElement;
 
-    private List<HTMLLIElement> allPages = new LinkedList<>();
+    private List<PageSlot> slots = new ArrayList<>();
     private PageChangedCallBack pageChangedCallBack = pageIndex -> {
     };
     private String size = "pagination-default";
@@ -36,6 +34,7 @@ public class SimplePagination extends BaseDominoElement<HTMLElement, SimplePagin
     private boolean markActivePage = true;
     private int pagesCount;
     private int pageSize = 10;
+    private int maxVisiblePages = 7;
 
     public static SimplePagination create() {
         return new SimplePagination();
@@ -60,6 +59,12 @@ public class SimplePagination extends BaseDominoElement<HTMLElement, SimplePagin
     public SimplePagination(int pages, int pageSize) {
         this.pagesCount = pages;
         this.pageSize = pageSize;
+        prevElement = li().add(a().css(WAVES_EFFECT).add(Icons.ALL.chevron_left().asElement())
+                .on(EventType.click, event -> moveToPage(index - 1, false)).asElement()).asElement();
+        nextElement = li().add(a().css(WAVES_EFFECT).add(Icons.ALL.chevron_right().asElement())
+                .on(EventType.click, event -> moveToPage(index + 1, false)).asElement()).asElement();
+        pagesElement.appendChild(prevElement);
+        pagesElement.appendChild(nextElement);
         updatePages(pages, pageSize);
         init(this);
     }
@@ -70,57 +75,113 @@ public class SimplePagination extends BaseDominoElement<HTMLElement, SimplePagin
 
     @Override
     public HasPagination updatePagesByTotalCount(int totalCount) {
-        int pages = (totalCount / this.pageSize) + (totalCount % this.pageSize > 0 ? 1 : 0);
-        return updatePages(pages, this.pageSize);
+        return updatePagesByTotalCount((long) totalCount, this.pageSize);
     }
 
     @Override
     public HasPagination updatePagesByTotalCount(int totalCount, int pageSize) {
-        int pages = (totalCount / pageSize) + (totalCount % pageSize > 0 ? 1 : 0);
-        return updatePages(pages, pageSize);
+        return updatePagesByTotalCount((long) totalCount, pageSize);
+    }
+
+    @Override
+    public HasPagination updatePagesByTotalCount(long totalCount) {
+        return updatePagesByTotalCount(totalCount, this.pageSize);
+    }
+
+    /**
+     * The pages count is capped at {@link Integer#MAX_VALUE} pages.
+     */
+    @Override
+    public HasPagination updatePagesByTotalCount(long totalCount, int pageSize) {
+        long pages = (totalCount / pageSize) + (totalCount % pageSize > 0 ? 1 : 0);
+        return updatePages((int) Math.min(pages, Integer.MAX_VALUE), pageSize);
     }
 
+    /**
+     * Only a window of at most {@link #getMaxVisiblePages()} page links is rendered, including the first and last
+     * page and the ellipses, the same links are updated in place when the active page changes.
+     */
     public SimplePagination updatePages(int pages, int pageSize) {
         this.pageSize = pageSize;
-        this.pagesCount = pages;
+        this.pagesCount = Math.max(0, pages);
         this.index = 1;
-        allPages.clear();
-        ElementUtil.clear(pagesElement);
-        prevElement = li().add(a().css(WAVES_EFFECT).add(Icons.ALL.chevron_left().asElement())
-                .on(EventType.click, event -> moveToPage(index - 1, false)).asElement()).asElement();
-        pagesElement.appendChild(prevElement);
-        if (pages > 0) {
-            IntStream.rangeClosed(1, pages).forEach(p -> {
-                HtmlContentBuilder<HTMLLIElement> li = li();
-                HtmlContentBuilder<HTMLAnchorElement> anchor = a().css(WAVES_EFFECT).textContent(p + "").on(EventType.click, event -> moveToPage(p, false));
-                Waves.create(anchor.asElement());
-                allPages.add(li.asElement());
-                pagesElement.appendChild(li.add(anchor).asElement());
-            });
-
+        resizeSlots();
+        if (pagesCount > 0) {
+            moveToPage(1, true);
+        } else {
+            nextElement.classList.add("disabled");
+            prevElement.classList.add("disabled");
         }
 
-        nextElement = li().add(a().css(WAVES_EFFECT).add(Icons.ALL.chevron_right().asElement())
-                .on(EventType.click, event -> moveToPage(index + 1, false)).asElement()).asElement();
+        return this;
+    }
 
-        if (pages > 0) {
-            moveToPage(1, true);
+    private void resizeSlots() {
+        int slotsCount = Math.min(pagesCount, maxVisiblePages);
+        while (slots.size() > slotsCount) {
+            slots.remove(slots.size() - 1).li.remove();
         }
+        while (slots.size() < slotsCount) {
+            PageSlot slot = new PageSlot();
+            slots.add(slot);
+            pagesElement.insertBefore(slot.li, nextElement);
+        }
+    }
 
-        if (pages <= 0) {
-            nextElement.classList.add("disabled");
-            prevElement.classList.add("disabled");
+    private void renderSlots() {
+        int[] pages = visiblePages(index, pagesCount, maxVisiblePages);
+        for (int i = 0; i < slots.size(); i++) {
+            slots.get(i).setPage(pages[i]);
         }
+    }
 
-        pagesElement.appendChild(nextElement);
+    /**
+     * The page numbers of the window around the active page, an ellipsis is represented by -1.
+     */
+    static int[] visiblePages(int activePage, int pagesCount, int maxVisiblePages) {
+        int[] pages = new int[Math.min(pagesCount, maxVisiblePages)];
+        if (pagesCount <= maxVisiblePages) {
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = i + 1;
+            }
+            return pages;
+        }
+        int middleCount = maxVisiblePages - 4;
+        int left = activePage - (middleCount - 1) / 2;
+        int right = left + middleCount - 1;
+        if (left <= 3) {
+            for (int i = 0; i < maxVisiblePages - 2; i++) {
+                pages[i] = i + 1;
+            }
+            pages[maxVisiblePages - 2] = -1;
+            pages[maxVisiblePages - 1] = pagesCount;
+        } else if (right >= pagesCount - 2) {
+            pages[0] = 1;
+            pages[1] = -1;
+            for (int i = 2; i < maxVisiblePages; i++) {
+                pages[i] = pagesCount - maxVisiblePages + i + 1;
+            }
+        } else {
+            pages[0] = 1;
+            pages[1] = -1;
+            for (int i = 0; i < middleCount; i++) {
+                pages[i + 2] = left + i;
+            }
+            pages[maxVisiblePages - 2] = -1;
+            pages[maxVisiblePages - 1] = pagesCount;
+        }
+        return pages;
+    }
 
+    public SimplePagination setMaxVisiblePages(int maxVisiblePages) {
+        this.maxVisiblePages = Math.max(MIN_VISIBLE_PAGES, maxVisiblePages);
+        resizeSlots();
+        renderSlots();
         return this;
     }
 
-    private void gotoPage(HTMLLIElement li) {
-        activePage.classList.remove("active");
-        activePage = li;
-        activePage.classList.add("active");
+    public int getMaxVisiblePages() {
+        return maxVisiblePages;
     }
 
     @Override
@@ -187,9 +248,7 @@ public class SimplePagination extends BaseDominoElement<HTMLElement, SimplePagin
     private void moveToPage(int page, boolean silent) {
         if (page > 0 && page <= pagesCount) {
             index = page;
-            if (markActivePage) {
-                gotoPage(allPages.get(page - 1));
-            }
+            renderSlots();
 
             if (!silent) {
                 pageChangedCallBack.onPageChanged(page);
@@ -210,7 +269,7 @@ public class SimplePagination extends BaseDominoElement<HTMLElement, SimplePagin
     @Override
     public SimplePagination markActivePage() {
         this.markActivePage = true;
-        gotoPage(activePage);
+        renderSlots();
         return this;
     }
 
@@ -260,4 +319,36 @@ public class SimplePagination extends BaseDominoElement<HTMLElement, SimplePagin
     public HTMLElement asElement() {
         return element;
     }
+
+    private final class PageSlot {
+        private final HTMLAnchorElement anchor = a().css(WAVES_EFFECT).asElement();
+        private final HTMLLIElement li = li().add(anchor).asElement();
+        private int page = -1;
+
+        private PageSlot() {
+            Waves.create(anchor);
+            anchor.addEventListener("click", event -> {
+                if (page > 0) {
+                    moveToPage(page, false);
+                }
+            });
+        }
+
+        private void setPage(int page) {
+            if (this.page != page) {
+                this.page = page;
+                anchor.textContent = page > 0 ? String.valueOf(page) : ELLIPSIS;
+                if (page > 0) {
+                    li.classList.remove("disabled");
+                } else {
+                    li.classList.add("disabled");
+                }
+            }
+            if (markActivePage && page == index) {
+                li.classList.add("active");
+            } else {
+                li.classList.remove("active");
+            }
+        }
+    }
 }
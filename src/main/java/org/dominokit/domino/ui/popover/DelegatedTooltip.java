@@ -0,0 +1,175 @@
+package org.dominokit.domino.ui.popover;
+
+import elemental2.dom.*;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.utils.DocumentEvents;
+import org.dominokit.domino.ui.utils.ElementUtil;
+import org.jboss.gwt.elemento.core.EventType;
+import org.jboss.gwt.elemento.core.IsElement;
+
+import static elemental2.dom.DomGlobal.document;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.div;
+
+/**
+ * Tooltips that only keep their content and position on the target element, a single tooltip element is shown for
+ * the hovered target through one document level listener and the content is built the first time the target is
+ * hovered.
+ */
+public final class DelegatedTooltip {
+
+    private static final String TOOLTIP_ATTRIBUTE = "data-delegated-tooltip";
+    private static final String TOOLTIP_PROPERTY = "__dominoDelegatedTooltip";
+
+    private static HTMLDivElement element;
+    private static HTMLDivElement innerElement;
+    private static HTMLElement currentTarget;
+    private static PopupPosition currentPosition;
+    private static boolean listening = false;
+
+    public static void set(HTMLElement target, String text) {
+        set(target, () -> DomGlobal.document.createTextNode(text));
+    }
+
+    public static void set(HTMLElement target, Node content) {
+        set(target, () -> content);
+    }
+
+    public static void set(HTMLElement target, ContentBuilder contentBuilder) {
+        TooltipData data = getData(target);
+        set(target, contentBuilder, nonNull(data) ? data.position : PopupPosition.TOP);
+    }
+
+    public static void set(HTMLElement target, ContentBuilder contentBuilder, PopupPosition position) {
+        if (!listening) {
+            DocumentEvents.addListener(EventType.mouseover.getName(), DelegatedTooltip::onMouseOver);
+            DocumentEvents.addListener(EventType.mouseout.getName(), DelegatedTooltip::onMouseOut);
+            listening = true;
+        }
+        Js.asPropertyMap(target).set(TOOLTIP_PROPERTY, new TooltipData(contentBuilder, position));
+        target.setAttribute(TOOLTIP_ATTRIBUTE, "");
+        if (target == currentTarget) {
+            show(target);
+        }
+    }
+
+    public static void set(IsElement target, String text) {
+        set(target.asElement(), text);
+    }
+
+    public static void set(IsElement target, ContentBuilder contentBuilder) {
+        set(target.asElement(), contentBuilder);
+    }
+
+    public static void setPosition(HTMLElement target, PopupPosition position) {
+        TooltipData data = getData(target);
+        if (nonNull(data)) {
+            data.position = position;
+            if (target == currentTarget) {
+                show(target);
+            }
+        }
+    }
+
+    public static void remove(HTMLElement target) {
+        if (target == currentTarget) {
+            hide();
+        }
+        Js.asPropertyMap(target).delete(TOOLTIP_PROPERTY);
+        target.removeAttribute(TOOLTIP_ATTRIBUTE);
+    }
+
+    private static void onMouseOver(Event evt) {
+        HTMLElement target = findTarget(evt.target);
+        if (isNull(target)) {
+            hide();
+        } else if (target != currentTarget) {
+            show(target);
+        }
+    }
+
+    private static void onMouseOut(Event evt) {
+        if (nonNull(currentTarget)) {
+            EventTarget relatedTarget = ((MouseEvent) evt).relatedTarget;
+            if (isNull(relatedTarget) || !currentTarget.contains(Js.uncheckedCast(relatedTarget))) {
+                hide();
+            }
+        }
+    }
+
+    private static HTMLElement findTarget(EventTarget eventTarget) {
+        if (isNull(eventTarget)) {
+            return null;
+        }
+        Node node = Js.uncheckedCast(eventTarget);
+        if (Node.ELEMENT_NODE != node.nodeType) {
+            return null;
+        }
+        Element element = Js.uncheckedCast(node);
+        return Js.uncheckedCast(element.closest("[" + TOOLTIP_ATTRIBUTE + "]"));
+    }
+
+    private static void show(HTMLElement target) {
+        TooltipData data = getData(target);
+        if (isNull(data)) {
+            hide();
+            return;
+        }
+        if (isNull(element)) {
+            element = div().css("tooltip").attr("role", "tooltip").asElement();
+            innerElement = div().css("tooltip-inner").asElement();
+            element.appendChild(div().css("tooltip-arrow").asElement());
+            element.appendChild(innerElement);
+        }
+        if (nonNull(currentPosition)) {
+            element.classList.remove(currentPosition.getDirectionClass());
+        }
+        currentTarget = target;
+        currentPosition = data.position;
+        ElementUtil.clear(innerElement);
+        innerElement.appendChild(data.getContent());
+        element.classList.add(currentPosition.getDirectionClass());
+        document.body.appendChild(element);
+        element.classList.remove("fade", "in");
+        element.classList.add("fade", "in");
+        currentPosition.position(element, target);
+    }
+
+    private static void hide() {
+        currentTarget = null;
+        if (nonNull(element)) {
+            element.remove();
+        }
+    }
+
+    private static TooltipData getData(HTMLElement target) {
+        return Js.uncheckedCast(Js.asPropertyMap(target).get(TOOLTIP_PROPERTY));
+    }
+
+    private DelegatedTooltip() {
+    }
+
+    @FunctionalInterface
+    public interface ContentBuilder {
+        Node build();
+    }
+
+    private static final class TooltipData {
+        private final ContentBuilder contentBuilder;
+        private PopupPosition position;
+        private Node content;
+
+        private TooltipData(ContentBuilder contentBuilder, PopupPosition position) {
+            this.contentBuilder = contentBuilder;
+            this.position = position;
+        }
+
+        private Node getContent() {
+            if (isNull(content)) {
+                content = contentBuilder.build();
+            }
+            return content;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.dominokit.domino.ui.popover;
 
 import elemental2.dom.*;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.DocumentEvents;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.ElementUtil;
 import org.dominokit.domino.ui.utils.Switchable;
@@ -19,6 +20,7 @@ import static org.jboss.gwt.elemento.core.Elements.h;
 public class Popover extends BaseDominoElement<HTMLDivElement, Popover> implements Switchable<Popover> {
 
     private static List<Popover> currentVisible=new ArrayList<>();
+    private static final EventListener closeListener = evt -> closeAll();
     private final Text headerText;
     private final HTMLElement targetElement;
 
@@ -33,7 +35,6 @@ public class Popover extends BaseDominoElement<HTMLDivElement, Popover> implemen
 
     private boolean closeOthers=true;
     private final EventListener showListener;
-    private final EventListener closeListener;
     private boolean disabled=false;
 
     public Popover(HTMLElement target, String title, Node content) {
@@ -54,12 +55,9 @@ public class Popover extends BaseDominoElement<HTMLDivElement, Popover> implemen
         };
         target.addEventListener(EventType.click.getName(), showListener);
 
-        closeListener = evt -> closeAll();
-        DomGlobal.document.body.addEventListener(EventType.click.getName(), closeListener);
-
         element.addEventListener(EventType.click.getName(), Event::stopPropagation);
 
-        ElementUtil.onDetach(targetElement, mutationRecord -> element.remove());
+        ElementUtil.onDetach(targetElement, mutationRecord -> close());
 
         init(this);
 
@@ -71,17 +69,15 @@ public class Popover extends BaseDominoElement<HTMLDivElement, Popover> implemen
                 closeOthers();
             }
             open(targetElement);
-            currentVisible.add(Popover.this);
         }
     }
 
-    private void closeAll() {
-        closeOthers();
+    private static void closeAll() {
+        new ArrayList<>(currentVisible).forEach(Popover::close);
     }
 
     private void closeOthers() {
-        currentVisible.forEach(Popover::close);
-        currentVisible.clear();
+        closeAll();
     }
 
     private void open(HTMLElement target) {
@@ -94,18 +90,24 @@ public class Popover extends BaseDominoElement<HTMLDivElement, Popover> implemen
             popupPosition.position(element, target);
             position(popupPosition);
             visible = true;
+            currentVisible.add(this);
+            if (currentVisible.size() == 1) {
+                DocumentEvents.addListener(EventType.click.getName(), closeListener);
+            }
         }
     }
 
     public void close() {
         asElement().remove();
         visible = false;
+        if (currentVisible.remove(this) && currentVisible.isEmpty()) {
+            DocumentEvents.removeListener(EventType.click.getName(), closeListener);
+        }
     }
 
     public void discard(){
         close();
         targetElement.removeEventListener(EventType.click.getName(), showListener);
-        DomGlobal.document.removeEventListener(EventType.click.getName(), closeListener);
     }
 
     public static Popover createPicker(HTMLElement target, Node content) {
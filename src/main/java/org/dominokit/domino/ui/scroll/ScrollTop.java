@@ -19,7 +19,7 @@ public class ScrollTop extends BaseButton<ScrollTop> {
         init(this);
         circle(CircleSize.LARGE);
         setBackground(Color.THEME);
-        style.add("top-scroller");
+        style().add("top-scroller");
         collapse();
         addClickListener(evt -> ElementUtil.scrollTop());
 
@@ -33,12 +33,12 @@ public class ScrollTop extends BaseButton<ScrollTop> {
     }
 
     public ScrollTop setBottom(int bottom) {
-        style.setBottom(bottom + "px");
+        style().setBottom(bottom + "px");
         return this;
     }
 
     public ScrollTop setRight(int right) {
-        style.setRight(right + "px");
+        style().setRight(right + "px");
         return this;
     }
 
@@ -18,6 +18,7 @@ abstract class BaseSplitPanel<T extends BaseSplitPanel<T,S>, S extends BaseSplit
     private List<S> splitters = new LinkedList<>();
     private ColorScheme colorScheme = ColorScheme.INDIGO;
     private int splitterSize = 10;
+    private boolean ghostResize = false;
 
     public BaseSplitPanel(String splitterStyle) {
         element.style().add(splitterStyle);
@@ -71,6 +72,7 @@ abstract class BaseSplitPanel<T extends BaseSplitPanel<T,S>, S extends BaseSplit
             S splitter = createSplitter(panels.get(panels.size() - 2), panel, this);
             splitter.setColorScheme(colorScheme);
             splitter.setSize(splitterSize);
+            splitter.setGhostResize(ghostResize);
             splitters.add(splitter);
             element.appendChild(splitter);
             element.appendChild(panel);
@@ -92,6 +94,16 @@ abstract class BaseSplitPanel<T extends BaseSplitPanel<T,S>, S extends BaseSplit
         return (T) this;
     }
 
+    public T setGhostResize(boolean ghostResize) {
+        this.ghostResize = ghostResize;
+        splitters.forEach(splitter -> splitter.setGhostResize(ghostResize));
+        return (T) this;
+    }
+
+    public boolean isGhostResize() {
+        return ghostResize;
+    }
+
     public T setSplitterSize(int size) {
         this.splitterSize = size;
         splitters.forEach(hSplitter -> hSplitter.setSize(size));
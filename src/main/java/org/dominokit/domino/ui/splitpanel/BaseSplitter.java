@@ -1,9 +1,7 @@
 package org.dominokit.domino.ui.splitpanel;
 
-import elemental2.dom.EventListener;
-import elemental2.dom.HTMLDivElement;
-import elemental2.dom.MouseEvent;
-import elemental2.dom.TouchEvent;
+import elemental2.core.Function;
+import elemental2.dom.*;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.style.ColorScheme;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
@@ -11,11 +9,13 @@ import org.dominokit.domino.ui.utils.DominoElement;
 import org.jboss.gwt.elemento.core.EventType;
 
 import static elemental2.dom.DomGlobal.document;
+import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.div;
 
 abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement<HTMLDivElement, T> {
 
     private static final int LEFT_BUTTON = 1;
+    private static final String GHOST_STYLE = "splitter-ghost";
 
     protected DominoElement<HTMLDivElement> element = DominoElement.of(div().css("splitter"));
     private DominoElement<HTMLDivElement> handleElement = DominoElement.of(div().css("split-handle"));
@@ -25,51 +25,147 @@ abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement
     private double firstSize = 0;
     private double secondSize = 0;
 
+    private final SplitPanel first;
+    private final SplitPanel second;
+    private final HasSize mainPanel;
+    private boolean dragging = false;
+    private boolean frameScheduled = false;
+    private double latestPosition = 0;
+    private double ghostPosition = 0;
+    private double pointerId = -1;
+    private boolean ghostResize = false;
+
+    private final EventListener documentMouseMoveListener = evt -> {
+        MouseEvent mouseEvent = Js.uncheckedCast(evt);
+        if (LEFT_BUTTON == mouseEvent.buttons) {
+            moveTo(mousePosition(mouseEvent));
+        } else {
+            endDrag();
+        }
+    };
+    private final EventListener documentMouseUpListener = evt -> endDrag();
+
     private ColorScheme colorScheme = ColorScheme.INDIGO;
 
     BaseSplitter(SplitPanel first, SplitPanel second, HasSize mainPanel) {
+        this.first = first;
+        this.second = second;
+        this.mainPanel = mainPanel;
         element.appendChild(handleElement);
 
+        if (supportsPointerEvents()) {
+            element.addEventListener("pointerdown", evt -> {
+                if (dragging || Js.asPropertyMap(evt).getAny("button").asInt() != 0) {
+                    return;
+                }
+                evt.preventDefault();
+                pointerId = Js.asPropertyMap(evt).getAny("pointerId").asDouble();
+                callElementMethod("setPointerCapture", pointerId);
+                startDrag(mousePosition(Js.uncheckedCast(evt)));
+            });
+            element.addEventListener("pointermove", evt -> {
+                if (dragging && isCapturedPointer(evt)) {
+                    moveTo(mousePosition(Js.uncheckedCast(evt)));
+                }
+            });
+            EventListener pointerUpListener = evt -> {
+                if (dragging && isCapturedPointer(evt)) {
+                    latestPosition = mousePosition(Js.uncheckedCast(evt));
+                    endDrag();
+                }
+            };
+            element.addEventListener("pointerup", pointerUpListener);
+            element.addEventListener("pointercancel", pointerUpListener);
+        } else {
+            element.addEventListener(EventType.mousedown.getName(), evt -> {
+                MouseEvent mouseEvent = Js.uncheckedCast(evt);
+                if (dragging || LEFT_BUTTON != mouseEvent.buttons) {
+                    return;
+                }
+                startDrag(mousePosition(mouseEvent));
+                document.addEventListener(EventType.mousemove.getName(), documentMouseMoveListener);
+                document.addEventListener(EventType.mouseup.getName(), documentMouseUpListener);
+            });
+
+            element.addEventListener(EventType.touchstart.getName(), evt -> {
+                evt.preventDefault();
+                evt.stopPropagation();
+                if (!dragging) {
+                    startDrag(touchPosition(Js.uncheckedCast(evt)));
+                }
+            });
+            element.addEventListener(EventType.touchmove.getName(), evt -> {
+                evt.preventDefault();
+                evt.stopPropagation();
+                if (dragging) {
+                    moveTo(touchPosition(Js.uncheckedCast(evt)));
+                }
+            });
+            element.addEventListener(EventType.touchend.getName(), evt -> endDrag());
+            element.addEventListener(EventType.touchcancel.getName(), evt -> endDrag());
+        }
+    }
 
-        EventListener resizeListener = evt -> {
-            MouseEvent mouseEvent = Js.uncheckedCast(evt);
-
-            if (LEFT_BUTTON == mouseEvent.buttons) {
-                double currentPosition = mousePosition(mouseEvent);
-                resize(first, second, currentPosition);
-            }
-        };
-
-        EventListener touchResizeListener = evt -> {
-            evt.preventDefault();
-            evt.stopPropagation();
-            TouchEvent touchEvent = Js.uncheckedCast(evt);
-            double currentPosition = touchPosition(touchEvent);
-            resize(first, second, currentPosition);
-        };
+    private static boolean supportsPointerEvents() {
+        return Js.asPropertyMap(DomGlobal.window).has("PointerEvent");
+    }
 
-        element.addEventListener(EventType.mousedown.getName(), evt -> {
-            MouseEvent mouseEvent = Js.uncheckedCast(evt);
-            initialStartPosition = mousePosition(mouseEvent);
-            startResize(first, second, mainPanel);
-            document.body.addEventListener(EventType.mousemove.getName(), resizeListener);
-        });
+    private boolean isCapturedPointer(Event evt) {
+        return Js.asPropertyMap(evt).getAny("pointerId").asDouble() == pointerId;
+    }
 
-        element.addEventListener(EventType.touchstart.getName(), evt -> {
-            evt.preventDefault();
-            evt.stopPropagation();
-            TouchEvent touchEvent = Js.uncheckedCast(evt);
-            initialStartPosition = touchPosition(touchEvent);
-            startResize(first, second, mainPanel);
-            document.body.addEventListener(EventType.touchmove.getName(), touchResizeListener);
+    private void callElementMethod(String name, double pointerId) {
+        Function method = Js.uncheckedCast(Js.asPropertyMap(asElement()).get(name));
+        if (nonNull(method)) {
+            method.call(asElement(), pointerId);
+        }
+    }
 
-        });
+    private void startDrag(double position) {
+        initialStartPosition = position;
+        latestPosition = position;
+        ghostPosition = position;
+        startResize(first, second, mainPanel);
+        dragging = true;
+        if (ghostResize) {
+            element.style().add(GHOST_STYLE);
+        }
+    }
 
-        element.addEventListener(EventType.mouseup.getName(), evt -> document.body.removeEventListener(EventType.mousemove.getName(), resizeListener));
-        element.addEventListener(EventType.touchend.getName(), evt -> document.body.removeEventListener(EventType.touchmove.getName(), touchResizeListener));
+    /**
+     * Keeps the latest pointer position and resizes once per animation frame, so the panels are laid out at most
+     * once per frame however many move events the browser sends.
+     */
+    private void moveTo(double position) {
+        latestPosition = position;
+        if (!frameScheduled) {
+            frameScheduled = true;
+            DomGlobal.requestAnimationFrame(timestamp -> {
+                frameScheduled = false;
+                if (dragging) {
+                    resize(first, second, latestPosition);
+                }
+            });
+        }
+    }
 
-        document.body.addEventListener(EventType.mouseup.getName(), evt -> document.body.removeEventListener(EventType.mousemove.getName(), resizeListener));
-        document.body.addEventListener(EventType.touchend.getName(), evt -> document.body.removeEventListener(EventType.touchmove.getName(), touchResizeListener));
+    private void endDrag() {
+        if (!dragging) {
+            return;
+        }
+        dragging = false;
+        document.removeEventListener(EventType.mousemove.getName(), documentMouseMoveListener);
+        document.removeEventListener(EventType.mouseup.getName(), documentMouseUpListener);
+        if (pointerId >= 0) {
+            callElementMethod("releasePointerCapture", pointerId);
+            pointerId = -1;
+        }
+        if (ghostResize) {
+            element.style().remove(GHOST_STYLE).removeProperty("transform");
+            resize(first, second, ghostPosition);
+        } else {
+            resize(first, second, latestPosition);
+        }
     }
 
     private void resize(SplitPanel first, SplitPanel second, double currentPosition) {
@@ -81,9 +177,14 @@ abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement
         double secondPercent = ((secondSize / fullSize) * 100);
 
         if (withinPanelLimits(first, firstSize, firstPercent) && withinPanelLimits(second, secondSize, secondPercent)) {
-            setNewSizes(first, second, firstPercent, secondPercent);
-            first.onResize(firstSize, firstPercent);
-            second.onResize(secondSize, secondPercent);
+            if (ghostResize && dragging) {
+                ghostPosition = currentPosition;
+                element.style().setProperty("transform", translate(diff));
+            } else {
+                setNewSizes(first, second, firstPercent, secondPercent);
+                first.onResize(firstSize, firstPercent);
+                second.onResize(secondSize, secondPercent);
+            }
         }
     }
 
@@ -105,6 +206,8 @@ abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement
 
     protected abstract double touchPosition(TouchEvent event);
 
+    protected abstract String translate(double offset);
+
     private boolean withinPanelLimits(SplitPanel panel, double topSize, double topPercent) {
         return withinPanelSize(panel, topSize) && withinPanelPercent(panel, topPercent);
     }
@@ -117,6 +220,18 @@ abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement
         return percent > panel.getMinPercent() && (((panel.getMaxPercent() > -1) && percent < panel.getMaxPercent()) || panel.getMaxPercent() < 0);
     }
 
+    /**
+     * When enabled, the splitter only moves while dragging and the panels are resized once it is released.
+     */
+    public T setGhostResize(boolean ghostResize) {
+        this.ghostResize = ghostResize;
+        return (T) this;
+    }
+
+    public boolean isGhostResize() {
+        return ghostResize;
+    }
+
     public ColorScheme getColorScheme() {
         return colorScheme;
     }
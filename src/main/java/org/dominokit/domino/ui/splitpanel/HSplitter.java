@@ -43,4 +43,9 @@ class HSplitter extends BaseSplitter<HSplitter> {
     public void setSize(int size) {
         setWidth(size + "px");
     }
+
+    @Override
+    protected String translate(double offset) {
+        return "translateX(" + offset + "px)";
+    }
 }
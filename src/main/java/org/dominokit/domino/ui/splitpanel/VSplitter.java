@@ -48,4 +48,9 @@ class VSplitter extends BaseSplitter<VSplitter> {
     public void setSize(int size) {
         setHeight(size + "px");
     }
+
+    @Override
+    protected String translate(double offset) {
+        return "translateY(" + offset + "px)";
+    }
 }
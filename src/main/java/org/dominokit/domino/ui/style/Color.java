@@ -12,4845 +12,240 @@ public interface Color {
 
     String getBackground();
 
-    Color RED = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED";
-        }
-
-        @Override
-        public String getHex() {
-            return "#F44336";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-red";
-        }
-    };
-
-    Color RED_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e53935";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-red";
-        }
-    };
-
-    Color RED_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e57373";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-red";
-        }
-    };
-
-    Color RED_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ef9a9a";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-red";
-        }
-    };
-
-    Color RED_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffcdd2";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-red";
-        }
-    };
-
-    Color RED_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffebee";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-red";
-        }
-    };
-
-    Color RED_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ef5350";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-red";
-        }
-    };
-
-    Color RED_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#d32f2f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-red";
-        }
-    };
-
-    Color RED_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#c62828";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-red";
-        }
-    };
-
-    Color RED_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-red";
-        }
-
-        @Override
-        public String getName() {
-            return "RED DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#b71c1c";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-red";
-        }
-    };
-
-    Color PINK = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK";
-        }
-
-        @Override
-        public String getHex() {
-            return "#E91E63";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-pink";
-        }
-    };
-
-    Color PINK_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ec407a";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-pink";
-        }
-    };
-
-    Color PINK_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f06292";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-pink";
-        }
-    };
-
-    Color PINK_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f48fb1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-pink";
-        }
-    };
-
-    Color PINK_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f8bbd0";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-pink";
-        }
-    };
-
-    Color PINK_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fce4ec";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-pink";
-        }
-    };
-
-    Color PINK_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#d81b60";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-pink";
-        }
-    };
-
-    Color PINK_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#c2185b";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-pink";
-        }
-    };
-
-    Color PINK_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ad1457";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-pink";
-        }
-    };
-
-    Color PINK_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-pink";
-        }
-
-        @Override
-        public String getName() {
-            return "PINK DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#880e4f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-pink";
-        }
-    };
-
-    Color PURPLE = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE";
-        }
-
-        @Override
-        public String getHex() {
-            return "#9C27B0";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-purple";
-        }
-    };
-
-    Color PURPLE_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ab47bc";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-purple";
-        }
-    };
-
-    Color PURPLE_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ba68c8";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-purple";
-        }
-    };
-
-    Color PURPLE_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ce93d8";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-purple";
-        }
-    };
-
-    Color PURPLE_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e1bee7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-purple";
-        }
-    };
-
-    Color PURPLE_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f3e5f5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-purple";
-        }
-    };
-
-    Color PURPLE_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#8e24aa";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-purple";
-        }
-    };
-
-    Color PURPLE_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#7b1fa2";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-purple";
-        }
-    };
-
-    Color PURPLE_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#6a1b9a";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-purple";
-        }
-    };
-
-    Color PURPLE_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "PURPLE DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#4a148c";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-purple";
-        }
-    };
-
-    Color DEEP_PURPLE = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE";
-        }
-
-        @Override
-        public String getHex() {
-            return "#673AB7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#7e57c2";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#9575cd";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#b39ddb";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#d1c4e9";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ede7f6";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#5e35b1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#512da8";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#4527a0";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-deep-purple";
-        }
-    };
-
-    Color DEEP_PURPLE_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-deep-purple";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP PURPLE DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#311b92";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-deep-purple";
-        }
-    };
-
-    Color INDIGO = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO";
-        }
-
-        @Override
-        public String getHex() {
-            return "#3F51B5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-indigo";
-        }
-    };
-
-    Color INDIGO_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#5c6bc0";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-indigo";
-        }
-    };
-
-    Color INDIGO_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#7986cb";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-indigo";
-        }
-    };
-
-    Color INDIGO_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#9fa8da";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-indigo";
-        }
-    };
-
-    Color INDIGO_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#c5cae9";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-indigo";
-        }
-    };
-
-    Color INDIGO_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e8eaf6";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-indigo";
-        }
-    };
-
-    Color INDIGO_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#3949ab";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-indigo";
-        }
-    };
-
-    Color INDIGO_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#303f9f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-indigo";
-        }
-    };
-
-    Color INDIGO_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#283593";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-indigo";
-        }
-    };
-
-    Color INDIGO_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-indigo";
-        }
-
-        @Override
-        public String getName() {
-            return "INDIGO DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#1a237e";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-indigo";
-        }
-    };
-
-    Color BLUE = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE";
-        }
-
-        @Override
-        public String getHex() {
-            return "#2196F3";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-blue";
-        }
-    };
-
-    Color BLUE_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#42a5f5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-blue";
-        }
-    };
-
-    Color BLUE_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#64b5f6";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-blue";
-        }
-    };
-
-    Color BLUE_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#90caf9";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-blue";
-        }
-    };
-
-    Color BLUE_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#bbdefb";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-blue";
-        }
-    };
-
-    Color BLUE_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e3f2fd";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-blue";
-        }
-    };
-
-    Color BLUE_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#1e88e5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-blue";
-        }
-    };
-
-    Color BLUE_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#1976d2";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-blue";
-        }
-    };
-
-    Color BLUE_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#1565c0";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-blue";
-        }
-    };
-
-    Color BLUE_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#0d47a1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-blue";
-        }
-    };
-
-    Color LIGHT_BLUE = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE";
-        }
-
-        @Override
-        public String getHex() {
-            return "#03A9F4";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#29b6f6";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#4fc3f7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#81d4fa";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#b3e5fc";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e1f5fe";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#039be5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#0288d1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#0277bd";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-light-blue";
-        }
-    };
-
-    Color LIGHT_BLUE_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-light-blue";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT BLUE DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#01579b";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-light-blue";
-        }
-    };
-
-    Color CYAN = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN";
-        }
-
-        @Override
-        public String getHex() {
-            return "#00BCD4";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-cyan";
-        }
-    };
-
-    Color CYAN_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#26c6da";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-cyan";
-        }
-    };
-
-    Color CYAN_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#4dd0e1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-cyan";
-        }
-    };
-
-    Color CYAN_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#80deea";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-cyan";
-        }
-    };
-
-    Color CYAN_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#b2ebf2";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-cyan";
-        }
-    };
-
-    Color CYAN_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e0f7fa";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-cyan";
-        }
-    };
-
-    Color CYAN_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#00acc1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-cyan";
-        }
-    };
-
-    Color CYAN_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#0097a7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-cyan";
-        }
-    };
-
-    Color CYAN_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#00838f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-cyan";
-        }
-    };
-
-    Color CYAN_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-cyan";
-        }
-
-        @Override
-        public String getName() {
-            return "CYAN DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#006064";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-cyan";
-        }
-    };
-
-    Color TEAL = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL";
-        }
-
-        @Override
-        public String getHex() {
-            return "#009688";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-teal";
-        }
-    };
-
-    Color TEAL_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#26a69a";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-teal";
-        }
-    };
-
-    Color TEAL_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#4db6ac";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-teal";
-        }
-    };
-
-    Color TEAL_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#80cbc4";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-teal";
-        }
-    };
-
-    Color TEAL_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#b2dfdb";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-teal";
-        }
-    };
-
-    Color TEAL_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e0f2f1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-teal";
-        }
-    };
-
-    Color TEAL_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#00897b";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-teal";
-        }
-    };
-
-    Color TEAL_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#00796b";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-teal";
-        }
-    };
-
-    Color TEAL_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#00695c";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-teal";
-        }
-    };
-
-    Color TEAL_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-teal";
-        }
-
-        @Override
-        public String getName() {
-            return "TEAL DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#004d40";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-teal";
-        }
-    };
-
-    Color GREEN = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN";
-        }
-
-        @Override
-        public String getHex() {
-            return "#4CAF50";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-green";
-        }
-    };
-
-    Color GREEN_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#66bb6a";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-green";
-        }
-    };
-
-    Color GREEN_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#81c784";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-green";
-        }
-    };
-
-    Color GREEN_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#a5d6a7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-green";
-        }
-    };
-
-    Color GREEN_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#c8e6c9";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-green";
-        }
-    };
-
-    Color GREEN_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e8f5e9";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-green";
-        }
-    };
-
-    Color GREEN_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#43a047";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-green";
-        }
-    };
-
-    Color GREEN_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#388e3c";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-green";
-        }
-    };
-
-    Color GREEN_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#2e7d32";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-green";
-        }
-    };
-
-    Color GREEN_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-green";
-        }
-
-        @Override
-        public String getName() {
-            return "GREEN DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#1b5e20";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-green";
-        }
-    };
-
-    Color LIGHT_GREEN = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN";
-        }
-
-        @Override
-        public String getHex() {
-            return "#8BC34A";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#9ccc65";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#aed581";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#c5e1a5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#dcedc8";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f1f8e9";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#7cb342";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#689f38";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#558b2f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-light-green";
-        }
-    };
-
-    Color LIGHT_GREEN_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-light-green";
-        }
-
-        @Override
-        public String getName() {
-            return "LIGHT GREEN DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#33691e";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-light-green";
-        }
-    };
-
-    Color LIME = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME";
-        }
-
-        @Override
-        public String getHex() {
-            return "#CDDC39";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-lime";
-        }
-    };
-
-    Color LIME_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#d4e157";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-lime";
-        }
-    };
-
-    Color LIME_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#dce775";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-lime";
-        }
-    };
-
-    Color LIME_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e6ee9c";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-lime";
-        }
-    };
-
-    Color LIME_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f0f4c3";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-lime";
-        }
-    };
-
-    Color LIME_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f9fbe7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-lime";
-        }
-    };
-
-    Color LIME_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#c0ca33";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-lime";
-        }
-    };
-
-    Color LIME_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#afb42b";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-lime";
-        }
-    };
-
-    Color LIME_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#9e9d24";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-lime";
-        }
-    };
-
-    Color LIME_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-lime";
-        }
-
-        @Override
-        public String getName() {
-            return "LIME DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#827717";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-lime";
-        }
-    };
-
-    Color YELLOW = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW";
-        }
-
-        @Override
-        public String getHex() {
-            return "#FFEB3B";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-yellow";
-        }
-    };
-
-    Color YELLOW_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffee58";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-yellow";
-        }
-    };
-
-    Color YELLOW_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#dce775";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-yellow";
-        }
-    };
-
-    Color YELLOW_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fff59d";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-yellow";
-        }
-    };
-
-    Color YELLOW_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fff9c4";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-yellow";
-        }
-    };
-
-    Color YELLOW_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fffde7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-yellow";
-        }
-    };
-
-    Color YELLOW_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fdd835";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-yellow";
-        }
-    };
-
-    Color YELLOW_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fbc02d";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-yellow";
-        }
-    };
-
-    Color YELLOW_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f9a825";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-yellow";
-        }
-    };
-
-    Color YELLOW_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-yellow";
-        }
-
-        @Override
-        public String getName() {
-            return "YELLOW DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f57f17";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-yellow";
-        }
-    };
-
-    Color AMBER = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER";
-        }
-
-        @Override
-        public String getHex() {
-            return "#FFC107";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-amber";
-        }
-    };
-
-    Color AMBER_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffca28";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-amber";
-        }
-    };
-
-    Color AMBER_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffd54f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-amber";
-        }
-    };
-
-    Color AMBER_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffe082";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-amber";
-        }
-    };
-
-    Color AMBER_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffecb3";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-amber";
-        }
-    };
-
-    Color AMBER_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fff8e1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-amber";
-        }
-    };
-
-    Color AMBER_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffb300";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-amber";
-        }
-    };
-
-    Color AMBER_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffa000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-amber";
-        }
-    };
-
-    Color AMBER_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ff8f00";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-amber";
-        }
-    };
-
-    Color AMBER_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-amber";
-        }
-
-        @Override
-        public String getName() {
-            return "AMBER DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ff6f00";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-amber";
-        }
-    };
-
-    Color ORANGE = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE";
-        }
-
-        @Override
-        public String getHex() {
-            return "#FF9800";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-orange";
-        }
-    };
-
-    Color ORANGE_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffa726";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-orange";
-        }
-    };
-
-    Color ORANGE_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffb74d";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-orange";
-        }
-    };
-
-    Color ORANGE_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffcc80";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-orange";
-        }
-    };
-
-    Color ORANGE_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffe0b2";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-orange";
-        }
-    };
-
-    Color ORANGE_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fff3e0";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-orange";
-        }
-    };
-
-    Color ORANGE_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fb8c00";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-orange";
-        }
-    };
-
-    Color ORANGE_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f57c00";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-orange";
-        }
-    };
-
-    Color ORANGE_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ef6c00";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-orange";
-        }
-    };
-
-    Color ORANGE_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "ORANGE DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e65100";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-orange";
-        }
-    };
-
-    Color DEEP_ORANGE = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE";
-        }
-
-        @Override
-        public String getHex() {
-            return "#FF5722";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ff7043";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ff8a65";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffab91";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffccbc";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fbe9e7";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f4511e";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e64a19";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#d84315";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-deep-orange";
-        }
-    };
-
-    Color DEEP_ORANGE_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-deep-orange";
-        }
-
-        @Override
-        public String getName() {
-            return "DEEP ORANGE DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#bf360c";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-deep-orange";
-        }
-    };
-
-    Color BROWN = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN";
-        }
-
-        @Override
-        public String getHex() {
-            return "#795548";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-brown";
-        }
-    };
-
-    Color BROWN_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#8d6e63";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-brown";
-        }
-    };
-
-    Color BROWN_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#a1887f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-brown";
-        }
-    };
-
-    Color BROWN_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#bcaaa4";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-brown";
-        }
-    };
-
-    Color BROWN_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#d7ccc8";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-brown";
-        }
-    };
-
-    Color BROWN_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#efebe9";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-brown";
-        }
-    };
-
-    Color BROWN_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#6d4c41";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-brown";
-        }
-    };
-
-    Color BROWN_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#5d4037";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-brown";
-        }
-    };
-
-    Color BROWN_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#4e342e";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-brown";
-        }
-    };
-
-    Color BROWN_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-brown";
-        }
-
-        @Override
-        public String getName() {
-            return "BROWN DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#3e2723";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-brown";
-        }
-    };
-
-    Color GREY = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY";
-        }
-
-        @Override
-        public String getHex() {
-            return "#9E9E9E";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-grey";
-        }
-    };
-
-    Color GREY_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#bdbdbd";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-grey";
-        }
-    };
-
-    Color GREY_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#e0e0e0";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-grey";
-        }
-    };
-
-    Color GREY_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#eeeeee";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-grey";
-        }
-    };
-
-    Color GREY_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#f5f5f5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-grey";
-        }
-    };
-
-    Color GREY_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#fafafa";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-grey";
-        }
-    };
-
-    Color GREY_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#757575";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-grey";
-        }
-    };
-
-    Color GREY_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#616161";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-grey";
-        }
-    };
-
-    Color GREY_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#424242";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-grey";
-        }
-    };
-
-    Color GREY_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "GREY DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#212121";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-grey";
-        }
-    };
-
-    Color BLUE_GREY = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY";
-        }
-
-        @Override
-        public String getHex() {
-            return "#607D8B";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-1-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#78909c";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-1-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-2-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#90a4ae";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-2-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-3-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#b0bec5";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-3-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-4-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#cfd8dc";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-4-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-l-5-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#eceff1";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-l-5-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-1-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#546e7a";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-1-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-2-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#455a64";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-2-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-3-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#37474f";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-3-blue-grey";
-        }
-    };
-
-    Color BLUE_GREY_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-d-4-blue-grey";
-        }
-
-        @Override
-        public String getName() {
-            return "BLUE GREY DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#263238";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-d-4-blue-grey";
-        }
-    };
-
-    Color BLACK = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color BLACK_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-black";
-        }
-
-        @Override
-        public String getName() {
-            return "BLACK DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#000000";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-black";
-        }
-    };
-
-    Color WHITE = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE";
-        }
-
-        @Override
-        public String getHex() {
-            return "#FFFFFF";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color WHITE_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-white";
-        }
-
-        @Override
-        public String getName() {
-            return "WHITE DARKEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "#ffffff";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-white";
-        }
-    };
-
-    Color TRANSPARENT = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_LIGHTEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT LIGHTEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_LIGHTEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT LIGHTEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_LIGHTEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT LIGHTEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_LIGHTEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT LIGHTEN 4";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_LIGHTEN_5 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT LIGHTEN 5";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_DARKEN_1 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT DARKEN 1";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_DARKEN_2 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT DARKEN 2";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_DARKEN_3 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT DARKEN 3";
-        }
-
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
-
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
-
-    Color TRANSPARENT_DARKEN_4 = new Color() {
-        @Override
-        public String getStyle() {
-            return "col-transparent";
-        }
-
-        @Override
-        public String getName() {
-            return "TRANSPARENT DARKEN 4";
-        }
+    /**
+     * Returns the color with the given name, e.g "RED LIGHTEN 1", or null if there is no such color.
+     */
+    static Color valueOf(String name) {
+        return ColorRegistry.colorByName(name);
+    }
 
-        @Override
-        public String getHex() {
-            return "transparent";
-        }
+    /**
+     * Returns the first registered color with the given hex value, or null if there is no such color.
+     */
+    static Color ofHex(String hex) {
+        return ColorRegistry.colorByHex(hex);
+    }
 
-        @Override
-        public String getBackground() {
-            return "bg-transparent";
-        }
-    };
+    Color RED = ColorRegistry.color("col-red", "RED", "#F44336", "bg-red");
+    Color RED_LIGHTEN_1 = ColorRegistry.color("col-l-1-red", "RED LIGHTEN 1", "#e53935", "bg-l-1-red");
+    Color RED_LIGHTEN_2 = ColorRegistry.color("col-l-2-red", "RED LIGHTEN 2", "#e57373", "bg-l-2-red");
+    Color RED_LIGHTEN_3 = ColorRegistry.color("col-l-3-red", "RED LIGHTEN 3", "#ef9a9a", "bg-l-3-red");
+    Color RED_LIGHTEN_4 = ColorRegistry.color("col-l-4-red", "RED LIGHTEN 4", "#ffcdd2", "bg-l-4-red");
+    Color RED_LIGHTEN_5 = ColorRegistry.color("col-l-5-red", "RED LIGHTEN 5", "#ffebee", "bg-l-5-red");
+    Color RED_DARKEN_1 = ColorRegistry.color("col-d-1-red", "RED DARKEN 1", "#ef5350", "bg-d-1-red");
+    Color RED_DARKEN_2 = ColorRegistry.color("col-d-2-red", "RED DARKEN 2", "#d32f2f", "bg-d-2-red");
+    Color RED_DARKEN_3 = ColorRegistry.color("col-d-3-red", "RED DARKEN 3", "#c62828", "bg-d-3-red");
+    Color RED_DARKEN_4 = ColorRegistry.color("col-d-4-red", "RED DARKEN 4", "#b71c1c", "bg-d-4-red");
+    Color PINK = ColorRegistry.color("col-pink", "PINK", "#E91E63", "bg-pink");
+    Color PINK_LIGHTEN_1 = ColorRegistry.color("col-l-1-pink", "PINK LIGHTEN 1", "#ec407a", "bg-l-1-pink");
+    Color PINK_LIGHTEN_2 = ColorRegistry.color("col-l-2-pink", "PINK LIGHTEN 2", "#f06292", "bg-l-2-pink");
+    Color PINK_LIGHTEN_3 = ColorRegistry.color("col-l-3-pink", "PINK LIGHTEN 3", "#f48fb1", "bg-l-3-pink");
+    Color PINK_LIGHTEN_4 = ColorRegistry.color("col-l-4-pink", "PINK LIGHTEN 4", "#f8bbd0", "bg-l-4-pink");
+    Color PINK_LIGHTEN_5 = ColorRegistry.color("col-l-5-pink", "PINK LIGHTEN 5", "#fce4ec", "bg-l-5-pink");
+    Color PINK_DARKEN_1 = ColorRegistry.color("col-d-1-pink", "PINK DARKEN 1", "#d81b60", "bg-d-1-pink");
+    Color PINK_DARKEN_2 = ColorRegistry.color("col-d-2-pink", "PINK DARKEN 2", "#c2185b", "bg-d-2-pink");
+    Color PINK_DARKEN_3 = ColorRegistry.color("col-d-3-pink", "PINK DARKEN 3", "#ad1457", "bg-d-3-pink");
+    Color PINK_DARKEN_4 = ColorRegistry.color("col-d-4-pink", "PINK DARKEN 4", "#880e4f", "bg-d-4-pink");
+    Color PURPLE = ColorRegistry.color("col-purple", "PURPLE", "#9C27B0", "bg-purple");
+    Color PURPLE_LIGHTEN_1 = ColorRegistry.color("col-l-1-purple", "PURPLE LIGHTEN 1", "#ab47bc", "bg-l-1-purple");
+    Color PURPLE_LIGHTEN_2 = ColorRegistry.color("col-l-2-purple", "PURPLE LIGHTEN 2", "#ba68c8", "bg-l-2-purple");
+    Color PURPLE_LIGHTEN_3 = ColorRegistry.color("col-l-3-purple", "PURPLE LIGHTEN 3", "#ce93d8", "bg-l-3-purple");
+    Color PURPLE_LIGHTEN_4 = ColorRegistry.color("col-l-4-purple", "PURPLE LIGHTEN 4", "#e1bee7", "bg-l-4-purple");
+    Color PURPLE_LIGHTEN_5 = ColorRegistry.color("col-l-5-purple", "PURPLE LIGHTEN 5", "#f3e5f5", "bg-l-5-purple");
+    Color PURPLE_DARKEN_1 = ColorRegistry.color("col-d-1-purple", "PURPLE DARKEN 1", "#8e24aa", "bg-d-1-purple");
+    Color PURPLE_DARKEN_2 = ColorRegistry.color("col-d-2-purple", "PURPLE DARKEN 2", "#7b1fa2", "bg-d-2-purple");
+    Color PURPLE_DARKEN_3 = ColorRegistry.color("col-d-3-purple", "PURPLE DARKEN 3", "#6a1b9a", "bg-d-3-purple");
+    Color PURPLE_DARKEN_4 = ColorRegistry.color("col-d-4-purple", "PURPLE DARKEN 4", "#4a148c", "bg-d-4-purple");
+    Color DEEP_PURPLE = ColorRegistry.color("col-deep-purple", "DEEP PURPLE", "#673AB7", "bg-deep-purple");
+    Color DEEP_PURPLE_LIGHTEN_1 = ColorRegistry.color("col-l-1-deep-purple", "DEEP PURPLE LIGHTEN 1", "#7e57c2", "bg-l-1-deep-purple");
+    Color DEEP_PURPLE_LIGHTEN_2 = ColorRegistry.color("col-l-2-deep-purple", "DEEP PURPLE LIGHTEN 2", "#9575cd", "bg-l-2-deep-purple");
+    Color DEEP_PURPLE_LIGHTEN_3 = ColorRegistry.color("col-l-3-deep-purple", "DEEP PURPLE LIGHTEN 3", "#b39ddb", "bg-l-3-deep-purple");
+    Color DEEP_PURPLE_LIGHTEN_4 = ColorRegistry.color("col-l-4-deep-purple", "DEEP PURPLE LIGHTEN 4", "#d1c4e9", "bg-l-4-deep-purple");
+    Color DEEP_PURPLE_LIGHTEN_5 = ColorRegistry.color("col-l-5-deep-purple", "DEEP PURPLE LIGHTEN 5", "#ede7f6", "bg-l-5-deep-purple");
+    Color DEEP_PURPLE_DARKEN_1 = ColorRegistry.color("col-d-1-deep-purple", "DEEP PURPLE DARKEN 1", "#5e35b1", "bg-d-1-deep-purple");
+    Color DEEP_PURPLE_DARKEN_2 = ColorRegistry.color("col-d-2-deep-purple", "DEEP PURPLE DARKEN 2", "#512da8", "bg-d-2-deep-purple");
+    Color DEEP_PURPLE_DARKEN_3 = ColorRegistry.color("col-d-3-deep-purple", "DEEP PURPLE DARKEN 3", "#4527a0", "bg-d-3-deep-purple");
+    Color DEEP_PURPLE_DARKEN_4 = ColorRegistry.color("col-d-4-deep-purple", "DEEP PURPLE DARKEN 4", "#311b92", "bg-d-4-deep-purple");
+    Color INDIGO = ColorRegistry.color("col-indigo", "INDIGO", "#3F51B5", "bg-indigo");
+    Color INDIGO_LIGHTEN_1 = ColorRegistry.color("col-l-1-indigo", "INDIGO LIGHTEN 1", "#5c6bc0", "bg-l-1-indigo");
+    Color INDIGO_LIGHTEN_2 = ColorRegistry.color("col-l-2-indigo", "INDIGO LIGHTEN 2", "#7986cb", "bg-l-2-indigo");
+    Color INDIGO_LIGHTEN_3 = ColorRegistry.color("col-l-3-indigo", "INDIGO LIGHTEN 3", "#9fa8da", "bg-l-3-indigo");
+    Color INDIGO_LIGHTEN_4 = ColorRegistry.color("col-l-4-indigo", "INDIGO LIGHTEN 4", "#c5cae9", "bg-l-4-indigo");
+    Color INDIGO_LIGHTEN_5 = ColorRegistry.color("col-l-5-indigo", "INDIGO LIGHTEN 5", "#e8eaf6", "bg-l-5-indigo");
+    Color INDIGO_DARKEN_1 = ColorRegistry.color("col-d-1-indigo", "INDIGO DARKEN 1", "#3949ab", "bg-d-1-indigo");
+    Color INDIGO_DARKEN_2 = ColorRegistry.color("col-d-2-indigo", "INDIGO DARKEN 2", "#303f9f", "bg-d-2-indigo");
+    Color INDIGO_DARKEN_3 = ColorRegistry.color("col-d-3-indigo", "INDIGO DARKEN 3", "#283593", "bg-d-3-indigo");
+    Color INDIGO_DARKEN_4 = ColorRegistry.color("col-d-4-indigo", "INDIGO DARKEN 4", "#1a237e", "bg-d-4-indigo");
+    Color BLUE = ColorRegistry.color("col-blue", "BLUE", "#2196F3", "bg-blue");
+    Color BLUE_LIGHTEN_1 = ColorRegistry.color("col-l-1-blue", "BLUE LIGHTEN 1", "#42a5f5", "bg-l-1-blue");
+    Color BLUE_LIGHTEN_2 = ColorRegistry.color("col-l-2-blue", "BLUE LIGHTEN 2", "#64b5f6", "bg-l-2-blue");
+    Color BLUE_LIGHTEN_3 = ColorRegistry.color("col-l-3-blue", "BLUE LIGHTEN 3", "#90caf9", "bg-l-3-blue");
+    Color BLUE_LIGHTEN_4 = ColorRegistry.color("col-l-4-blue", "BLUE LIGHTEN 4", "#bbdefb", "bg-l-4-blue");
+    Color BLUE_LIGHTEN_5 = ColorRegistry.color("col-l-5-blue", "BLUE LIGHTEN 5", "#e3f2fd", "bg-l-5-blue");
+    Color BLUE_DARKEN_1 = ColorRegistry.color("col-d-1-blue", "BLUE DARKEN 1", "#1e88e5", "bg-d-1-blue");
+    Color BLUE_DARKEN_2 = ColorRegistry.color("col-d-2-blue", "BLUE DARKEN 2", "#1976d2", "bg-d-2-blue");
+    Color BLUE_DARKEN_3 = ColorRegistry.color("col-d-3-blue", "BLUE DARKEN 3", "#1565c0", "bg-d-3-blue");
+    Color BLUE_DARKEN_4 = ColorRegistry.color("col-d-4-blue", "BLUE DARKEN 4", "#0d47a1", "bg-d-4-blue");
+    Color LIGHT_BLUE = ColorRegistry.color("col-light-blue", "LIGHT BLUE", "#03A9F4", "bg-blue");
+    Color LIGHT_BLUE_LIGHTEN_1 = ColorRegistry.color("col-l-1-light-blue", "LIGHT BLUE LIGHTEN 1", "#29b6f6", "bg-l-1-light-blue");
+    Color LIGHT_BLUE_LIGHTEN_2 = ColorRegistry.color("col-l-2-light-blue", "LIGHT BLUE LIGHTEN 2", "#4fc3f7", "bg-l-2-light-blue");
+    Color LIGHT_BLUE_LIGHTEN_3 = ColorRegistry.color("col-l-3-light-blue", "LIGHT BLUE LIGHTEN 3", "#81d4fa", "bg-l-3-light-blue");
+    Color LIGHT_BLUE_LIGHTEN_4 = ColorRegistry.color("col-l-4-light-blue", "LIGHT BLUE LIGHTEN 4", "#b3e5fc", "bg-l-4-light-blue");
+    Color LIGHT_BLUE_LIGHTEN_5 = ColorRegistry.color("col-l-5-light-blue", "LIGHT BLUE LIGHTEN 5", "#e1f5fe", "bg-l-5-light-blue");
+    Color LIGHT_BLUE_DARKEN_1 = ColorRegistry.color("col-d-1-light-blue", "LIGHT BLUE DARKEN 1", "#039be5", "bg-d-1-light-blue");
+    Color LIGHT_BLUE_DARKEN_2 = ColorRegistry.color("col-d-2-light-blue", "LIGHT BLUE DARKEN 2", "#0288d1", "bg-d-2-light-blue");
+    Color LIGHT_BLUE_DARKEN_3 = ColorRegistry.color("col-d-3-light-blue", "LIGHT BLUE DARKEN 3", "#0277bd", "bg-d-3-light-blue");
+    Color LIGHT_BLUE_DARKEN_4 = ColorRegistry.color("col-d-4-light-blue", "LIGHT BLUE DARKEN 4", "#01579b", "bg-d-4-light-blue");
+    Color CYAN = ColorRegistry.color("col-cyan", "CYAN", "#00BCD4", "bg-cyan");
+    Color CYAN_LIGHTEN_1 = ColorRegistry.color("col-l-1-cyan", "CYAN LIGHTEN 1", "#26c6da", "bg-l-1-cyan");
+    Color CYAN_LIGHTEN_2 = ColorRegistry.color("col-l-2-cyan", "CYAN LIGHTEN 2", "#4dd0e1", "bg-l-2-cyan");
+    Color CYAN_LIGHTEN_3 = ColorRegistry.color("col-l-3-cyan", "CYAN LIGHTEN 3", "#80deea", "bg-l-3-cyan");
+    Color CYAN_LIGHTEN_4 = ColorRegistry.color("col-l-4-cyan", "CYAN LIGHTEN 4", "#b2ebf2", "bg-l-4-cyan");
+    Color CYAN_LIGHTEN_5 = ColorRegistry.color("col-l-5-cyan", "CYAN LIGHTEN 5", "#e0f7fa", "bg-l-5-cyan");
+    Color CYAN_DARKEN_1 = ColorRegistry.color("col-d-1-cyan", "CYAN DARKEN 1", "#00acc1", "bg-d-1-cyan");
+    Color CYAN_DARKEN_2 = ColorRegistry.color("col-d-2-cyan", "CYAN DARKEN 2", "#0097a7", "bg-d-2-cyan");
+    Color CYAN_DARKEN_3 = ColorRegistry.color("col-d-3-cyan", "CYAN DARKEN 3", "#00838f", "bg-d-3-cyan");
+    Color CYAN_DARKEN_4 = ColorRegistry.color("col-d-4-cyan", "CYAN DARKEN 4", "#006064", "bg-d-4-cyan");
+    Color TEAL = ColorRegistry.color("col-teal", "TEAL", "#009688", "bg-teal");
+    Color TEAL_LIGHTEN_1 = ColorRegistry.color("col-l-1-teal", "TEAL LIGHTEN 1", "#26a69a", "bg-l-1-teal");
+    Color TEAL_LIGHTEN_2 = ColorRegistry.color("col-l-2-teal", "TEAL LIGHTEN 2", "#4db6ac", "bg-l-2-teal");
+    Color TEAL_LIGHTEN_3 = ColorRegistry.color("col-l-3-teal", "TEAL LIGHTEN 3", "#80cbc4", "bg-l-3-teal");
+    Color TEAL_LIGHTEN_4 = ColorRegistry.color("col-l-4-teal", "TEAL LIGHTEN 4", "#b2dfdb", "bg-l-4-teal");
+    Color TEAL_LIGHTEN_5 = ColorRegistry.color("col-l-5-teal", "TEAL LIGHTEN 5", "#e0f2f1", "bg-l-5-teal");
+    Color TEAL_DARKEN_1 = ColorRegistry.color("col-d-1-teal", "TEAL DARKEN 1", "#00897b", "bg-d-1-teal");
+    Color TEAL_DARKEN_2 = ColorRegistry.color("col-d-2-teal", "TEAL DARKEN 2", "#00796b", "bg-d-2-teal");
+    Color TEAL_DARKEN_3 = ColorRegistry.color("col-d-3-teal", "TEAL DARKEN 3", "#00695c", "bg-d-3-teal");
+    Color TEAL_DARKEN_4 = ColorRegistry.color("col-d-4-teal", "TEAL DARKEN 4", "#004d40", "bg-d-4-teal");
+    Color GREEN = ColorRegistry.color("col-green", "GREEN", "#4CAF50", "bg-green");
+    Color GREEN_LIGHTEN_1 = ColorRegistry.color("col-l-1-green", "GREEN LIGHTEN 1", "#66bb6a", "bg-l-1-green");
+    Color GREEN_LIGHTEN_2 = ColorRegistry.color("col-l-2-green", "GREEN LIGHTEN 2", "#81c784", "bg-l-2-green");
+    Color GREEN_LIGHTEN_3 = ColorRegistry.color("col-l-3-green", "GREEN LIGHTEN 3", "#a5d6a7", "bg-l-3-green");
+    Color GREEN_LIGHTEN_4 = ColorRegistry.color("col-l-4-green", "GREEN LIGHTEN 4", "#c8e6c9", "bg-l-4-green");
+    Color GREEN_LIGHTEN_5 = ColorRegistry.color("col-l-5-green", "GREEN LIGHTEN 5", "#e8f5e9", "bg-l-5-green");
+    Color GREEN_DARKEN_1 = ColorRegistry.color("col-d-1-green", "GREEN DARKEN 1", "#43a047", "bg-d-1-green");
+    Color GREEN_DARKEN_2 = ColorRegistry.color("col-d-2-green", "GREEN DARKEN 2", "#388e3c", "bg-d-2-green");
+    Color GREEN_DARKEN_3 = ColorRegistry.color("col-d-3-green", "GREEN DARKEN 3", "#2e7d32", "bg-d-3-green");
+    Color GREEN_DARKEN_4 = ColorRegistry.color("col-d-4-green", "GREEN DARKEN 4", "#1b5e20", "bg-d-4-green");
+    Color LIGHT_GREEN = ColorRegistry.color("col-light-green", "LIGHT GREEN", "#8BC34A", "bg-light-green");
+    Color LIGHT_GREEN_LIGHTEN_1 = ColorRegistry.color("col-l-1-light-green", "LIGHT GREEN LIGHTEN 1", "#9ccc65", "bg-l-1-light-green");
+    Color LIGHT_GREEN_LIGHTEN_2 = ColorRegistry.color("col-l-2-light-green", "LIGHT GREEN LIGHTEN 2", "#aed581", "bg-l-2-light-green");
+    Color LIGHT_GREEN_LIGHTEN_3 = ColorRegistry.color("col-l-3-light-green", "LIGHT GREEN LIGHTEN 3", "#c5e1a5", "bg-l-3-light-green");
+    Color LIGHT_GREEN_LIGHTEN_4 = ColorRegistry.color("col-l-4-light-green", "LIGHT GREEN LIGHTEN 4", "#dcedc8", "bg-l-4-light-green");
+    Color LIGHT_GREEN_LIGHTEN_5 = ColorRegistry.color("col-l-5-light-green", "LIGHT GREEN LIGHTEN 5", "#f1f8e9", "bg-l-5-light-green");
+    Color LIGHT_GREEN_DARKEN_1 = ColorRegistry.color("col-d-1-light-green", "LIGHT GREEN DARKEN 1", "#7cb342", "bg-d-1-light-green");
+    Color LIGHT_GREEN_DARKEN_2 = ColorRegistry.color("col-d-2-light-green", "LIGHT GREEN DARKEN 2", "#689f38", "bg-d-2-light-green");
+    Color LIGHT_GREEN_DARKEN_3 = ColorRegistry.color("col-d-3-light-green", "LIGHT GREEN DARKEN 3", "#558b2f", "bg-d-3-light-green");
+    Color LIGHT_GREEN_DARKEN_4 = ColorRegistry.color("col-d-4-light-green", "LIGHT GREEN DARKEN 4", "#33691e", "bg-d-4-light-green");
+    Color LIME = ColorRegistry.color("col-lime", "LIME", "#CDDC39", "bg-lime");
+    Color LIME_LIGHTEN_1 = ColorRegistry.color("col-l-1-lime", "LIME LIGHTEN 1", "#d4e157", "bg-l-1-lime");
+    Color LIME_LIGHTEN_2 = ColorRegistry.color("col-l-2-lime", "LIME LIGHTEN 2", "#dce775", "bg-l-2-lime");
+    Color LIME_LIGHTEN_3 = ColorRegistry.color("col-l-3-lime", "LIME LIGHTEN 3", "#e6ee9c", "bg-l-3-lime");
+    Color LIME_LIGHTEN_4 = ColorRegistry.color("col-l-4-lime", "LIME LIGHTEN 4", "#f0f4c3", "bg-l-4-lime");
+    Color LIME_LIGHTEN_5 = ColorRegistry.color("col-l-5-lime", "LIME LIGHTEN 5", "#f9fbe7", "bg-l-5-lime");
+    Color LIME_DARKEN_1 = ColorRegistry.color("col-d-1-lime", "LIME DARKEN 1", "#c0ca33", "bg-d-1-lime");
+    Color LIME_DARKEN_2 = ColorRegistry.color("col-d-2-lime", "LIME DARKEN 2", "#afb42b", "bg-d-2-lime");
+    Color LIME_DARKEN_3 = ColorRegistry.color("col-d-3-lime", "LIME DARKEN 3", "#9e9d24", "bg-d-3-lime");
+    Color LIME_DARKEN_4 = ColorRegistry.color("col-d-4-lime", "LIME DARKEN 4", "#827717", "bg-d-4-lime");
+    Color YELLOW = ColorRegistry.color("col-yellow", "YELLOW", "#FFEB3B", "bg-yellow");
+    Color YELLOW_LIGHTEN_1 = ColorRegistry.color("col-l-1-yellow", "YELLOW LIGHTEN 1", "#ffee58", "bg-l-1-yellow");
+    Color YELLOW_LIGHTEN_2 = ColorRegistry.color("col-l-2-yellow", "YELLOW LIGHTEN 2", "#dce775", "bg-l-2-yellow");
+    Color YELLOW_LIGHTEN_3 = ColorRegistry.color("col-l-3-yellow", "YELLOW LIGHTEN 3", "#fff59d", "bg-l-3-yellow");
+    Color YELLOW_LIGHTEN_4 = ColorRegistry.color("col-l-4-yellow", "YELLOW LIGHTEN 4", "#fff9c4", "bg-l-4-yellow");
+    Color YELLOW_LIGHTEN_5 = ColorRegistry.color("col-l-5-yellow", "YELLOW LIGHTEN 5", "#fffde7", "bg-l-5-yellow");
+    Color YELLOW_DARKEN_1 = ColorRegistry.color("col-d-1-yellow", "YELLOW DARKEN 1", "#fdd835", "bg-d-1-yellow");
+    Color YELLOW_DARKEN_2 = ColorRegistry.color("col-d-2-yellow", "YELLOW DARKEN 2", "#fbc02d", "bg-d-2-yellow");
+    Color YELLOW_DARKEN_3 = ColorRegistry.color("col-d-3-yellow", "YELLOW DARKEN 3", "#f9a825", "bg-d-3-yellow");
+    Color YELLOW_DARKEN_4 = ColorRegistry.color("col-d-4-yellow", "YELLOW DARKEN 4", "#f57f17", "bg-d-4-yellow");
+    Color AMBER = ColorRegistry.color("col-amber", "AMBER", "#FFC107", "bg-amber");
+    Color AMBER_LIGHTEN_1 = ColorRegistry.color("col-l-1-amber", "AMBER LIGHTEN 1", "#ffca28", "bg-l-1-amber");
+    Color AMBER_LIGHTEN_2 = ColorRegistry.color("col-l-2-amber", "AMBER LIGHTEN 2", "#ffd54f", "bg-l-2-amber");
+    Color AMBER_LIGHTEN_3 = ColorRegistry.color("col-l-3-amber", "AMBER LIGHTEN 3", "#ffe082", "bg-l-3-amber");
+    Color AMBER_LIGHTEN_4 = ColorRegistry.color("col-l-4-amber", "AMBER LIGHTEN 4", "#ffecb3", "bg-l-4-amber");
+    Color AMBER_LIGHTEN_5 = ColorRegistry.color("col-l-5-amber", "AMBER LIGHTEN 5", "#fff8e1", "bg-l-5-amber");
+    Color AMBER_DARKEN_1 = ColorRegistry.color("col-d-1-amber", "AMBER DARKEN 1", "#ffb300", "bg-d-1-amber");
+    Color AMBER_DARKEN_2 = ColorRegistry.color("col-d-2-amber", "AMBER DARKEN 2", "#ffa000", "bg-d-2-amber");
+    Color AMBER_DARKEN_3 = ColorRegistry.color("col-d-3-amber", "AMBER DARKEN 3", "#ff8f00", "bg-d-3-amber");
+    Color AMBER_DARKEN_4 = ColorRegistry.color("col-d-4-amber", "AMBER DARKEN 4", "#ff6f00", "bg-d-4-amber");
+    Color ORANGE = ColorRegistry.color("col-orange", "ORANGE", "#FF9800", "bg-orange");
+    Color ORANGE_LIGHTEN_1 = ColorRegistry.color("col-l-1-orange", "ORANGE LIGHTEN 1", "#ffa726", "bg-l-1-orange");
+    Color ORANGE_LIGHTEN_2 = ColorRegistry.color("col-l-2-orange", "ORANGE LIGHTEN 2", "#ffb74d", "bg-l-2-orange");
+    Color ORANGE_LIGHTEN_3 = ColorRegistry.color("col-l-3-orange", "ORANGE LIGHTEN 3", "#ffcc80", "bg-l-3-orange");
+    Color ORANGE_LIGHTEN_4 = ColorRegistry.color("col-l-4-orange", "ORANGE LIGHTEN 4", "#ffe0b2", "bg-l-4-orange");
+    Color ORANGE_LIGHTEN_5 = ColorRegistry.color("col-l-5-orange", "ORANGE LIGHTEN 5", "#fff3e0", "bg-l-5-orange");
+    Color ORANGE_DARKEN_1 = ColorRegistry.color("col-d-1-orange", "ORANGE DARKEN 1", "#fb8c00", "bg-d-1-orange");
+    Color ORANGE_DARKEN_2 = ColorRegistry.color("col-d-2-orange", "ORANGE DARKEN 2", "#f57c00", "bg-d-2-orange");
+    Color ORANGE_DARKEN_3 = ColorRegistry.color("col-d-3-orange", "ORANGE DARKEN 3", "#ef6c00", "bg-d-3-orange");
+    Color ORANGE_DARKEN_4 = ColorRegistry.color("col-d-4-orange", "ORANGE DARKEN 4", "#e65100", "bg-d-4-orange");
+    Color DEEP_ORANGE = ColorRegistry.color("col-deep-orange", "DEEP ORANGE", "#FF5722", "bg-deep-orange");
+    Color DEEP_ORANGE_LIGHTEN_1 = ColorRegistry.color("col-l-1-deep-orange", "DEEP ORANGE LIGHTEN 1", "#ff7043", "bg-l-1-deep-orange");
+    Color DEEP_ORANGE_LIGHTEN_2 = ColorRegistry.color("col-l-2-deep-orange", "DEEP ORANGE LIGHTEN 2", "#ff8a65", "bg-l-2-deep-orange");
+    Color DEEP_ORANGE_LIGHTEN_3 = ColorRegistry.color("col-l-3-deep-orange", "DEEP ORANGE LIGHTEN 3", "#ffab91", "bg-l-3-deep-orange");
+    Color DEEP_ORANGE_LIGHTEN_4 = ColorRegistry.color("col-l-4-deep-orange", "DEEP ORANGE LIGHTEN 4", "#ffccbc", "bg-l-4-deep-orange");
+    Color DEEP_ORANGE_LIGHTEN_5 = ColorRegistry.color("col-l-5-deep-orange", "DEEP ORANGE LIGHTEN 5", "#fbe9e7", "bg-l-5-deep-orange");
+    Color DEEP_ORANGE_DARKEN_1 = ColorRegistry.color("col-d-1-deep-orange", "DEEP ORANGE DARKEN 1", "#f4511e", "bg-d-1-deep-orange");
+    Color DEEP_ORANGE_DARKEN_2 = ColorRegistry.color("col-d-2-deep-orange", "DEEP ORANGE DARKEN 2", "#e64a19", "bg-d-2-deep-orange");
+    Color DEEP_ORANGE_DARKEN_3 = ColorRegistry.color("col-d-3-deep-orange", "DEEP ORANGE DARKEN 3", "#d84315", "bg-d-3-deep-orange");
+    Color DEEP_ORANGE_DARKEN_4 = ColorRegistry.color("col-d-4-deep-orange", "DEEP ORANGE DARKEN 4", "#bf360c", "bg-d-4-deep-orange");
+    Color BROWN = ColorRegistry.color("col-brown", "BROWN", "#795548", "bg-brown");
+    Color BROWN_LIGHTEN_1 = ColorRegistry.color("col-l-1-brown", "BROWN LIGHTEN 1", "#8d6e63", "bg-l-1-brown");
+    Color BROWN_LIGHTEN_2 = ColorRegistry.color("col-l-2-brown", "BROWN LIGHTEN 2", "#a1887f", "bg-l-2-brown");
+    Color BROWN_LIGHTEN_3 = ColorRegistry.color("col-l-3-brown", "BROWN LIGHTEN 3", "#bcaaa4", "bg-l-3-brown");
+    Color BROWN_LIGHTEN_4 = ColorRegistry.color("col-l-4-brown", "BROWN LIGHTEN 4", "#d7ccc8", "bg-l-4-brown");
+    Color BROWN_LIGHTEN_5 = ColorRegistry.color("col-l-5-brown", "BROWN LIGHTEN 5", "#efebe9", "bg-l-5-brown");
+    Color BROWN_DARKEN_1 = ColorRegistry.color("col-d-1-brown", "BROWN DARKEN 1", "#6d4c41", "bg-d-1-brown");
+    Color BROWN_DARKEN_2 = ColorRegistry.color("col-d-2-brown", "BROWN DARKEN 2", "#5d4037", "bg-d-2-brown");
+    Color BROWN_DARKEN_3 = ColorRegistry.color("col-d-3-brown", "BROWN DARKEN 3", "#4e342e", "bg-d-3-brown");
+    Color BROWN_DARKEN_4 = ColorRegistry.color("col-d-4-brown", "BROWN DARKEN 4", "#3e2723", "bg-d-4-brown");
+    Color GREY = ColorRegistry.color("col-grey", "GREY", "#9E9E9E", "bg-grey");
+    Color GREY_LIGHTEN_1 = ColorRegistry.color("col-l-1-grey", "GREY LIGHTEN 1", "#bdbdbd", "bg-l-1-grey");
+    Color GREY_LIGHTEN_2 = ColorRegistry.color("col-l-2-grey", "GREY LIGHTEN 2", "#e0e0e0", "bg-l-2-grey");
+    Color GREY_LIGHTEN_3 = ColorRegistry.color("col-l-3-grey", "GREY LIGHTEN 3", "#eeeeee", "bg-l-3-grey");
+    Color GREY_LIGHTEN_4 = ColorRegistry.color("col-l-4-grey", "GREY LIGHTEN 4", "#f5f5f5", "bg-l-4-grey");
+    Color GREY_LIGHTEN_5 = ColorRegistry.color("col-l-5-grey", "GREY LIGHTEN 5", "#fafafa", "bg-l-5-grey");
+    Color GREY_DARKEN_1 = ColorRegistry.color("col-d-1-grey", "GREY DARKEN 1", "#757575", "bg-d-1-grey");
+    Color GREY_DARKEN_2 = ColorRegistry.color("col-d-2-grey", "GREY DARKEN 2", "#616161", "bg-d-2-grey");
+    Color GREY_DARKEN_3 = ColorRegistry.color("col-d-3-grey", "GREY DARKEN 3", "#424242", "bg-d-3-grey");
+    Color GREY_DARKEN_4 = ColorRegistry.color("col-d-4-grey", "GREY DARKEN 4", "#212121", "bg-d-4-grey");
+    Color BLUE_GREY = ColorRegistry.color("col-blue-grey", "BLUE GREY", "#607D8B", "bg-blue-grey");
+    Color BLUE_GREY_LIGHTEN_1 = ColorRegistry.color("col-l-1-blue-grey", "BLUE GREY LIGHTEN 1", "#78909c", "bg-l-1-blue-grey");
+    Color BLUE_GREY_LIGHTEN_2 = ColorRegistry.color("col-l-2-blue-grey", "BLUE GREY LIGHTEN 2", "#90a4ae", "bg-l-2-blue-grey");
+    Color BLUE_GREY_LIGHTEN_3 = ColorRegistry.color("col-l-3-blue-grey", "BLUE GREY LIGHTEN 3", "#b0bec5", "bg-l-3-blue-grey");
+    Color BLUE_GREY_LIGHTEN_4 = ColorRegistry.color("col-l-4-blue-grey", "BLUE GREY LIGHTEN 4", "#cfd8dc", "bg-l-4-blue-grey");
+    Color BLUE_GREY_LIGHTEN_5 = ColorRegistry.color("col-l-5-blue-grey", "BLUE GREY LIGHTEN 5", "#eceff1", "bg-l-5-blue-grey");
+    Color BLUE_GREY_DARKEN_1 = ColorRegistry.color("col-d-1-blue-grey", "BLUE GREY DARKEN 1", "#546e7a", "bg-d-1-blue-grey");
+    Color BLUE_GREY_DARKEN_2 = ColorRegistry.color("col-d-2-blue-grey", "BLUE GREY DARKEN 2", "#455a64", "bg-d-2-blue-grey");
+    Color BLUE_GREY_DARKEN_3 = ColorRegistry.color("col-d-3-blue-grey", "BLUE GREY DARKEN 3", "#37474f", "bg-d-3-blue-grey");
+    Color BLUE_GREY_DARKEN_4 = ColorRegistry.color("col-d-4-blue-grey", "BLUE GREY DARKEN 4", "#263238", "bg-d-4-blue-grey");
+    Color BLACK = ColorRegistry.color("col-black", "BLACK", "#000000", "bg-black");
+    Color BLACK_LIGHTEN_1 = ColorRegistry.color("col-black", "BLACK LIGHTEN 1", "#000000", "bg-black");
+    Color BLACK_LIGHTEN_2 = ColorRegistry.color("col-black", "BLACK LIGHTEN 2", "#000000", "bg-black");
+    Color BLACK_LIGHTEN_3 = ColorRegistry.color("col-black", "BLACK LIGHTEN 3", "#000000", "bg-black");
+    Color BLACK_LIGHTEN_4 = ColorRegistry.color("col-black", "BLACK LIGHTEN 4", "#000000", "bg-black");
+    Color BLACK_LIGHTEN_5 = ColorRegistry.color("col-black", "BLACK LIGHTEN 5", "#000000", "bg-black");
+    Color BLACK_DARKEN_1 = ColorRegistry.color("col-black", "BLACK DARKEN 1", "#000000", "bg-black");
+    Color BLACK_DARKEN_2 = ColorRegistry.color("col-black", "BLACK DARKEN 2", "#000000", "bg-black");
+    Color BLACK_DARKEN_3 = ColorRegistry.color("col-black", "BLACK DARKEN 3", "#000000", "bg-black");
+    Color BLACK_DARKEN_4 = ColorRegistry.color("col-black", "BLACK DARKEN 4", "#000000", "bg-black");
+    Color WHITE = ColorRegistry.color("col-white", "WHITE", "#FFFFFF", "bg-white");
+    Color WHITE_LIGHTEN_1 = ColorRegistry.color("col-white", "WHITE LIGHTEN 1", "#ffffff", "bg-white");
+    Color WHITE_LIGHTEN_2 = ColorRegistry.color("col-white", "WHITE LIGHTEN 2", "#ffffff", "bg-white");
+    Color WHITE_LIGHTEN_3 = ColorRegistry.color("col-white", "WHITE LIGHTEN 3", "#ffffff", "bg-white");
+    Color WHITE_LIGHTEN_4 = ColorRegistry.color("col-white", "WHITE LIGHTEN 4", "#ffffff", "bg-white");
+    Color WHITE_LIGHTEN_5 = ColorRegistry.color("col-white", "WHITE LIGHTEN 5", "#ffffff", "bg-white");
+    Color WHITE_DARKEN_1 = ColorRegistry.color("col-white", "WHITE DARKEN 1", "#ffffff", "bg-white");
+    Color WHITE_DARKEN_2 = ColorRegistry.color("col-white", "WHITE DARKEN 2", "#ffffff", "bg-white");
+    Color WHITE_DARKEN_3 = ColorRegistry.color("col-white", "WHITE DARKEN 3", "#ffffff", "bg-white");
+    Color WHITE_DARKEN_4 = ColorRegistry.color("col-white", "WHITE DARKEN 4", "#ffffff", "bg-white");
+    Color TRANSPARENT = ColorRegistry.color("col-transparent", "TRANSPARENT", "transparent", "bg-transparent");
+    Color TRANSPARENT_LIGHTEN_1 = ColorRegistry.color("col-transparent", "TRANSPARENT LIGHTEN 1", "transparent", "bg-transparent");
+    Color TRANSPARENT_LIGHTEN_2 = ColorRegistry.color("col-transparent", "TRANSPARENT LIGHTEN 2", "transparent", "bg-transparent");
+    Color TRANSPARENT_LIGHTEN_3 = ColorRegistry.color("col-transparent", "TRANSPARENT LIGHTEN 3", "transparent", "bg-transparent");
+    Color TRANSPARENT_LIGHTEN_4 = ColorRegistry.color("col-transparent", "TRANSPARENT LIGHTEN 4", "transparent", "bg-transparent");
+    Color TRANSPARENT_LIGHTEN_5 = ColorRegistry.color("col-transparent", "TRANSPARENT LIGHTEN 5", "transparent", "bg-transparent");
+    Color TRANSPARENT_DARKEN_1 = ColorRegistry.color("col-transparent", "TRANSPARENT DARKEN 1", "transparent", "bg-transparent");
+    Color TRANSPARENT_DARKEN_2 = ColorRegistry.color("col-transparent", "TRANSPARENT DARKEN 2", "transparent", "bg-transparent");
+    Color TRANSPARENT_DARKEN_3 = ColorRegistry.color("col-transparent", "TRANSPARENT DARKEN 3", "transparent", "bg-transparent");
+    Color TRANSPARENT_DARKEN_4 = ColorRegistry.color("col-transparent", "TRANSPARENT DARKEN 4", "transparent", "bg-transparent");
 
     Color THEME = new Color() {
         @Override
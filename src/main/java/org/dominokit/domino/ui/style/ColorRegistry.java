@@ -0,0 +1,170 @@
+package org.dominokit.domino.ui.style;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backs the {@link Color} and {@link ColorScheme} constants with a single packed table of style, name, hex and
+ * background values, so every constant is a flyweight of the same class instead of a class of its own.
+ */
+final class ColorRegistry {
+
+    private static final int STYLE = 0;
+    private static final int NAME = 1;
+    private static final int HEX = 2;
+    private static final int BACKGROUND = 3;
+
+    private static final String LIGHTEN = " LIGHTEN ";
+    private static final String DARKEN = " DARKEN ";
+
+    private static final List<String> table = new ArrayList<>();
+    private static final Map<String, Color> colorsByName = new HashMap<>();
+    private static final Map<String, Color> colorsByHex = new HashMap<>();
+    private static final Map<String, ColorScheme> schemesByName = new HashMap<>();
+
+    static Color color(String style, String name, String hex, String background) {
+        Color color = new TableColor(table.size());
+        table.add(style);
+        table.add(name);
+        table.add(hex);
+        table.add(background);
+        colorsByName.put(name, color);
+        colorsByHex.putIfAbsent(hex.toLowerCase(), color);
+        return color;
+    }
+
+    /**
+     * Creates the scheme of a base color, the shades are resolved by the naming of the registered colors, e.g
+     * "RED LIGHTEN 1" and "RED DARKEN 1".
+     */
+    static ColorScheme scheme(Color color, String rgba1, String rgba2) {
+        Color[] shades = new Color[10];
+        for (int i = 1; i <= 5; i++) {
+            shades[5 - i] = colorsByName.get(color.getName() + LIGHTEN + i);
+        }
+        shades[5] = color;
+        for (int i = 1; i <= 4; i++) {
+            shades[5 + i] = colorsByName.get(color.getName() + DARKEN + i);
+        }
+        ColorScheme colorScheme = new TableColorScheme(shades, rgba1, rgba2);
+        schemesByName.put(color.getName(), colorScheme);
+        return colorScheme;
+    }
+
+    static Color colorByName(String name) {
+        return colorsByName.get(name);
+    }
+
+    static Color colorByHex(String hex) {
+        return hex == null ? null : colorsByHex.get(hex.toLowerCase());
+    }
+
+    static ColorScheme schemeByName(String name) {
+        return schemesByName.get(name);
+    }
+
+    private ColorRegistry() {
+    }
+
+    private static final class TableColor implements Color {
+        private final int offset;
+
+        private TableColor(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public String getStyle() {
+            return table.get(offset + STYLE);
+        }
+
+        @Override
+        public String getName() {
+            return table.get(offset + NAME);
+        }
+
+        @Override
+        public String getHex() {
+            return table.get(offset + HEX);
+        }
+
+        @Override
+        public String getBackground() {
+            return table.get(offset + BACKGROUND);
+        }
+    }
+
+    private static final class TableColorScheme implements ColorScheme {
+        private final Color[] shades;
+        private final String rgba1;
+        private final String rgba2;
+
+        private TableColorScheme(Color[] shades, String rgba1, String rgba2) {
+            this.shades = shades;
+            this.rgba1 = rgba1;
+            this.rgba2 = rgba2;
+        }
+
+        @Override
+        public Color lighten_5() {
+            return shades[0];
+        }
+
+        @Override
+        public Color lighten_4() {
+            return shades[1];
+        }
+
+        @Override
+        public Color lighten_3() {
+            return shades[2];
+        }
+
+        @Override
+        public Color lighten_2() {
+            return shades[3];
+        }
+
+        @Override
+        public Color lighten_1() {
+            return shades[4];
+        }
+
+        @Override
+        public Color color() {
+            return shades[5];
+        }
+
+        @Override
+        public Color darker_1() {
+            return shades[6];
+        }
+
+        @Override
+        public Color darker_2() {
+            return shades[7];
+        }
+
+        @Override
+        public Color darker_3() {
+            return shades[8];
+        }
+
+        @Override
+        public Color darker_4() {
+            return shades[9];
+        }
+
+        @Override
+        public String rgba_1() {
+            return rgba1;
+        }
+
+        @Override
+        public String rgba_2() {
+            return rgba2;
+        }
+    }
+}
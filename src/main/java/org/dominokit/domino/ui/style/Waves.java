@@ -3,7 +3,7 @@ package org.dominokit.domino.ui.style;
 import elemental2.dom.*;
 import jsinterop.base.Js;
 import jsinterop.base.JsPropertyMap;
-import org.gwtproject.timer.client.Timer;
+import org.dominokit.domino.ui.animations.AnimationClock;
 import org.jboss.gwt.elemento.core.IsElement;
 
 import static elemental2.dom.DomGlobal.window;
@@ -16,8 +16,7 @@ public class Waves implements IsElement<HTMLElement> {
     private final HTMLElement target;
     private HTMLDivElement ripple;
     private JsPropertyMap<String> rippleStyle;
-    private Timer delayTimer;
-    private Timer removeTimer;
+    private AnimationClock.Task stopTask;
     private final int duration = 750;
     private WavesEventListener wavesEventListener = new WavesEventListener();
 
@@ -45,32 +44,21 @@ public class Waves implements IsElement<HTMLElement> {
     }
 
     private void setupStopTimers() {
-        delayTimer = new Timer() {
-            @Override
-            public void run() {
-                rippleStyle.set("opacity ", "0");
-
-                ripple.setAttribute("style", convertStyle(rippleStyle));
-
-                removeTimer = new Timer() {
-                    @Override
-                    public void run() {
-                        ripple.classList.remove("waves-rippling");
-                        ripple.remove();
-                    }
-                };
-                removeTimer.schedule(duration);
-            }
-        };
+        stopTask = AnimationClock.schedule(300, () -> {
+            rippleStyle.set("opacity ", "0");
+
+            ripple.setAttribute("style", convertStyle(rippleStyle));
 
-        delayTimer.schedule(300);
+            stopTask = AnimationClock.schedule(duration, () -> {
+                ripple.classList.remove("waves-rippling");
+                ripple.remove();
+            });
+        });
     }
 
     private void stopCurrentWave() {
-        if (nonNull(delayTimer))
-            delayTimer.cancel();
-        if (nonNull(removeTimer))
-            removeTimer.cancel();
+        if (nonNull(stopTask))
+            stopTask.cancel();
         if (nonNull(ripple))
             ripple.remove();
     }
@@ -16,7 +16,6 @@ import org.dominokit.domino.ui.tag.store.TagsStore;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.ElementUtil.isEnterKey;
@@ -31,6 +30,7 @@ public class TagsInput<V> extends ValueBox<TagsInput<V>, HTMLDivElement, List<V>
     private final TagsStore<V> store;
     private DropDownMenu dropDownMenu;
     private ColorScheme colorScheme = ColorScheme.INDIGO;
+    private int searchRequestId = 0;
 
     public TagsInput(String type, String label, TagsStore<V> store) {
         super(type, label);
@@ -92,11 +92,14 @@ public class TagsInput<V> extends ValueBox<TagsInput<V>, HTMLDivElement, List<V>
     }
 
     private void search() {
-        dropDownMenu.clearActions();
-        String searchValue = tagTextInput.value;
-        Map<String, V> valuesToShow = store.filter(searchValue);
-        valuesToShow.forEach(this::addDropDownAction);
-        openMenu();
+        int requestId = ++searchRequestId;
+        store.filter(tagTextInput.value, valuesToShow -> {
+            if (requestId == searchRequestId) {
+                dropDownMenu.clearActions();
+                valuesToShow.forEach(this::addDropDownAction);
+                openMenu();
+            }
+        });
     }
 
     private void addDropDownAction(String displayValue, V value) {
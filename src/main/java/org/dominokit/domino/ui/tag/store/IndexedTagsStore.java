@@ -0,0 +1,210 @@
+package org.dominokit.domino.ui.tag.store;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A tags store that keeps a reverse index from the values to their display values, a sorted index of the
+ * normalized display values and an index of their trigrams, the suggestions that start with the search value come
+ * first followed by the ones containing it, up to the maximum number of suggestions.
+ */
+public class IndexedTagsStore<V> implements TagsStore<V> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private Map<String, V> items = new TreeMap<>();
+    private Map<V, String> displayValues = new HashMap<>();
+    private TreeMap<String, List<String>> normalizedIndex = new TreeMap<>();
+    private Map<String, TreeSet<String>> gramsIndex = new HashMap<>();
+    private int maxSuggestions = 100;
+    private SuggestionsLoader<V> suggestionsLoader;
+
+    public static <V> IndexedTagsStore<V> create() {
+        return new IndexedTagsStore<>();
+    }
+
+    @Override
+    public IndexedTagsStore<V> addItem(String displayValue, V item) {
+        String oldDisplayValue = displayValues.get(item);
+        if (nonNull(oldDisplayValue) && !oldDisplayValue.equals(displayValue)) {
+            removeItem(item);
+        }
+        V oldItem = items.put(displayValue, item);
+        if (nonNull(oldItem)) {
+            displayValues.remove(oldItem);
+        } else {
+            addToIndex(displayValue);
+        }
+        displayValues.put(item, displayValue);
+        return this;
+    }
+
+    @Override
+    public IndexedTagsStore<V> removeItem(V item) {
+        String displayValue = displayValues.remove(item);
+        if (nonNull(displayValue)) {
+            items.remove(displayValue);
+            removeFromIndex(displayValue);
+        }
+        return this;
+    }
+
+    private void addToIndex(String displayValue) {
+        String normalized = normalize(displayValue);
+        List<String> sameNormalized = normalizedIndex.get(normalized);
+        if (isNull(sameNormalized)) {
+            sameNormalized = new ArrayList<>();
+            normalizedIndex.put(normalized, sameNormalized);
+            for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                gramsIndex.computeIfAbsent(normalized.substring(i, i + GRAM_LENGTH), gram -> new TreeSet<>()).add(normalized);
+            }
+        }
+        sameNormalized.add(displayValue);
+    }
+
+    private void removeFromIndex(String displayValue) {
+        String normalized = normalize(displayValue);
+        List<String> sameNormalized = normalizedIndex.get(normalized);
+        if (nonNull(sameNormalized)) {
+            sameNormalized.remove(displayValue);
+            if (sameNormalized.isEmpty()) {
+                normalizedIndex.remove(normalized);
+                for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                    String gram = normalized.substring(i, i + GRAM_LENGTH);
+                    Set<String> withGram = gramsIndex.get(gram);
+                    if (nonNull(withGram)) {
+                        withGram.remove(normalized);
+                        if (withGram.isEmpty()) {
+                            gramsIndex.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public IndexedTagsStore<V> clear() {
+        items.clear();
+        displayValues.clear();
+        normalizedIndex.clear();
+        gramsIndex.clear();
+        return this;
+    }
+
+    @Override
+    public IndexedTagsStore<V> addItems(Map<String, V> items) {
+        items.forEach(this::addItem);
+        return this;
+    }
+
+    @Override
+    public Map<String, V> getItems() {
+        return Collections.unmodifiableMap(items);
+    }
+
+    @Override
+    public V getItemByDisplayValue(String displayValue) {
+        return items.get(displayValue);
+    }
+
+    @Override
+    public String getDisplayValue(V value) {
+        return displayValues.get(value);
+    }
+
+    @Override
+    public Map<String, V> filter(String searchValue) {
+        String normalizedSearch = normalize(isNull(searchValue) ? "" : searchValue);
+        Map<String, V> suggestions = new LinkedHashMap<>();
+
+        SortedMap<String, List<String>> prefixMatches = normalizedIndex.subMap(normalizedSearch, normalizedSearch + Character.MAX_VALUE);
+        for (List<String> displayValues : prefixMatches.values()) {
+            if (addSuggestions(suggestions, displayValues)) {
+                return suggestions;
+            }
+        }
+
+        if (!normalizedSearch.isEmpty()) {
+            for (String normalized : containingCandidates(normalizedSearch)) {
+                if (!normalized.startsWith(normalizedSearch) && normalized.contains(normalizedSearch)
+                        && addSuggestions(suggestions, normalizedIndex.get(normalized))) {
+                    return suggestions;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * The sorted normalized display values that may contain the search value, the ones sharing its rarest trigram,
+     * or all of them for a search shorter than a trigram.
+     */
+    private Collection<String> containingCandidates(String normalizedSearch) {
+        if (normalizedSearch.length() < GRAM_LENGTH) {
+            return normalizedIndex.keySet();
+        }
+        Set<String> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= normalizedSearch.length(); i++) {
+            Set<String> withGram = gramsIndex.get(normalizedSearch.substring(i, i + GRAM_LENGTH));
+            if (isNull(withGram)) {
+                return Collections.emptySet();
+            }
+            if (isNull(candidates) || withGram.size() < candidates.size()) {
+                candidates = withGram;
+            }
+        }
+        return candidates;
+    }
+
+    private boolean addSuggestions(Map<String, V> suggestions, List<String> displayValues) {
+        for (String displayValue : displayValues) {
+            if (suggestions.size() >= maxSuggestions) {
+                return true;
+            }
+            suggestions.put(displayValue, items.get(displayValue));
+        }
+        return suggestions.size() >= maxSuggestions;
+    }
+
+    /**
+     * Uses the loader for the suggestions when it is set, the loaded suggestions are added to the store so their
+     * values can be resolved when selected.
+     */
+    @Override
+    public void filter(String searchValue, SuggestionsHandler<V> handler) {
+        if (isNull(suggestionsLoader)) {
+            handler.onSuggestions(filter(searchValue));
+        } else {
+            suggestionsLoader.load(searchValue, suggestions -> {
+                addItems(suggestions);
+                handler.onSuggestions(suggestions);
+            });
+        }
+    }
+
+    public IndexedTagsStore<V> setSuggestionsLoader(SuggestionsLoader<V> suggestionsLoader) {
+        this.suggestionsLoader = suggestionsLoader;
+        return this;
+    }
+
+    public IndexedTagsStore<V> setMaxSuggestions(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+        return this;
+    }
+
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase();
+    }
+
+    @FunctionalInterface
+    public interface SuggestionsLoader<V> {
+        void load(String searchValue, SuggestionsHandler<V> handler);
+    }
+}
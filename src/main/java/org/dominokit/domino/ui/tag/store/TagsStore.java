@@ -17,5 +17,18 @@ public interface TagsStore<V> {
 
     Map<String, V> filter(String searchValue);
 
+    /**
+     * Reports the suggestions for the search value through the handler, stores that load the suggestions
+     * asynchronously override this method.
+     */
+    default void filter(String searchValue, SuggestionsHandler<V> handler) {
+        handler.onSuggestions(filter(searchValue));
+    }
+
     String getDisplayValue(V value);
+
+    @FunctionalInterface
+    interface SuggestionsHandler<V> {
+        void onSuggestions(Map<String, V> suggestions);
+    }
 }
@@ -1,16 +1,22 @@
 package org.dominokit.domino.ui.themes;
 
 
+import elemental2.dom.HTMLElement;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.style.ColorScheme;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static elemental2.dom.DomGlobal.document;
 import static java.util.Objects.nonNull;
 
 public class Theme {
 
+    public static final String CSS_VARIABLE_PREFIX = "--domino-theme-";
+
     private static List<ThemeChangeHandler> themeChangeHandlers = new ArrayList<>();
 
     public static final ColorScheme RED = ColorScheme.RED;
@@ -95,9 +101,32 @@ public class Theme {
             document.body.classList.remove(currentTheme.themeStyle);
         this.currentTheme = this;
         document.body.classList.add(themeStyle);
+        HTMLElement root = Js.uncheckedCast(document.documentElement);
+        cssVariables(scheme).forEach((name, value) -> root.style.setProperty(name, value));
         themeChangeHandlers.forEach(themeChangeHandler -> themeChangeHandler.onThemeChanged(oldTheme, this));
     }
 
+    /**
+     * The css variables used by the theme colors rules of theme-variables.css, e.g --domino-theme-color and
+     * --domino-theme-l-1, with the values of the given scheme.
+     */
+    public static Map<String, String> cssVariables(ColorScheme scheme) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put(CSS_VARIABLE_PREFIX + "color", scheme.color().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "l-1", scheme.lighten_1().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "l-2", scheme.lighten_2().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "l-3", scheme.lighten_3().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "l-4", scheme.lighten_4().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "l-5", scheme.lighten_5().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "d-1", scheme.darker_1().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "d-2", scheme.darker_2().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "d-3", scheme.darker_3().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "d-4", scheme.darker_4().getHex());
+        variables.put(CSS_VARIABLE_PREFIX + "rgba-1", scheme.rgba_1());
+        variables.put(CSS_VARIABLE_PREFIX + "rgba-2", scheme.rgba_2());
+        return variables;
+    }
+
     @FunctionalInterface
     public interface ThemeChangeHandler {
         void onThemeChanged(Theme oldTheme, Theme newTheme);
@@ -18,6 +18,7 @@ import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.a;
 import static org.jboss.gwt.elemento.core.Elements.li;
@@ -39,6 +40,8 @@ public abstract class Tree extends BaseDominoElement<HTMLDivElement, Tree> imple
     private boolean autoCollapse = true;
     private List<TreeItem> subItems = new ArrayList<>();
     private boolean autoExpandFound;
+    private TreeDataBinding<?> dataBinding;
+    private int maxSearchResults = 200;
 
     @PostConstruct
     void init(){
@@ -178,12 +181,68 @@ public abstract class Tree extends BaseDominoElement<HTMLDivElement, Tree> imple
         this.autoExpandFound = autoExpandFound;
     }
 
+    /**
+     * Creates the root items from the data provider, the children items are created on demand when their parent is
+     * expanded or a search matches them, searches run against an index of the provider data.
+     */
+    public <N> Tree setDataProvider(TreeDataProvider<N> dataProvider) {
+        TreeDataBinding<N> binding = new TreeDataBinding<>(this, dataProvider);
+        this.dataBinding = binding;
+        binding.setMaxSearchResults(maxSearchResults);
+        binding.bindRoots();
+        return this;
+    }
+
+    /**
+     * Limits how many matches of a search on the data provider are shown, defaults to 200.
+     */
+    public Tree setMaxSearchResults(int maxSearchResults) {
+        if (nonNull(dataBinding)) {
+            dataBinding.setMaxSearchResults(maxSearchResults);
+        }
+        this.maxSearchResults = maxSearchResults;
+        return this;
+    }
+
+    public int getMaxSearchResults() {
+        return maxSearchResults;
+    }
+
+    /**
+     * Rebuilds the search index on the next search, to be called when the data of the data provider changes.
+     */
+    public Tree refreshSearchIndex() {
+        if (nonNull(dataBinding)) {
+            dataBinding.resetIndex();
+        }
+        return this;
+    }
+
+    /**
+     * Creates the items from the root to the node of the data provider and expands its ancestors.
+     */
+    public <N> TreeItem reveal(N node) {
+        if (nonNull(dataBinding)) {
+            return ((TreeDataBinding<N>) dataBinding).reveal(node);
+        }
+        return null;
+    }
+
     public void clearFilter() {
+        if (nonNull(dataBinding)) {
+            dataBinding.clearFilter();
+        }
         subItems.forEach(TreeItem::clearFilter);
     }
 
     public void filter(String searchToken) {
-        subItems.forEach(treeItem -> treeItem.filter(searchToken));
+        if (isNull(searchToken) || searchToken.trim().isEmpty()) {
+            clearFilter();
+        } else if (nonNull(dataBinding)) {
+            dataBinding.filter(searchToken);
+        } else {
+            subItems.forEach(treeItem -> treeItem.filter(searchToken));
+        }
     }
 
     @Override
@@ -0,0 +1,176 @@
+package org.dominokit.domino.ui.tree;
+
+import org.dominokit.domino.ui.icons.Icon;
+import org.dominokit.domino.ui.style.Style;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Creates the tree items of a {@link TreeDataProvider} on demand, the children of a node are created when it is
+ * expanded, while a search only creates the items along the paths to the matching nodes.
+ */
+final class TreeDataBinding<N> {
+
+    private final Tree tree;
+    private final TreeDataProvider<N> dataProvider;
+    private final Map<N, TreeItem> items = new HashMap<>();
+    private final Set<N> partiallyLoaded = new HashSet<>();
+    private TreeSearchIndex<N> searchIndex;
+    private int maxSearchResults = 200;
+
+    TreeDataBinding(Tree tree, TreeDataProvider<N> dataProvider) {
+        this.tree = tree;
+        this.dataProvider = dataProvider;
+    }
+
+    void bindRoots() {
+        dataProvider.getRoots().forEach(root -> tree.appendChild(createItem(root)));
+    }
+
+    private TreeItem createItem(N node) {
+        Icon icon = dataProvider.getIcon(node);
+        TreeItem treeItem = isNull(icon) ? TreeItem.create(dataProvider.getTitle(node)) : TreeItem.create(dataProvider.getTitle(node), icon);
+        if (dataProvider.hasChildren(node)) {
+            treeItem.setChildrenLoader(item -> loadChildren(node));
+        }
+        items.put(node, treeItem);
+        return treeItem;
+    }
+
+    private void loadChildren(N node) {
+        partiallyLoaded.remove(node);
+        List<TreeItem> children = new ArrayList<>();
+        for (N child : dataProvider.getChildren(node)) {
+            TreeItem childItem = items.get(child);
+            children.add(nonNull(childItem) ? childItem : createItem(child));
+        }
+        items.get(node).setChildren(children);
+    }
+
+    /**
+     * Returns the item of the node, creating it if its parent did not load its children yet, the parent is then added
+     * to the given parents so its children list is built once by {@link #attachChildren(Set)}.
+     */
+    private TreeItem materialize(N parent, N node, Set<N> grownParents) {
+        TreeItem treeItem = items.get(node);
+        if (isNull(treeItem) && nonNull(parent)) {
+            treeItem = createItem(node);
+            grownParents.add(parent);
+        }
+        return treeItem;
+    }
+
+    /**
+     * Adds the created children to their parents without loading their siblings, the parents keep their children
+     * loader so the other children are still created when they are expanded.
+     */
+    private void attachChildren(Set<N> parents) {
+        for (N parent : parents) {
+            List<TreeItem> children = new ArrayList<>();
+            for (N child : dataProvider.getChildren(parent)) {
+                TreeItem childItem = items.get(child);
+                if (nonNull(childItem)) {
+                    children.add(childItem);
+                }
+            }
+            items.get(parent).setChildren(children);
+            partiallyLoaded.add(parent);
+        }
+    }
+
+    /**
+     * Shows the paths to the nodes matching the token, only the first maxSearchResults matches are created so short
+     * tokens that match most of the nodes do not create the whole tree. A blank token clears the filter.
+     */
+    void filter(String searchToken) {
+        if (isNull(searchToken) || searchToken.trim().isEmpty()) {
+            clearFilter();
+            return;
+        }
+        Set<TreeItem> visible = new HashSet<>();
+        Set<TreeItem> expanded = new HashSet<>();
+        Set<N> grownParents = new LinkedHashSet<>();
+        for (List<N> path : getSearchIndex().search(searchToken, maxSearchResults)) {
+            N parent = null;
+            for (int i = 0; i < path.size(); i++) {
+                N node = path.get(i);
+                TreeItem treeItem = materialize(parent, node, grownParents);
+                if (isNull(treeItem)) {
+                    break;
+                }
+                visible.add(treeItem);
+                if (i < path.size() - 1) {
+                    expanded.add(treeItem);
+                }
+                parent = node;
+            }
+        }
+        attachChildren(grownParents);
+
+        items.values().forEach(treeItem -> {
+            if (visible.contains(treeItem)) {
+                Style.of(treeItem.asElement()).removeProperty("display");
+            } else {
+                Style.of(treeItem.asElement()).setDisplay("none");
+            }
+        });
+        if (tree.isAutoExpandFound()) {
+            expanded.forEach(TreeItem::showChildren);
+        }
+    }
+
+    /**
+     * Shows all the created items again and collapses the parents that only hold the children found by a search, so
+     * their full children are loaded when they are expanded.
+     */
+    void clearFilter() {
+        items.values().forEach(treeItem -> Style.of(treeItem.asElement()).removeProperty("display"));
+        partiallyLoaded.forEach(node -> items.get(node).collapse());
+    }
+
+    void setMaxSearchResults(int maxSearchResults) {
+        this.maxSearchResults = maxSearchResults;
+    }
+
+    int getMaxSearchResults() {
+        return maxSearchResults;
+    }
+
+    /**
+     * Creates the items from the root to the node and expands its ancestors, returns null if the node is not part
+     * of the data.
+     */
+    TreeItem reveal(N node) {
+        List<N> path = getSearchIndex().pathOf(node);
+        TreeItem treeItem = null;
+        N parent = null;
+        for (N pathNode : path) {
+            if (nonNull(treeItem)) {
+                treeItem.expand();
+            }
+            Set<N> grownParents = new HashSet<>();
+            treeItem = materialize(parent, pathNode, grownParents);
+            attachChildren(grownParents);
+            parent = pathNode;
+        }
+        return treeItem;
+    }
+
+    TreeItem getItem(N node) {
+        return items.get(node);
+    }
+
+    void resetIndex() {
+        searchIndex = null;
+    }
+
+    private TreeSearchIndex<N> getSearchIndex() {
+        if (isNull(searchIndex)) {
+            searchIndex = new TreeSearchIndex<>(dataProvider);
+        }
+        return searchIndex;
+    }
+}
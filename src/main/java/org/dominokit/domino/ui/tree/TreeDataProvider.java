@@ -0,0 +1,27 @@
+package org.dominokit.domino.ui.tree;
+
+import org.dominokit.domino.ui.icons.Icon;
+
+import java.util.List;
+
+/**
+ * Supplies the nodes of a {@link Tree}, the tree items of a node's children are only created when the node is
+ * expanded or when a search matches one of its descendants. The nodes are used as map keys so they should have a
+ * stable equals and hashCode.
+ */
+public interface TreeDataProvider<N> {
+
+    List<N> getRoots();
+
+    List<N> getChildren(N node);
+
+    String getTitle(N node);
+
+    default boolean hasChildren(N node) {
+        return !getChildren(node).isEmpty();
+    }
+
+    default Icon getIcon(N node) {
+        return null;
+    }
+}
@@ -14,9 +14,10 @@ import org.dominokit.domino.ui.utils.HasClickableElement;
 import org.dominokit.domino.ui.utils.ParentTreeItem;
 import org.jboss.gwt.elemento.core.EventType;
 
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -39,6 +40,8 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
     private HTMLElement titleElement;
 
     private Icon expandIcon;
+    private String normalizedTitle;
+    private ChildrenLoader childrenLoader;
 
     public TreeItem(String title, Icon icon) {
         this.title = title;
@@ -86,6 +89,56 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
         return this;
     }
 
+    /**
+     * Sets a loader that creates the children of this item the first time it is expanded, the item is shown as a
+     * parent until then.
+     */
+    public TreeItem setChildrenLoader(ChildrenLoader childrenLoader) {
+        this.childrenLoader = childrenLoader;
+        if (nonNull(childrenLoader)) {
+            Style.of(anchorElement).add("tree-toggle");
+            Style.of(this.asElement()).remove("tree-leaf");
+        }
+        return this;
+    }
+
+    private void loadChildren() {
+        if (nonNull(childrenLoader)) {
+            ChildrenLoader loader = this.childrenLoader;
+            this.childrenLoader = null;
+            loader.loadChildren(this);
+        }
+    }
+
+    /**
+     * Replaces the children of this item keeping the given order, the items that are already children are moved
+     * instead of being recreated.
+     */
+    void setChildren(List<TreeItem> children) {
+        Set<TreeItem> currentItems = new HashSet<>(subItems);
+        for (TreeItem treeItem : children) {
+            if (!currentItems.contains(treeItem)) {
+                treeItem.parent = this;
+                if (isNull(treeItem.childrenLoader)) {
+                    Style.of(treeItem).add("tree-leaf");
+                }
+            }
+            childrenContainer.appendChild(treeItem.asElement());
+        }
+        subItems.clear();
+        subItems.addAll(children);
+        if (!children.isEmpty()) {
+            Style.of(anchorElement).add("tree-toggle");
+            Style.of(this.asElement()).remove("tree-leaf");
+        }
+    }
+
+    void showChildren() {
+        if (isParent() && collapsible.isCollapsed()) {
+            collapsible.expand();
+        }
+    }
+
     public TreeItem addSeparator() {
         childrenContainer.appendChild(li().css("separator")
                 .add(a())
@@ -109,6 +162,7 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
                 })
                 .collapse();
         anchorElement.addEventListener("click", evt -> {
+            loadChildren();
             if (isParent()) {
                 collapsible.toggleDisplay();
             }
@@ -120,6 +174,7 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
     }
 
     public TreeItem expand() {
+        loadChildren();
         if (isParent()) {
             collapsible.expand();
         }
@@ -134,6 +189,9 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
     }
 
     public TreeItem toggleDisplay() {
+        if (collapsible.isCollapsed()) {
+            loadChildren();
+        }
         if (isParent()) {
             collapsible.toggleDisplay();
         }
@@ -234,7 +292,7 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
     }
 
     boolean isParent() {
-        return !subItems.isEmpty();
+        return !subItems.isEmpty() || nonNull(childrenLoader);
     }
 
     void setParent(ParentTreeItem<TreeItem> parentMenu) {
@@ -246,12 +304,17 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
     }
 
     public boolean filter(String searchToken) {
+        return filterNormalized(searchToken.toLowerCase());
+    }
 
-        boolean found;
-        if (isParent()) {
-            found = title.toLowerCase().contains(searchToken.toLowerCase()) | filterChildren(searchToken);
-        } else {
-            found = title.toLowerCase().contains(searchToken.toLowerCase());
+    private boolean filterNormalized(String searchToken) {
+        if (isNull(normalizedTitle)) {
+            normalizedTitle = title.toLowerCase();
+        }
+
+        boolean found = normalizedTitle.contains(searchToken);
+        if (!subItems.isEmpty()) {
+            found = filterChildrenNormalized(searchToken) | found;
         }
 
         if (found) {
@@ -277,7 +340,15 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
     }
 
     public boolean filterChildren(String searchToken) {
-        return subItems.stream().filter(treeItem -> treeItem.filter(searchToken)).collect(Collectors.toList()).size() > 0;
+        return filterChildrenNormalized(searchToken.toLowerCase());
+    }
+
+    private boolean filterChildrenNormalized(String searchToken) {
+        boolean found = false;
+        for (TreeItem treeItem : subItems) {
+            found = treeItem.filterNormalized(searchToken) | found;
+        }
+        return found;
     }
 
     public void collapseAll() {
@@ -298,4 +369,9 @@ public class TreeItem extends WavesElement<HTMLLIElement, TreeItem> implements P
     public HTMLElement getWavesElement() {
         return anchorElement;
     }
+
+    @FunctionalInterface
+    public interface ChildrenLoader {
+        void loadChildren(TreeItem treeItem);
+    }
 }
@@ -0,0 +1,93 @@
+package org.dominokit.domino.ui.tree;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps the normalized titles of all the nodes of a {@link TreeDataProvider} with their parents, a search returns the
+ * paths from the roots to the matching nodes and a search that extends the previous one only checks the previous
+ * matches.
+ */
+final class TreeSearchIndex<N> {
+
+    private final List<Entry<N>> entries = new ArrayList<>();
+    private final Map<N, Entry<N>> entriesByNode = new HashMap<>();
+    private String lastSearch;
+    private List<Entry<N>> lastMatches;
+
+    TreeSearchIndex(TreeDataProvider<N> dataProvider) {
+        Deque<Entry<N>> pending = new ArrayDeque<>();
+        dataProvider.getRoots().forEach(root -> pending.add(add(dataProvider, root, null)));
+        while (!pending.isEmpty()) {
+            Entry<N> entry = pending.poll();
+            if (dataProvider.hasChildren(entry.node)) {
+                dataProvider.getChildren(entry.node).forEach(child -> pending.add(add(dataProvider, child, entry)));
+            }
+        }
+    }
+
+    private Entry<N> add(TreeDataProvider<N> dataProvider, N node, Entry<N> parent) {
+        Entry<N> entry = new Entry<>(node, parent, normalize(dataProvider.getTitle(node)));
+        entries.add(entry);
+        entriesByNode.put(node, entry);
+        return entry;
+    }
+
+    /**
+     * Returns the paths of at most maxResults matches, the narrowing of the next search still uses all the matches.
+     */
+    List<List<N>> search(String searchToken, int maxResults) {
+        String normalizedSearch = normalize(searchToken);
+        List<Entry<N>> candidates = nonNull(lastSearch) && normalizedSearch.startsWith(lastSearch) ? lastMatches : entries;
+        List<Entry<N>> matches = new ArrayList<>();
+        for (Entry<N> entry : candidates) {
+            if (entry.normalizedTitle.contains(normalizedSearch)) {
+                matches.add(entry);
+            }
+        }
+        lastSearch = normalizedSearch;
+        lastMatches = matches;
+
+        int resultsCount = Math.min(matches.size(), maxResults);
+        List<List<N>> paths = new ArrayList<>(resultsCount);
+        for (int i = 0; i < resultsCount; i++) {
+            paths.add(pathOf(matches.get(i)));
+        }
+        return paths;
+    }
+
+    List<N> pathOf(N node) {
+        Entry<N> entry = entriesByNode.get(node);
+        return isNull(entry) ? Collections.emptyList() : pathOf(entry);
+    }
+
+    private List<N> pathOf(Entry<N> entry) {
+        LinkedList<N> path = new LinkedList<>();
+        for (Entry<N> current = entry; nonNull(current); current = current.parent) {
+            path.addFirst(current.node);
+        }
+        return path;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String normalize(String value) {
+        return isNull(value) ? "" : value.toLowerCase();
+    }
+
+    private static final class Entry<N> {
+        private final N node;
+        private final Entry<N> parent;
+        private final String normalizedTitle;
+
+        private Entry(N node, Entry<N> parent, String normalizedTitle) {
+            this.node = node;
+            this.parent = parent;
+            this.normalizedTitle = normalizedTitle;
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package org.dominokit.domino.ui.upload;
 
 import elemental2.dom.*;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.style.Color;
 import org.dominokit.domino.ui.style.Styles;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.jboss.gwt.elemento.core.Elements;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
 public class FileImage extends BaseDominoElement<HTMLDivElement, FileImage> {
 
+    private static final List<FileImage> pendingPreviews = new ArrayList<>();
+    private static int maxConcurrentPreviews = 2;
+    private static int decodingPreviews = 0;
+
     private HTMLDivElement fileImageContainer;
+    private File file;
+    private HTMLImageElement image;
+    private int thumbnailSize;
+    private String objectUrl;
+    private boolean decoding;
+    private boolean released;
 
     public FileImage() {
         initFileContainer();
@@ -24,18 +40,27 @@ public class FileImage extends BaseDominoElement<HTMLDivElement, FileImage> {
     }
 
     public FileImage(File file) {
+        this(file, 0);
+    }
+
+    /**
+     * Previews the image through an object URL instead of reading the file into memory, a positive thumbnail size
+     * downsamples the image so its largest side does not exceed that size.
+     */
+    public FileImage(File file, int thumbnailSize) {
+        this.file = file;
+        this.thumbnailSize = thumbnailSize;
         initFileContainer();
-        HTMLImageElement image = Elements.img().css(Styles.img_responsive).asElement();
+        image = Elements.img().css(Styles.img_responsive).asElement();
         image.alt = file.name;
         image.style.maxHeight = CSSProperties.MaxHeightUnionType.of("100%");
         image.style.maxWidth = CSSProperties.MaxWidthUnionType.of("100%");
         image.style.marginRight = CSSProperties.MarginRightUnionType.of("auto");
         image.style.marginLeft = CSSProperties.MarginLeftUnionType.of("auto");
-        FileReader fileReader = new FileReader();
-        fileReader.addEventListener("load", evt -> image.src = fileReader.result.asString());
-        fileReader.readAsDataURL(file);
         setImage(image);
         init(this);
+        pendingPreviews.add(this);
+        loadPendingPreviews();
     }
 
     private void initFileContainer() {
@@ -49,10 +74,121 @@ public class FileImage extends BaseDominoElement<HTMLDivElement, FileImage> {
         return new FileImage(file);
     }
 
+    public static FileImage createImageFile(File file, int thumbnailSize) {
+        return new FileImage(file, thumbnailSize);
+    }
+
     public static FileImage createDefault() {
         return new FileImage();
     }
 
+    /**
+     * Sets how many image previews can be decoded at the same time, the other previews wait for their turn.
+     */
+    public static void setMaxConcurrentPreviews(int maxConcurrentPreviews) {
+        FileImage.maxConcurrentPreviews = maxConcurrentPreviews;
+        loadPendingPreviews();
+    }
+
+    public static int getMaxConcurrentPreviews() {
+        return maxConcurrentPreviews;
+    }
+
+    private static void loadPendingPreviews() {
+        while (decodingPreviews < Math.max(1, maxConcurrentPreviews) && !pendingPreviews.isEmpty()) {
+            FileImage fileImage = pendingPreviews.remove(0);
+            decodingPreviews++;
+            fileImage.decoding = true;
+            fileImage.loadPreview();
+        }
+    }
+
+    private void loadPreview() {
+        String sourceUrl = ObjectUrl.createObjectURL(file);
+        if (thumbnailSize <= 0) {
+            objectUrl = sourceUrl;
+            image.onload = evt -> onPreviewLoaded();
+            image.onerror = evt -> onPreviewLoaded();
+            image.src = sourceUrl;
+            return;
+        }
+
+        Image source = new Image();
+        source.onload = evt -> {
+            drawThumbnail(source, sourceUrl);
+            return null;
+        };
+        source.onerror = evt -> {
+            ObjectUrl.revokeObjectURL(sourceUrl);
+            return onPreviewLoaded();
+        };
+        source.src = sourceUrl;
+    }
+
+    private void drawThumbnail(Image source, String sourceUrl) {
+        double scale = Math.min(1, (double) thumbnailSize / Math.max(source.naturalWidth, source.naturalHeight));
+        if (released || scale >= 1) {
+            objectUrl = sourceUrl;
+            showPreview();
+            return;
+        }
+        HTMLCanvasElement canvas = Js.uncheckedCast(DomGlobal.document.createElement("canvas"));
+        canvas.width = (int) Math.max(1, Math.round(source.naturalWidth * scale));
+        canvas.height = (int) Math.max(1, Math.round(source.naturalHeight * scale));
+        CanvasRenderingContext2D context = Js.uncheckedCast(canvas.getContext("2d"));
+        context.drawImage(CanvasRenderingContext2D.DrawImageImageUnionType.of(source), 0, 0, canvas.width, canvas.height);
+        ObjectUrl.revokeObjectURL(sourceUrl);
+        source.src = "";
+        canvas.toBlob(blob -> {
+            if (nonNull(blob)) {
+                objectUrl = ObjectUrl.createObjectURL(blob);
+                showPreview();
+            } else {
+                onPreviewLoaded();
+            }
+            return null;
+        }, "image/jpeg".equals(file.type) ? "image/jpeg" : "image/png");
+    }
+
+    private void showPreview() {
+        if (released) {
+            revokeObjectUrl();
+            onPreviewLoaded();
+            return;
+        }
+        image.onload = evt -> onPreviewLoaded();
+        image.onerror = evt -> onPreviewLoaded();
+        image.src = objectUrl;
+    }
+
+    private Object onPreviewLoaded() {
+        image.onload = null;
+        image.onerror = null;
+        if (decoding) {
+            decoding = false;
+            decodingPreviews--;
+            loadPendingPreviews();
+        }
+        return null;
+    }
+
+    /**
+     * Releases the object URL of the preview, the preview will not be loaded if it is still waiting for its turn.
+     */
+    public FileImage release() {
+        released = true;
+        pendingPreviews.remove(this);
+        revokeObjectUrl();
+        return this;
+    }
+
+    private void revokeObjectUrl() {
+        if (nonNull(objectUrl)) {
+            ObjectUrl.revokeObjectURL(objectUrl);
+            objectUrl = null;
+        }
+    }
+
     @Override
     public HTMLDivElement asElement() {
         return fileImageContainer;
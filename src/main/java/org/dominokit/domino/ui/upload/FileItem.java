@@ -5,7 +5,7 @@ import elemental2.dom.*;
 import org.dominokit.domino.ui.Typography.Paragraph;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.popover.PopupPosition;
-import org.dominokit.domino.ui.popover.Tooltip;
+import org.dominokit.domino.ui.popover.DelegatedTooltip;
 import org.dominokit.domino.ui.progress.Progress;
 import org.dominokit.domino.ui.progress.ProgressBar;
 import org.dominokit.domino.ui.style.Color;
@@ -13,11 +13,14 @@ import org.dominokit.domino.ui.thumbnails.Thumbnail;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.jboss.gwt.elemento.core.Elements;
+import org.gwtproject.timer.client.Timer;
 import org.jboss.gwt.elemento.core.IsElement;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.h;
 
 public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
@@ -51,7 +54,17 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     private XMLHttpRequest request;
     private boolean canceled;
     private boolean uploaded;
-
+    private boolean transferring;
+    private UploadTransport.UploadRequest currentRequest;
+    private double resumeOffset;
+    private double uploadedBytes;
+    private int attempt;
+    private Timer retryTimer = new Timer() {
+        @Override
+        public void run() {
+            sendChunk();
+        }
+    };
 
     public static FileItem create(File file, UploadOptions options) {
         return new FileItem(file, options);
@@ -75,8 +88,8 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     }
 
     private void initFileImage() {
-        if (isImage())
-            fileImage = FileImage.createImageFile(file);
+        if (isImage() && isPreviewable())
+            fileImage = FileImage.createImageFile(file, options.getThumbnailSize());
         else
             fileImage = FileImage.createDefault();
     }
@@ -85,10 +98,14 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
         return file.type.startsWith("image");
     }
 
+    private boolean isPreviewable() {
+        return options.getPreviewMaxFileSize() <= 0 || UploadChunk.getFileSize(file) <= options.getPreviewMaxFileSize();
+    }
+
     private void initFileTitle() {
         fileNameTitleContainer = h(3).css(ELLIPSIS_TEXT).textContent(file.name).asElement();
         fileNameTitleContainer.style.margin = CSSProperties.MarginUnionType.of("0px");
-        Tooltip.create(fileNameTitleContainer, file.name);
+        DelegatedTooltip.set(fileNameTitleContainer, file.name);
     }
 
     private void initFileSizeParagraph() {
@@ -190,8 +207,12 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     }
 
     private void updateProgress(double loaded) {
+        uploadedBytes = loaded;
         progressBar.setValue(loaded);
         progressHandlers.forEach(handler -> handler.onProgress(loaded, request));
+        if (nonNull(options.getScheduler())) {
+            options.getScheduler().onProgress(this);
+        }
     }
 
     public FileItem addRemoveHandler(RemoveFileHandler removeHandler) {
@@ -225,47 +246,115 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     }
 
     public void upload() {
-        if (!isExceedsMaxFile() && !uploaded) {
+        if (!isExceedsMaxFile() && !uploaded && !transferring && !isQueued()) {
             resetState();
+            hideRefreshIcon();
+            showCancelIcon();
+            if (nonNull(options.getScheduler())) {
+                options.getScheduler().schedule(this);
+            } else {
+                startTransfer();
+            }
+        }
+    }
 
-            request = new XMLHttpRequest();
-
-            request.upload.addEventListener("loadstart", evt -> {
-                hideRefreshIcon();
-                showCancelIcon();
-            });
-
-            request.upload.addEventListener("loadend", evt -> {
-                hideCancelIcon();
-            });
-
-            request.upload.onprogress = p0 -> {
-                if (p0.lengthComputable)
-                    updateProgress(p0.loaded);
-            };
-
-            request.onabort = p0 -> {
-                showRefreshIcon();
-                resetProgress();
-                cancelHandlers.forEach(handler -> handler.onCancel(request));
-            };
-
-            request.addEventListener("readystatechange", evt -> {
-                if (request.readyState == 4) {
-                    if (request.status == 200)
-                        onSuccess();
-                    else if (!canceled)
-                        onError();
-                }
-            });
-            request.open("post", options.getUrl());
-            FormData formData = new FormData();
-            formData.append(file.name, file);
-            beforeUploadHandlers.forEach(handler -> handler.onBeforeUpload(request));
-            request.send(formData);
+    void startTransfer() {
+        transferring = true;
+        attempt = 0;
+        sendChunk();
+    }
+
+    /**
+     * Sends the part of the file starting at the resume offset, the offset only moves forward when a chunk is
+     * confirmed so a failed or canceled upload continues from the last confirmed chunk.
+     */
+    private void sendChunk() {
+        double total = UploadChunk.getFileSize(file);
+        double end = options.getChunkSize() > 0 ? Math.min(total, resumeOffset + options.getChunkSize()) : total;
+        UploadChunk chunk = new UploadChunk(file, options.getUrl(), resumeOffset, end, attempt);
+        currentRequest = options.getTransport().send(chunk, new UploadTransport.UploadCallback() {
+            @Override
+            public void onBeforeSend(XMLHttpRequest xhr) {
+                request = xhr;
+                beforeUploadHandlers.forEach(handler -> handler.onBeforeUpload(request));
+            }
+
+            @Override
+            public void onProgress(double loaded) {
+                updateProgress(chunk.getStart() + loaded);
+            }
+
+            @Override
+            public void onSuccess(XMLHttpRequest xhr) {
+                request = xhr;
+                onChunkUploaded(chunk);
+            }
+
+            @Override
+            public void onError(XMLHttpRequest xhr) {
+                request = xhr;
+                onChunkFailed();
+            }
+
+            @Override
+            public void onAbort(XMLHttpRequest xhr) {
+                request = xhr;
+                onAborted();
+            }
+        });
+    }
+
+    private void onChunkUploaded(UploadChunk chunk) {
+        currentRequest = null;
+        resumeOffset = chunk.getEnd();
+        attempt = 0;
+        if (resumeOffset >= chunk.getTotal()) {
+            finishTransfer();
+            onSuccess();
+        } else {
+            sendChunk();
         }
     }
 
+    private void onChunkFailed() {
+        currentRequest = null;
+        if (canceled || !transferring) {
+            return;
+        }
+        if (attempt < options.getMaxRetries()) {
+            attempt++;
+            retryTimer.schedule(options.getRetryDelay() * (1 << Math.min(attempt - 1, 10)));
+        } else {
+            finishTransfer();
+            resetProgress();
+            onError();
+        }
+    }
+
+    private void onAborted() {
+        currentRequest = null;
+        if (!transferring) {
+            return;
+        }
+        finishTransfer();
+        showRefreshIcon();
+        resetProgress();
+        cancelHandlers.forEach(handler -> handler.onCancel(request));
+    }
+
+    private void finishTransfer() {
+        transferring = false;
+        retryTimer.cancel();
+        hideCancelIcon();
+        if (nonNull(options.getScheduler())) {
+            options.getScheduler().onFinished(this);
+        }
+    }
+
+    private boolean isQueued() {
+        return nonNull(options.getScheduler()) && options.getScheduler().isQueued(this);
+    }
+
     private void showRefreshIcon() {
         refreshIcon.style.display = "inline-block";
     }
@@ -286,7 +375,7 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
         thumbnail.asElement().style.border = "1px solid #ddd";
         messageContainer.textContent = "";
         canceled = false;
-        updateProgress(0);
+        updateProgress(resumeOffset);
         updateProgressBackground(Color.BLUE);
     }
 
@@ -295,7 +384,8 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     }
 
     private void resetProgress() {
-        progressBar.setValue(0);
+        uploadedBytes = resumeOffset;
+        progressBar.setValue(resumeOffset);
     }
 
     private void onSuccess() {
@@ -321,7 +411,7 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     private String getErrorMessage() {
         if (errorMessage != null)
             return errorMessage;
-        return request.responseText.isEmpty() ? "Error while sending request" : request.responseText;
+        return isNull(request) || request.responseText.isEmpty() ? "Error while sending request" : request.responseText;
     }
 
     public void invalidate(String message) {
@@ -332,7 +422,7 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     private void setMessage(String message, Color color) {
         messageContainer.textContent = message;
         messageContainer.style.color = color.getHex();
-        Tooltip.create(messageContainer, message).position(PopupPosition.BOTTOM);
+        DelegatedTooltip.set(messageContainer, () -> DomGlobal.document.createTextNode(message), PopupPosition.BOTTOM);
     }
 
     private void updateProgressBackground(Color background) {
@@ -341,6 +431,11 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
 
     @Override
     public FileItem remove() {
+        cancel();
+        if (nonNull(options.getScheduler())) {
+            options.getScheduler().release(this);
+        }
+        fileImage.release();
         super.remove();
         removeHandlers.forEach(handler -> handler.onRemoveFile(file));
         return this;
@@ -414,9 +509,19 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
     }
 
     public FileItem cancel() {
-        if (request != null) {
+        if (isQueued()) {
+            canceled = true;
+            options.getScheduler().unschedule(this);
+            hideCancelIcon();
+            showRefreshIcon();
+            resetProgress();
+            cancelHandlers.forEach(handler -> handler.onCancel(request));
+        } else if (transferring) {
             canceled = true;
-            request.abort();
+            if (nonNull(currentRequest)) {
+                currentRequest.abort();
+            }
+            onAborted();
         }
         return this;
     }
@@ -441,6 +546,29 @@ public class FileItem extends BaseDominoElement<HTMLDivElement, FileItem> {
         return uploaded;
     }
 
+    public boolean isTransferring() {
+        return transferring;
+    }
+
+    public double getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    public double getResumeOffset() {
+        return resumeOffset;
+    }
+
+    /**
+     * Sets the offset the next upload starts from, for when the server already has the first part of the file.
+     */
+    public FileItem setResumeOffset(double resumeOffset) {
+        if (!transferring) {
+            this.resumeOffset = resumeOffset;
+            resetProgress();
+        }
+        return this;
+    }
+
     @FunctionalInterface
     public interface RemoveFileHandler {
         void onRemoveFile(File file);
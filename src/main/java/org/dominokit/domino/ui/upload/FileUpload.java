@@ -27,6 +27,13 @@ public class FileUpload extends BaseDominoElement<HTMLDivElement, FileUpload> im
     private List<FileItem> addedFileItems = new ArrayList<>();
     private double maxFileSize;
     private String url;
+    private double chunkSize;
+    private int maxRetries;
+    private int retryDelay = 1000;
+    private UploadTransport transport = XhrUploadTransport.get();
+    private UploadScheduler scheduler = new UploadScheduler();
+    private double previewMaxFileSize;
+    private int thumbnailSize;
 
     private List<OnAddFileHandler> onAddFileHandlers = new ArrayList<>();
     private boolean autoUpload = true;
@@ -77,7 +84,7 @@ public class FileUpload extends BaseDominoElement<HTMLDivElement, FileUpload> im
 
     private void uploadFiles(FileList files) {
         if (singleFile) {
-            addedFileItems.forEach(FileItem::remove);
+            new ArrayList<>(addedFileItems).forEach(FileItem::remove);
             addedFileItems.clear();
         }
         for (int i = 0; i < files.length; i++) {
@@ -92,7 +99,15 @@ public class FileUpload extends BaseDominoElement<HTMLDivElement, FileUpload> im
     }
 
     private void addFilePreview(File file) {
-        FileItem fileItem = FileItem.create(file, new UploadOptions(url, maxFileSize));
+        UploadOptions options = new UploadOptions(url, maxFileSize)
+                .setChunkSize(chunkSize)
+                .setMaxRetries(maxRetries)
+                .setRetryDelay(retryDelay)
+                .setTransport(transport)
+                .setScheduler(scheduler)
+                .setPreviewMaxFileSize(previewMaxFileSize)
+                .setThumbnailSize(thumbnailSize);
+        FileItem fileItem = FileItem.create(file, options);
         Column previewColumn = column.copy().appendChild(fileItem.asElement());
 
         fileItem.addRemoveHandler(removedFile -> {
@@ -166,6 +181,55 @@ public class FileUpload extends BaseDominoElement<HTMLDivElement, FileUpload> im
         return this;
     }
 
+    public FileUpload setMaxConcurrentUploads(int maxConcurrentUploads) {
+        scheduler.setMaxConcurrentUploads(maxConcurrentUploads);
+        return this;
+    }
+
+    /**
+     * Splits the uploaded files into parts of the given size, zero sends each file in a single request.
+     */
+    public FileUpload setChunkSize(double chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public FileUpload setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    public FileUpload setRetryDelay(int retryDelay) {
+        this.retryDelay = retryDelay;
+        return this;
+    }
+
+    public FileUpload setTransport(UploadTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Shows the default file icon instead of a preview for images larger than the given size.
+     */
+    public FileUpload setPreviewMaxFileSize(double previewMaxFileSize) {
+        this.previewMaxFileSize = previewMaxFileSize;
+        return this;
+    }
+
+    /**
+     * Downsamples the image previews so their largest side does not exceed the given size in pixels.
+     */
+    public FileUpload setThumbnailSize(int thumbnailSize) {
+        this.thumbnailSize = thumbnailSize;
+        return this;
+    }
+
+    public FileUpload onUploadProgress(UploadScheduler.ProgressHandler progressHandler) {
+        scheduler.addProgressHandler(progressHandler);
+        return this;
+    }
+
     public FileUpload onAddFile(OnAddFileHandler onAddFileHandler) {
         onAddFileHandlers.add(onAddFileHandler);
         return this;
@@ -221,6 +285,34 @@ public class FileUpload extends BaseDominoElement<HTMLDivElement, FileUpload> im
         return url;
     }
 
+    public double getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    public UploadTransport getTransport() {
+        return transport;
+    }
+
+    public UploadScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public double getPreviewMaxFileSize() {
+        return previewMaxFileSize;
+    }
+
+    public int getThumbnailSize() {
+        return thumbnailSize;
+    }
+
     public List<OnAddFileHandler> getOnAddFileHandlers() {
         return onAddFileHandlers;
     }
@@ -0,0 +1,12 @@
+package org.dominokit.domino.ui.upload;
+
+import elemental2.dom.Blob;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+@JsType(isNative = true, name = "URL", namespace = JsPackage.GLOBAL)
+class ObjectUrl {
+    static native String createObjectURL(Blob blob);
+
+    static native void revokeObjectURL(String url);
+}
@@ -0,0 +1,66 @@
+package org.dominokit.domino.ui.upload;
+
+import elemental2.core.Function;
+import elemental2.dom.Blob;
+import elemental2.dom.File;
+import jsinterop.base.Js;
+
+/**
+ * A part of a file to be sent in a single request, the offsets are kept as doubles so files larger than 2GB can be
+ * sliced.
+ */
+public class UploadChunk {
+    private final File file;
+    private final String url;
+    private final double start;
+    private final double end;
+    private final int attempt;
+
+    public UploadChunk(File file, String url, double start, double end, int attempt) {
+        this.file = file;
+        this.url = url;
+        this.start = start;
+        this.end = end;
+        this.attempt = attempt;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public double getStart() {
+        return start;
+    }
+
+    public double getEnd() {
+        return end;
+    }
+
+    public double getTotal() {
+        return getFileSize(file);
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public boolean isPartial() {
+        return start > 0 || end < getTotal();
+    }
+
+    public Blob getContent() {
+        if (!isPartial()) {
+            return file;
+        }
+        Function slice = Js.uncheckedCast(Js.asPropertyMap(file).get("slice"));
+        return Js.uncheckedCast(slice.call(file, start, end));
+    }
+
+    static double getFileSize(File file) {
+        return Js.asPropertyMap(file).getAny("size").asDouble();
+    }
+}
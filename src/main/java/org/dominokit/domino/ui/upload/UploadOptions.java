@@ -3,6 +3,13 @@ package org.dominokit.domino.ui.upload;
 public class UploadOptions {
     private String url;
     private double maxFileSize;
+    private double chunkSize;
+    private int maxRetries;
+    private int retryDelay = 1000;
+    private UploadTransport transport = XhrUploadTransport.get();
+    private UploadScheduler scheduler;
+    private double previewMaxFileSize;
+    private int thumbnailSize;
 
     public UploadOptions(String url, double maxFileSize) {
         this.url = url;
@@ -16,4 +23,77 @@ public class UploadOptions {
     public double getMaxFileSize() {
         return maxFileSize;
     }
+
+    /**
+     * The size of the parts the files are sent in, zero sends each file in a single request.
+     */
+    public UploadOptions setChunkSize(double chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public double getChunkSize() {
+        return chunkSize;
+    }
+
+    public UploadOptions setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * The delay before the first retry of a failed chunk in milliseconds, doubled for each following retry.
+     */
+    public UploadOptions setRetryDelay(int retryDelay) {
+        this.retryDelay = retryDelay;
+        return this;
+    }
+
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    public UploadOptions setTransport(UploadTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    public UploadTransport getTransport() {
+        return transport;
+    }
+
+    public UploadOptions setScheduler(UploadScheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    public UploadScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Images larger than this size are shown with the default file icon instead of a preview, zero previews all
+     * images.
+     */
+    public UploadOptions setPreviewMaxFileSize(double previewMaxFileSize) {
+        this.previewMaxFileSize = previewMaxFileSize;
+        return this;
+    }
+
+    public double getPreviewMaxFileSize() {
+        return previewMaxFileSize;
+    }
+
+    public UploadOptions setThumbnailSize(int thumbnailSize) {
+        this.thumbnailSize = thumbnailSize;
+        return this;
+    }
+
+    public int getThumbnailSize() {
+        return thumbnailSize;
+    }
 }
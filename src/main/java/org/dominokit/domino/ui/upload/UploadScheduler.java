@@ -0,0 +1,129 @@
+package org.dominokit.domino.ui.upload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limits the number of files being uploaded at the same time, the scheduled files wait in a queue and start in order
+ * whenever a running upload completes, fails or gets canceled.
+ */
+public class UploadScheduler {
+
+    private int maxConcurrentUploads;
+    private final List<FileItem> queue = new ArrayList<>();
+    private final List<FileItem> running = new ArrayList<>();
+    private final List<FileItem> tracked = new ArrayList<>();
+    private final List<ProgressHandler> progressHandlers = new ArrayList<>();
+
+    public UploadScheduler() {
+        this(4);
+    }
+
+    public UploadScheduler(int maxConcurrentUploads) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+    }
+
+    public UploadScheduler setMaxConcurrentUploads(int maxConcurrentUploads) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+        startNext();
+        return this;
+    }
+
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    public UploadScheduler addProgressHandler(ProgressHandler progressHandler) {
+        progressHandlers.add(progressHandler);
+        return this;
+    }
+
+    public UploadScheduler removeProgressHandler(ProgressHandler progressHandler) {
+        progressHandlers.remove(progressHandler);
+        return this;
+    }
+
+    void schedule(FileItem fileItem) {
+        if (!tracked.contains(fileItem)) {
+            tracked.add(fileItem);
+        }
+        if (!queue.contains(fileItem) && !running.contains(fileItem)) {
+            queue.add(fileItem);
+        }
+        startNext();
+    }
+
+    /**
+     * Removes the file from the queue, returns false if the file is not waiting for a slot.
+     */
+    boolean unschedule(FileItem fileItem) {
+        return queue.remove(fileItem);
+    }
+
+    void onFinished(FileItem fileItem) {
+        if (running.remove(fileItem)) {
+            startNext();
+        }
+    }
+
+    void release(FileItem fileItem) {
+        queue.remove(fileItem);
+        tracked.remove(fileItem);
+        onFinished(fileItem);
+        fireProgress();
+    }
+
+    void onProgress(FileItem fileItem) {
+        fireProgress();
+    }
+
+    private void startNext() {
+        while (running.size() < Math.max(1, maxConcurrentUploads) && !queue.isEmpty()) {
+            FileItem fileItem = queue.remove(0);
+            running.add(fileItem);
+            fileItem.startTransfer();
+        }
+    }
+
+    private void fireProgress() {
+        if (progressHandlers.isEmpty()) {
+            return;
+        }
+        double loaded = getLoadedBytes();
+        double total = getTotalBytes();
+        new ArrayList<>(progressHandlers).forEach(handler -> handler.onProgress(loaded, total));
+    }
+
+    public double getLoadedBytes() {
+        double loaded = 0;
+        for (FileItem fileItem : tracked) {
+            loaded += fileItem.getUploadedBytes();
+        }
+        return loaded;
+    }
+
+    public double getTotalBytes() {
+        double total = 0;
+        for (FileItem fileItem : tracked) {
+            total += UploadChunk.getFileSize(fileItem.getFile());
+        }
+        return total;
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public int getRunningCount() {
+        return running.size();
+    }
+
+    public boolean isQueued(FileItem fileItem) {
+        return queue.contains(fileItem);
+    }
+
+    @FunctionalInterface
+    public interface ProgressHandler {
+        void onProgress(double loaded, double total);
+    }
+}
@@ -0,0 +1,34 @@
+package org.dominokit.domino.ui.upload;
+
+import elemental2.dom.XMLHttpRequest;
+
+/**
+ * Sends the chunks of the uploaded files, the default implementation is {@link XhrUploadTransport}, another
+ * implementation can be set in the {@link UploadOptions} to send the files differently or to a stand-in server.
+ */
+@FunctionalInterface
+public interface UploadTransport {
+
+    UploadRequest send(UploadChunk chunk, UploadCallback callback);
+
+    @FunctionalInterface
+    interface UploadRequest {
+        void abort();
+    }
+
+    /**
+     * Receives the state of a chunk request, the request is passed to the file item handlers and can be null for
+     * transports that do not use an {@link XMLHttpRequest}.
+     */
+    interface UploadCallback {
+        void onBeforeSend(XMLHttpRequest request);
+
+        void onProgress(double loaded);
+
+        void onSuccess(XMLHttpRequest request);
+
+        void onError(XMLHttpRequest request);
+
+        void onAbort(XMLHttpRequest request);
+    }
+}
@@ -0,0 +1,54 @@
+package org.dominokit.domino.ui.upload;
+
+import elemental2.dom.FormData;
+import elemental2.dom.XMLHttpRequest;
+
+/**
+ * Posts each chunk as a multipart form, a chunk that is part of a larger file is sent with a
+ * <code>Content-Range</code> header so the server can append it at the right offset.
+ */
+public class XhrUploadTransport implements UploadTransport {
+
+    private static final XhrUploadTransport INSTANCE = new XhrUploadTransport();
+
+    public static XhrUploadTransport get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public UploadRequest send(UploadChunk chunk, UploadCallback callback) {
+        XMLHttpRequest request = new XMLHttpRequest();
+        boolean[] aborted = {false};
+
+        request.upload.onprogress = p0 -> {
+            if (p0.lengthComputable)
+                callback.onProgress(p0.loaded);
+        };
+
+        request.onabort = p0 -> callback.onAbort(request);
+
+        request.addEventListener("readystatechange", evt -> {
+            if (request.readyState == 4 && !aborted[0]) {
+                if (request.status >= 200 && request.status < 300)
+                    callback.onSuccess(request);
+                else
+                    callback.onError(request);
+            }
+        });
+
+        request.open("post", chunk.getUrl());
+        if (chunk.isPartial()) {
+            request.setRequestHeader("Content-Range", "bytes " + (long) chunk.getStart() + "-"
+                    + ((long) chunk.getEnd() - 1) + "/" + (long) chunk.getTotal());
+        }
+        FormData formData = new FormData();
+        formData.append(chunk.getFile().name, chunk.getContent(), chunk.getFile().name);
+        callback.onBeforeSend(request);
+        request.send(formData);
+
+        return () -> {
+            aborted[0] = true;
+            request.abort();
+        };
+    }
+}
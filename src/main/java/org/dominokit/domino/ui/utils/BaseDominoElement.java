@@ -1,8 +1,9 @@
 package org.dominokit.domino.ui.utils;
 
 import elemental2.dom.*;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.collapsible.Collapsible;
-import org.dominokit.domino.ui.popover.Tooltip;
+import org.dominokit.domino.ui.popover.DelegatedTooltip;
 import org.dominokit.domino.ui.style.Style;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.EventType;
@@ -16,19 +17,36 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
 
     protected T element;
     private String uuid;
-    private Tooltip tooltip;
     private Collapsible collapsible;
-    protected Style<E, T> style;
+    private Style<E, T> style;
 
     private ScreenMedia hideOn;
     private ScreenMedia showOn;
 
+    /**
+     * Only keeps the component, the unique id, the collapsible and the style wrapper are created on first use so
+     * components that never need them do not pay for them.
+     */
     public void init(T element) {
         this.element = element;
-        this.uuid = Elements.createDocumentUniqueId();
-        setAttribute("domino-uuid", this.uuid);
-        this.collapsible = Collapsible.create(getCollapsibleElement());
-        this.style = Style.of(element);
+    }
+
+    /**
+     * The document unique id of this component, it is generated and set as the domino-uuid attribute on first call.
+     */
+    public String getDominoId() {
+        if (isNull(uuid)) {
+            uuid = Elements.createDocumentUniqueId();
+            setAttribute("domino-uuid", uuid);
+        }
+        return uuid;
+    }
+
+    private Collapsible getCollapsible() {
+        if (isNull(collapsible)) {
+            collapsible = Collapsible.create(getCollapsibleElement());
+        }
+        return collapsible;
     }
 
     public T setId(String id) {
@@ -42,19 +60,19 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
 
     @Override
     public T collapse() {
-        collapsible.collapse();
+        getCollapsible().collapse();
         return element;
     }
 
     @Override
     public T expand() {
-        collapsible.expand();
+        getCollapsible().expand();
         return element;
     }
 
     @Override
     public T toggleDisplay() {
-        collapsible.toggleDisplay();
+        getCollapsible().toggleDisplay();
         return element;
     }
 
@@ -84,13 +102,30 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     }
 
     public boolean isAttached() {
-        return nonNull(DomGlobal.document.body.querySelector("[domino-uuid='" + uuid + "']"));
+        Object connected = Js.asPropertyMap(asElement()).get("isConnected");
+        if (connected instanceof Boolean) {
+            return (Boolean) connected;
+        }
+        return DomGlobal.document.body.contains(asElement());
     }
 
     public Style<E, T> style() {
+        if (isNull(style)) {
+            style = Style.of(element);
+        }
         return style;
     }
 
+    /**
+     * Kept for the subclasses that used the former protected style field, which is now created on first use.
+     *
+     * @deprecated use {@link #style()}
+     */
+    @Deprecated
+    protected Style<E, T> getElementStyle() {
+        return style();
+    }
+
     public HtmlComponentBuilder<E, T> builder() {
         return ElementUtil.componentBuilder(element);
     }
@@ -235,11 +270,7 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     }
 
     public T setTooltip(Node node) {
-        if (isNull(tooltip)) {
-            tooltip = Tooltip.create(asElement(), node);
-        } else {
-            tooltip.setContent(node);
-        }
+        DelegatedTooltip.set(asElement(), node);
         return element;
     }
 
@@ -258,20 +289,20 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
 
     public T hideOn(ScreenMedia screenMedia) {
         if (nonNull(hideOn)) {
-            style.remove("hide-on-" + hideOn.getStyle());
+            style().remove("hide-on-" + hideOn.getStyle());
         }
         this.hideOn = screenMedia;
-        style.add("hide-on-" + this.hideOn.getStyle());
+        style().add("hide-on-" + this.hideOn.getStyle());
 
         return element;
     }
 
     public T showOn(ScreenMedia screenMedia) {
         if (nonNull(showOn)) {
-            style.remove("show-on-" + showOn.getStyle());
+            style().remove("show-on-" + showOn.getStyle());
         }
         this.showOn = screenMedia;
-        style.add("show-on-" + this.showOn.getStyle());
+        style().add("show-on-" + this.showOn.getStyle());
 
         return element;
     }
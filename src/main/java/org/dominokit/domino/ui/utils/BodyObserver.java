@@ -5,8 +5,7 @@ import jsinterop.base.Js;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.ObserverCallback;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import static elemental2.dom.DomGlobal.document;
 import static java.util.Objects.isNull;
@@ -17,17 +16,22 @@ final class BodyObserver {
     private static String ATTACH_UID_KEY = "on-attach-uid";
     private static String DETACH_UID_KEY = "on-detach-uid";
 
-    private static List<ElementObserver> detachObservers = new ArrayList<>();
-    private static List<ElementObserver> attachObservers = new ArrayList<>();
+    private static Map<String, ElementObserver> detachObservers = new HashMap<>();
+    private static Map<String, ElementObserver> attachObservers = new HashMap<>();
     private static boolean ready = false;
 
+    private static int batchesCount = 0;
+    private static int recordsCount = 0;
+    private static int lastBatchSize = 0;
+    private static int maxBatchSize = 0;
+    private static int callbacksCount = 0;
+    private static double totalTime = 0;
+    private static double lastBatchTime = 0;
+
     private static void startObserving() {
         MutationObserver mutationObserver = new MutationObserver(
                 (MutationRecord[] records, MutationObserver observer) -> {
-                    for (MutationRecord record : records) {
-                        onElementsRemoved(record);
-                        onElementsAppended(record);
-                    }
+                    onMutations(records);
                     return null;
                 });
 
@@ -38,61 +42,76 @@ final class BodyObserver {
         ready = true;
     }
 
-    private static void onElementsAppended(MutationRecord record) {
-        List<Node> nodes = record.addedNodes.asList();
-        List<ElementObserver> observed = new ArrayList<>();
-        for (ElementObserver elementObserver : attachObservers) {
-            if (isNull(elementObserver.observedElement())) {
-                observed.add(elementObserver);
-            } else {
-                if (nodes.contains(elementObserver.observedElement()) || isChildOfAddedNode(record, elementObserver.attachId())) {
-                    elementObserver.callback().onObserved(record);
-                    elementObserver.observedElement().removeAttribute(ATTACH_UID_KEY);
-                    observed.add(elementObserver);
-                }
+    private static void onMutations(MutationRecord[] records) {
+        double startTime = DomGlobal.performance.now();
+        Map<ElementObserver, MutationRecord> attached = new LinkedHashMap<>();
+        Map<ElementObserver, MutationRecord> detached = new LinkedHashMap<>();
+        for (MutationRecord record : records) {
+            if (!detachObservers.isEmpty()) {
+                collectObserved(record, record.removedNodes, DETACH_UID_KEY, detachObservers, detached);
+            }
+            if (!attachObservers.isEmpty()) {
+                collectObserved(record, record.addedNodes, ATTACH_UID_KEY, attachObservers, attached);
             }
         }
 
-        attachObservers.removeAll(observed);
-    }
-
-    private static boolean isChildOfAddedNode(MutationRecord record, String attachId) {
-        return isChildOfObservedNode(attachId, record.addedNodes.asList(), ATTACH_UID_KEY);
-    }
-
-    private static void onElementsRemoved(MutationRecord record) {
-        List<Node> nodes = record.addedNodes.asList();
         List<ElementObserver> observed = new ArrayList<>();
-        for (ElementObserver elementObserver : detachObservers) {
-            if (isNull(elementObserver.observedElement())) {
+        detached.forEach((elementObserver, record) -> {
+            if (!document.body.contains(elementObserver.observedElement())) {
+                detachObservers.remove(elementObserver.attachId());
+                elementObserver.observedElement().removeAttribute(DETACH_UID_KEY);
+                observed.add(elementObserver);
+            }
+        });
+        attached.forEach((elementObserver, record) -> {
+            if (document.body.contains(elementObserver.observedElement())) {
+                attachObservers.remove(elementObserver.attachId());
+                elementObserver.observedElement().removeAttribute(ATTACH_UID_KEY);
                 observed.add(elementObserver);
-            } else {
-                if (nodes.contains(elementObserver.observedElement()) || isChildOfRemovedNode(record, elementObserver.attachId())) {
-                    elementObserver.callback().onObserved(record);
-                    elementObserver.observedElement().removeAttribute(DETACH_UID_KEY);
-                    observed.add(elementObserver);
-                }
             }
+        });
+        for (ElementObserver elementObserver : observed) {
+            MutationRecord record = detached.containsKey(elementObserver) ? detached.get(elementObserver) : attached.get(elementObserver);
+            elementObserver.callbacks().forEach(callback -> callback.onObserved(record));
+            callbacksCount += elementObserver.callbacks().size();
         }
 
-        detachObservers.removeAll(observed);
+        lastBatchTime = DomGlobal.performance.now() - startTime;
+        totalTime += lastBatchTime;
+        lastBatchSize = records.length;
+        maxBatchSize = Math.max(maxBatchSize, records.length);
+        recordsCount += records.length;
+        batchesCount++;
     }
 
-    private static boolean isChildOfRemovedNode(MutationRecord record, final String detachId) {
-        return isChildOfObservedNode(detachId, record.removedNodes.asList(), DETACH_UID_KEY);
+    /**
+     * Walks each added or removed subtree once, matching the marked elements against the pending observers by their
+     * unique id.
+     */
+    private static void collectObserved(MutationRecord record, NodeList<Node> nodes, String uidKey,
+                                        Map<String, ElementObserver> observers, Map<ElementObserver, MutationRecord> collected) {
+        for (int i = 0; i < nodes.length; i++) {
+            Node node = nodes.item(i);
+            if (Node.ELEMENT_NODE == node.nodeType) {
+                Element element = Js.uncheckedCast(node);
+                collect(record, element, uidKey, observers, collected);
+                NodeList<Element> marked = element.querySelectorAll("[" + uidKey + "]");
+                for (int j = 0; j < marked.length; j++) {
+                    collect(record, marked.item(j), uidKey, observers, collected);
+                }
+            }
+        }
     }
 
-    private static boolean isChildOfObservedNode(String attachId, List<Node> nodes, String attachUidKey) {
-
-        for (int i = 0; i < nodes.size(); i++) {
-            Node elementNode = Js.uncheckedCast(nodes.get(i));
-            if (Node.ELEMENT_NODE == elementNode.nodeType) {
-                if (nonNull(elementNode.querySelector("[" + attachUidKey + "='" + attachId + "']"))) {
-                    return true;
-                }
+    private static void collect(MutationRecord record, Element element, String uidKey,
+                                Map<String, ElementObserver> observers, Map<ElementObserver, MutationRecord> collected) {
+        String uid = element.getAttribute(uidKey);
+        if (nonNull(uid)) {
+            ElementObserver elementObserver = observers.get(uid);
+            if (nonNull(elementObserver) && !collected.containsKey(elementObserver)) {
+                collected.put(elementObserver, record);
             }
         }
-        return false;
     }
 
     /**
@@ -103,7 +122,7 @@ final class BodyObserver {
         if (!ready) {
             startObserving();
         }
-        attachObservers.add(createObserver(element, callback, ATTACH_UID_KEY));
+        addObserver(element, callback, ATTACH_UID_KEY, attachObservers);
     }
 
     /**
@@ -114,43 +133,49 @@ final class BodyObserver {
         if (!ready) {
             startObserving();
         }
-        detachObservers.add(createObserver(element, callback, DETACH_UID_KEY));
+        addObserver(element, callback, DETACH_UID_KEY, detachObservers);
     }
 
-    private static ElementObserver createObserver(HTMLElement element, ObserverCallback callback,
-                                                  String idAttributeName) {
+    private static void addObserver(HTMLElement element, ObserverCallback callback, String idAttributeName,
+                                    Map<String, ElementObserver> observers) {
         String elementId = element.getAttribute(idAttributeName);
-        if (elementId == null) {
-            element.setAttribute(idAttributeName, Elements.createDocumentUniqueId());
+        if (isNull(elementId) || !observers.containsKey(elementId)) {
+            elementId = Elements.createDocumentUniqueId();
+            element.setAttribute(idAttributeName, elementId);
+            observers.put(elementId, new ElementObserver(elementId, element));
         }
-        return new ElementObserver() {
-            @Override
-            public String attachId() {
-                return element.getAttribute(idAttributeName);
-            }
-
-            @Override
-            public HTMLElement observedElement() {
-                return element;
-            }
+        observers.get(elementId).callbacks().add(callback);
+    }
 
-            @Override
-            public ObserverCallback callback() {
-                return callback;
-            }
-        };
+    static BodyObserverStats getStats() {
+        return new BodyObserverStats(attachObservers.size(), detachObservers.size(), batchesCount, recordsCount,
+                lastBatchSize, maxBatchSize, callbacksCount, totalTime, lastBatchTime);
     }
 
     private BodyObserver() {
     }
 
+    private static final class ElementObserver {
 
-    private interface ElementObserver {
+        private final String attachId;
+        private final HTMLElement observedElement;
+        private final List<ObserverCallback> callbacks = new ArrayList<>();
 
-        String attachId();
+        private ElementObserver(String attachId, HTMLElement observedElement) {
+            this.attachId = attachId;
+            this.observedElement = observedElement;
+        }
 
-        HTMLElement observedElement();
+        String attachId() {
+            return attachId;
+        }
 
-        ObserverCallback callback();
+        HTMLElement observedElement() {
+            return observedElement;
+        }
+
+        List<ObserverCallback> callbacks() {
+            return callbacks;
+        }
     }
 }
@@ -0,0 +1,86 @@
+package org.dominokit.domino.ui.utils;
+
+/**
+ * A snapshot of the counters of the body observer used by {@link ElementUtil#onAttach(elemental2.dom.HTMLElement, org.jboss.gwt.elemento.core.ObserverCallback)}
+ * and {@link ElementUtil#onDetach(elemental2.dom.HTMLElement, org.jboss.gwt.elemento.core.ObserverCallback)}, times are in milliseconds.
+ */
+public class BodyObserverStats {
+
+    private final int pendingAttachObservers;
+    private final int pendingDetachObservers;
+    private final int batchesCount;
+    private final int recordsCount;
+    private final int lastBatchSize;
+    private final int maxBatchSize;
+    private final int callbacksCount;
+    private final double totalTime;
+    private final double lastBatchTime;
+
+    BodyObserverStats(int pendingAttachObservers, int pendingDetachObservers, int batchesCount, int recordsCount,
+                      int lastBatchSize, int maxBatchSize, int callbacksCount, double totalTime, double lastBatchTime) {
+        this.pendingAttachObservers = pendingAttachObservers;
+        this.pendingDetachObservers = pendingDetachObservers;
+        this.batchesCount = batchesCount;
+        this.recordsCount = recordsCount;
+        this.lastBatchSize = lastBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.callbacksCount = callbacksCount;
+        this.totalTime = totalTime;
+        this.lastBatchTime = lastBatchTime;
+    }
+
+    public int getPendingAttachObservers() {
+        return pendingAttachObservers;
+    }
+
+    public int getPendingDetachObservers() {
+        return pendingDetachObservers;
+    }
+
+    public int getBatchesCount() {
+        return batchesCount;
+    }
+
+    public int getRecordsCount() {
+        return recordsCount;
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public int getCallbacksCount() {
+        return callbacksCount;
+    }
+
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    public double getLastBatchTime() {
+        return lastBatchTime;
+    }
+
+    public double getAverageBatchTime() {
+        return batchesCount == 0 ? 0 : totalTime / batchesCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BodyObserverStats{" +
+                "pendingAttachObservers=" + pendingAttachObservers +
+                ", pendingDetachObservers=" + pendingDetachObservers +
+                ", batchesCount=" + batchesCount +
+                ", recordsCount=" + recordsCount +
+                ", lastBatchSize=" + lastBatchSize +
+                ", maxBatchSize=" + maxBatchSize +
+                ", callbacksCount=" + callbacksCount +
+                ", totalTime=" + totalTime +
+                ", lastBatchTime=" + lastBatchTime +
+                '}';
+    }
+}
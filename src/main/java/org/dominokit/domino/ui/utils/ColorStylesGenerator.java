@@ -1,100 +1,228 @@
 package org.dominokit.domino.ui.utils;
 
 import org.dominokit.domino.ui.style.ColorScheme;
+import org.dominokit.domino.ui.themes.Theme;
 import org.gwtproject.safehtml.shared.annotations.GwtIncompatible;
-import sun.misc.IOUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+/**
+ * Generates the color styles from color-template.css, the modes are selected by the program arguments :
+ * <ul>
+ * <li>no arguments : all the schemes into colors.css</li>
+ * <li>variables : one set of theme color rules driven by the css variables set by {@link Theme#apply()} into
+ * theme-variables.css, with domino-ui-variables.css importing it instead of colors.css</li>
+ * <li>scheme names, e.g BLUE "BLUE GREY" : each scheme into its own colors-[name].css, with domino-ui-schemes.css
+ * importing theme-variables.css and the selected schemes instead of colors.css, an unknown name fails</li>
+ * </ul>
+ * The last two modes also write the rules shared by all the schemes, e.g the white and black colors, into
+ * colors-common.css and the schemes of the fixed colors used by the components into their colors-[name].css.
+ */
 @GwtIncompatible
 public class ColorStylesGenerator {
+
+    private static final ColorScheme[] SCHEMES = {
+            ColorScheme.RED,
+            ColorScheme.PINK,
+            ColorScheme.PURPLE,
+            ColorScheme.DEEP_PURPLE,
+            ColorScheme.INDIGO,
+            ColorScheme.BLUE,
+            ColorScheme.LIGHT_BLUE,
+            ColorScheme.CYAN,
+            ColorScheme.TEAL,
+            ColorScheme.GREEN,
+            ColorScheme.LIGHT_GREEN,
+            ColorScheme.LIME,
+            ColorScheme.YELLOW,
+            ColorScheme.AMBER,
+            ColorScheme.ORANGE,
+            ColorScheme.DEEP_ORANGE,
+            ColorScheme.BROWN,
+            ColorScheme.GREY,
+            ColorScheme.BLUE_GREY
+    };
+
+    private static final String[] BASE_IMPORTS = {
+            "../font/material-icons.css",
+            "../plugins/bootstrap/css/bootstrap.css",
+            "../plugins/node-waves/waves.css",
+            "../plugins/animate-css/animate.css",
+            "../plugins/waitme/waitMe.css",
+            "../plugins/bootstrap-select/css/bootstrap-select.css",
+            "../plugins/stepper/materialize-stepper.css",
+            "materialize.css",
+            "grid.css",
+            "style.css"
+    };
+
+    /**
+     * The schemes of the fixed colors used by the components themselves, e.g the INDIGO default of TagsInput.
+     */
+    private static final ColorScheme[] LIBRARY_SCHEMES = {
+            ColorScheme.RED,
+            ColorScheme.INDIGO,
+            ColorScheme.BLUE,
+            ColorScheme.LIGHT_BLUE,
+            ColorScheme.GREEN,
+            ColorScheme.LIGHT_GREEN,
+            ColorScheme.ORANGE,
+            ColorScheme.GREY,
+            ColorScheme.BLUE_GREY
+    };
+
+    private static final String COMMON_COLORS_FILE = "colors-common.css";
+    private static final String VARIABLES_FILE = "theme-variables.css";
+
     public static void main(String[] args) {
         try {
-            InputStream resourceAsStream = ColorStylesGenerator.class.getClassLoader().getResourceAsStream("color-template.css");
-            InputStream whiteColorResourceAsStream = ColorStylesGenerator.class.getClassLoader().getResourceAsStream("all-colors-section.css");
-            byte[] bytes = IOUtils.readFully(resourceAsStream, Integer.MAX_VALUE, false);
-            byte[] whiteBytes = IOUtils.readFully(whiteColorResourceAsStream, Integer.MAX_VALUE, false);
-
-            String templateContent = new String(bytes, UTF_8);
-            String allOtherColorsTemplate = new String(whiteBytes, UTF_8);
-
-            StringBuilder sb = new StringBuilder();
-
-            sb
-                    .append(generateColorStyles(templateContent, ColorScheme.RED))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.PINK))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.PURPLE))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.DEEP_PURPLE))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.INDIGO))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.BLUE))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.LIGHT_BLUE))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.CYAN))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.TEAL))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.GREEN))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.LIGHT_GREEN))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.LIME))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.YELLOW))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.AMBER))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.ORANGE))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.DEEP_ORANGE))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.BROWN))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.GREY))
-                    .append("\n")
-                    .append(generateColorStyles(templateContent, ColorScheme.BLUE_GREY))
-                    .append("\n")
-                    .append(allOtherColorsTemplate)
-                    .append("\n");
-
-            File file=new File("colors.css");
-            FileOutputStream fos=new FileOutputStream(file);
-            fos.write(sb.toString().getBytes());
-            System.out.println(file.getAbsoluteFile());
-            fos.flush();
-            fos.close();
-
+            String templateContent = readResource("color-template.css");
 
-        } catch (IOException e) {
+            if (args.length == 0) {
+                StringBuilder sb = new StringBuilder();
+                for (ColorScheme colorScheme : SCHEMES) {
+                    sb.append(generateColorStyles(templateContent, colorScheme)).append("\n");
+                }
+                sb.append(readResource("all-colors-section.css")).append("\n");
+                write("colors.css", sb.toString());
+            } else if (args.length == 1 && "variables".equals(args[0])) {
+                write(VARIABLES_FILE, generateVariablesStyles(templateContent));
+                write("domino-ui-variables.css", generateImports(writeSchemes(templateContent, new ArrayList<>())));
+            } else {
+                List<ColorScheme> selected = new ArrayList<>();
+                for (String name : args) {
+                    selected.add(schemeOf(name));
+                }
+                write("domino-ui-schemes.css", generateImports(writeSchemes(templateContent, selected)));
+            }
+        } catch (IOException | IllegalArgumentException e) {
             e.printStackTrace();
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Writes the shared rules and the files of the library schemes followed by the selected ones, and returns the
+     * color files to import.
+     */
+    private static List<String> writeSchemes(String templateContent, List<ColorScheme> selected) throws IOException {
+        Set<ColorScheme> schemes = new LinkedHashSet<>(Arrays.asList(LIBRARY_SCHEMES));
+        schemes.addAll(selected);
+
+        List<String> imports = new ArrayList<>();
+        imports.add(VARIABLES_FILE);
+        write(COMMON_COLORS_FILE, readResource("all-colors-section.css") + "\n");
+        imports.add(COMMON_COLORS_FILE);
+        for (ColorScheme colorScheme : schemes) {
+            String fileName = "colors-" + colorScheme.color().getName().toLowerCase().replace(" ", "-") + ".css";
+            write(fileName, generateColorStyles(templateContent, colorScheme));
+            imports.add(fileName);
+        }
+        return imports;
+    }
+
+    private static ColorScheme schemeOf(String name) {
+        String schemeName = name.toUpperCase().replace("_", " ").replace("-", " ");
+        for (ColorScheme colorScheme : SCHEMES) {
+            if (colorScheme.color().getName().equals(schemeName)) {
+                return colorScheme;
+            }
+        }
+        throw new IllegalArgumentException("Unknown color scheme : " + name);
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream inputStream = ColorStylesGenerator.class.getClassLoader().getResourceAsStream(name)) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray(), UTF_8);
         }
     }
 
+    private static void write(String fileName, String content) throws IOException {
+        File file = new File(fileName);
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write(content.getBytes(UTF_8));
+            fos.flush();
+        }
+        System.out.println(file.getAbsoluteFile());
+    }
+
+    private static String generateImports(List<String> colorFiles) {
+        StringBuilder sb = new StringBuilder();
+        for (String file : BASE_IMPORTS) {
+            sb.append("@import url(").append(file).append(");\n");
+        }
+        for (String file : colorFiles) {
+            sb.append("@import url(").append(file).append(");\n");
+        }
+        return sb.toString();
+    }
+
     private static String generateColorStyles(String templateContent, ColorScheme color) {
-        return templateContent
-                .replace("${COLOR}", color.color().getName())
-                .replace("${color_base_name}", "-" + color.color().getName().toLowerCase().replace(" ","-"))
-                .replace("${main_color}", color.color().getHex())
-                .replace("${color_l_1}", color.lighten_1().getHex())
-                .replace("${color_l_2}", color.lighten_2().getHex())
-                .replace("${color_l_3}", color.lighten_3().getHex())
-                .replace("${color_l_4}", color.lighten_4().getHex())
-                .replace("${color_l_5}", color.lighten_5().getHex())
-                .replace("${color_d_1}", color.darker_1().getHex())
-                .replace("${color_d_2}", color.darker_2().getHex())
-                .replace("${color_d_3}", color.darker_3().getHex())
-                .replace("${color_d_4}", color.darker_4().getHex())
-                .replace("${rgba_1}", color.rgba_1())
-                .replace("${rgba_2}", color.rgba_2());
+        return fillTemplate(templateContent, color.color().getName(),
+                "-" + color.color().getName().toLowerCase().replace(" ", "-"),
+                color.color().getHex(),
+                new String[]{color.lighten_1().getHex(), color.lighten_2().getHex(), color.lighten_3().getHex(),
+                        color.lighten_4().getHex(), color.lighten_5().getHex()},
+                new String[]{color.darker_1().getHex(), color.darker_2().getHex(), color.darker_3().getHex(),
+                        color.darker_4().getHex()},
+                color.rgba_1(), color.rgba_2());
+    }
+
+    /**
+     * Generates the rules of the theme colors, e.g col-theme and bg-l-1-theme, with var() values, preceded by the
+     * default values of the variables taken from the default theme.
+     */
+    private static String generateVariablesStyles(String templateContent) {
+        String[] lighten = new String[5];
+        for (int i = 0; i < lighten.length; i++) {
+            lighten[i] = "var(" + Theme.CSS_VARIABLE_PREFIX + "l-" + (i + 1) + ")";
+        }
+        String[] darken = new String[4];
+        for (int i = 0; i < darken.length; i++) {
+            darken[i] = "var(" + Theme.CSS_VARIABLE_PREFIX + "d-" + (i + 1) + ")";
+        }
+
+        StringBuilder sb = new StringBuilder(":root {\n");
+        Theme.cssVariables(Theme.currentTheme.getScheme())
+                .forEach((name, value) -> sb.append("    ").append(name).append(": ").append(value).append(";\n"));
+        sb.append("}\n\n");
+        sb.append(fillTemplate(templateContent, "THEME", "-theme",
+                "var(" + Theme.CSS_VARIABLE_PREFIX + "color)", lighten, darken,
+                "var(" + Theme.CSS_VARIABLE_PREFIX + "rgba-1)", "var(" + Theme.CSS_VARIABLE_PREFIX + "rgba-2)"));
+        return sb.toString();
+    }
+
+    private static String fillTemplate(String templateContent, String name, String baseName, String mainColor,
+                                       String[] lighten, String[] darken, String rgba1, String rgba2) {
+        String content = templateContent
+                .replace("${COLOR}", name)
+                .replace("${color_base_name}", baseName)
+                .replace("${main_color}", mainColor)
+                .replace("${rgba_1}", rgba1)
+                .replace("${rgba_2}", rgba2);
+        for (int i = 0; i < lighten.length; i++) {
+            content = content.replace("${color_l_" + (i + 1) + "}", lighten[i]);
+        }
+        for (int i = 0; i < darken.length; i++) {
+            content = content.replace("${color_d_" + (i + 1) + "}", darken[i]);
+        }
+        return content;
     }
 }
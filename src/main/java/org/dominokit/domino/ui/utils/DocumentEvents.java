@@ -0,0 +1,95 @@
+package org.dominokit.domino.ui.utils;
+
+import elemental2.dom.Event;
+import elemental2.dom.EventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static elemental2.dom.DomGlobal.document;
+import static java.util.Objects.isNull;
+
+/**
+ * Dispatches document level events to the registered listeners through a single native listener per event type,
+ * the native listener is added with the first registered listener and removed with the last one.
+ */
+public final class DocumentEvents {
+
+    private static final String CLICK = "click";
+    private static final String TOUCH_END = "touchend";
+    private static final String TOUCH_MOVE = "touchmove";
+
+    private static Map<String, List<EventListener>> listeners = new HashMap<>();
+    private static Map<String, EventListener> documentListeners = new HashMap<>();
+    private static List<EventListener> tapListeners = new ArrayList<>();
+    private static boolean touchMoved;
+
+    private static final EventListener touchMoveListener = evt -> touchMoved = true;
+    private static final EventListener touchEndListener = evt -> {
+        if (!touchMoved) {
+            new ArrayList<>(tapListeners).forEach(listener -> listener.handleEvent(evt));
+        }
+        touchMoved = false;
+    };
+
+    public static void addListener(String type, EventListener listener) {
+        List<EventListener> typeListeners = listeners.computeIfAbsent(type, key -> new ArrayList<>());
+        if (typeListeners.isEmpty()) {
+            EventListener documentListener = evt -> dispatch(type, evt);
+            documentListeners.put(type, documentListener);
+            document.addEventListener(type, documentListener);
+        }
+        typeListeners.add(listener);
+    }
+
+    public static void removeListener(String type, EventListener listener) {
+        List<EventListener> typeListeners = listeners.get(type);
+        if (isNull(typeListeners) || !typeListeners.remove(listener)) {
+            return;
+        }
+        if (typeListeners.isEmpty()) {
+            document.removeEventListener(type, documentListeners.remove(type));
+        }
+    }
+
+    /**
+     * Registers a listener for clicks on the document, and for touch taps that did not turn into a touch move.
+     */
+    public static void addClickListener(EventListener listener) {
+        addListener(CLICK, listener);
+        if (tapListeners.isEmpty()) {
+            addListener(TOUCH_MOVE, touchMoveListener);
+            addListener(TOUCH_END, touchEndListener);
+        }
+        tapListeners.add(listener);
+    }
+
+    public static void removeClickListener(EventListener listener) {
+        removeListener(CLICK, listener);
+        if (tapListeners.remove(listener) && tapListeners.isEmpty()) {
+            removeListener(TOUCH_MOVE, touchMoveListener);
+            removeListener(TOUCH_END, touchEndListener);
+            touchMoved = false;
+        }
+    }
+
+    public static int getListenersCount(String type) {
+        List<EventListener> typeListeners = listeners.get(type);
+        return isNull(typeListeners) ? 0 : typeListeners.size();
+    }
+
+    private static void dispatch(String type, Event evt) {
+        List<EventListener> typeListeners = listeners.get(type);
+        if (isNull(typeListeners)) {
+            return;
+        }
+        for (EventListener listener : new ArrayList<>(typeListeners)) {
+            listener.handleEvent(evt);
+        }
+    }
+
+    private DocumentEvents() {
+    }
+}
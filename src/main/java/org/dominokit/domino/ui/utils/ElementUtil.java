@@ -103,6 +103,14 @@ public class ElementUtil {
         }
     }
 
+    /**
+     * @return the current counters of the observer behind {@link #onAttach(HTMLElement, ObserverCallback)} and
+     * {@link #onDetach(HTMLElement, ObserverCallback)}
+     */
+    public static BodyObserverStats getBodyObserverStats() {
+        return BodyObserver.getStats();
+    }
+
     public static TextBox numbersOnly(TextBox textBox) {
 
         textBox.getInputElement().addEventListener("keypress", evt -> {
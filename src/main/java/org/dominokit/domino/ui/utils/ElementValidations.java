@@ -2,12 +2,11 @@ package org.dominokit.domino.ui.utils;
 
 import elemental2.dom.DomGlobal;
 import org.dominokit.domino.ui.forms.FormElement;
+import org.dominokit.domino.ui.utils.HasValidation.AsyncValidator;
+import org.dominokit.domino.ui.utils.HasValidation.ValidationCallback;
 import org.dominokit.domino.ui.utils.HasValidation.Validator;
 
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -16,6 +15,7 @@ public class ElementValidations {
 
     private FormElement element;
     private Set<Validator> validators = new LinkedHashSet<>();
+    private Set<AsyncValidator> asyncValidators = new LinkedHashSet<>();
     private String requiredMessage = "* This field is required.";
     private Validator requiredValidator =  () -> {
         if (element.isEmpty())
@@ -23,12 +23,44 @@ public class ElementValidations {
         return ValidationResult.valid();
     };;
     private boolean invalidated;
+    private int validationId = 0;
+    private boolean validating;
+    private ValidationResult lastResult;
+    private Object lastValidatedValue;
+    private List<ValidationCallback> callbacks = new ArrayList<>();
+    private boolean lastValidatedEnabled;
 
     public ElementValidations(FormElement element) {
         this.element = element;
     }
 
+    /**
+     * Runs the validators and returns their result, the asynchronous validators are started when the other
+     * validators pass and their result is applied to the element when it arrives.
+     */
     public ValidationResult validate() {
+        int id = ++validationId;
+        validating = false;
+        ValidationResult result = validateNow();
+        if (result.isValid() && hasPendingAsyncValidation()) {
+            validateAsync(id, new ArrayList<>(asyncValidators).iterator());
+        } else {
+            complete(result);
+        }
+        return result;
+    }
+
+    /**
+     * Runs all the validators including the asynchronous ones and calls the callback with the result, if the
+     * validation gets canceled or another validation starts before this one completes the callback is called with the
+     * result of the next validation that completes.
+     */
+    public void validate(ValidationCallback callback) {
+        callbacks.add(callback);
+        validate();
+    }
+
+    private ValidationResult validateNow() {
         if (!element.isEnabled()) {
             element.clearInvalid();
             return ValidationResult.valid();
@@ -36,8 +68,7 @@ public class ElementValidations {
         for (Validator validator : validators) {
             ValidationResult result = validator.isValid();
             if (!result.isValid()) {
-                element.invalidate(result.getErrorMessage());
-                this.invalidated = true;
+                applyInvalid(result);
                 return result;
             }
         }
@@ -48,19 +79,111 @@ public class ElementValidations {
         return ValidationResult.valid();
     }
 
+    private boolean hasPendingAsyncValidation() {
+        return !asyncValidators.isEmpty() && element.isEnabled();
+    }
+
+    private void validateAsync(int id, Iterator<AsyncValidator> iterator) {
+        if (!iterator.hasNext()) {
+            validating = false;
+            complete(ValidationResult.valid());
+            return;
+        }
+        validating = true;
+        iterator.next().validate(result -> {
+            if (id != validationId) {
+                return;
+            }
+            if (result.isValid()) {
+                validateAsync(id, iterator);
+            } else {
+                validating = false;
+                applyInvalid(result);
+                complete(result);
+            }
+        });
+    }
+
+    private void applyInvalid(ValidationResult result) {
+        element.invalidate(result.getErrorMessage());
+        this.invalidated = true;
+    }
+
+    private void complete(ValidationResult result) {
+        lastResult = result;
+        lastValidatedValue = element.getValue();
+        lastValidatedEnabled = element.isEnabled();
+        if (!callbacks.isEmpty()) {
+            List<ValidationCallback> waitingCallbacks = new ArrayList<>(callbacks);
+            callbacks.clear();
+            waitingCallbacks.forEach(callback -> callback.onValidated(result));
+        }
+    }
+
+    /**
+     * Ignores the result of the running asynchronous validation, the callbacks waiting for it get the result of the
+     * next validation.
+     */
+    public void cancel() {
+        validationId++;
+        validating = false;
+    }
+
+    public boolean isValidating() {
+        return validating;
+    }
+
+    /**
+     * Returns true if the element was not validated yet, or if its value or enabled state changed since the last
+     * validation result.
+     */
+    public boolean isDirty() {
+        return isNull(lastResult)
+                || lastValidatedEnabled != element.isEnabled()
+                || !Objects.equals(lastValidatedValue, element.getValue());
+    }
+
+    public void markDirty() {
+        lastResult = null;
+        lastValidatedValue = null;
+    }
+
+    public ValidationResult getLastResult() {
+        return lastResult;
+    }
+
     public void addValidator(Validator validator) {
         validators.add(validator);
+        markDirty();
     }
 
     public void removeValidator(Validator validator) {
-        if (nonNull(validator))
+        if (nonNull(validator)) {
             validators.remove(validator);
+            markDirty();
+        }
     }
 
     public boolean hasValidator(Validator validator) {
         return !isNull(validator) && validators.contains(validator);
     }
 
+    public void addAsyncValidator(AsyncValidator validator) {
+        asyncValidators.add(validator);
+        markDirty();
+    }
+
+    public void removeAsyncValidator(AsyncValidator validator) {
+        if (nonNull(validator)) {
+            asyncValidators.remove(validator);
+            markDirty();
+        }
+    }
+
+    public boolean hasAsyncValidator(AsyncValidator validator) {
+        return !isNull(validator) && asyncValidators.contains(validator);
+    }
+
     public void setRequired(boolean required) {
         setRequired(required, "* This field is required.");
     }
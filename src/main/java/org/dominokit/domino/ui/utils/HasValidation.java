@@ -18,4 +18,17 @@ public interface HasValidation<T> {
     interface Validator {
         ValidationResult isValid();
     }
+
+    /**
+     * A validator that reports its result later, for example after checking the value against a server.
+     */
+    @FunctionalInterface
+    interface AsyncValidator {
+        void validate(ValidationCallback callback);
+    }
+
+    @FunctionalInterface
+    interface ValidationCallback {
+        void onValidated(ValidationResult result);
+    }
 }
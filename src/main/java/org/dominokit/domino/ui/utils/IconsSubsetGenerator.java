@@ -0,0 +1,441 @@
+package org.dominokit.domino.ui.utils;
+
+import org.gwtproject.safehtml.shared.annotations.GwtIncompatible;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Scans compiled classes for the material icons they use, through {@code Icons} methods or {@code Icon.create}
+ * literals, and generates the files needed to ship a subset of the material icons font :
+ * <ul>
+ * <li>icons-subset.txt : the used icon names</li>
+ * <li>icons-subset.css : the font face and material-icons class pointing to the subset font</li>
+ * <li>icons-subset.sh : the fonttools command that creates the subset font keeping the icons ligatures</li>
+ * </ul>
+ * The program arguments are the classes directories or jars to scan, the domino-ui jar should be included for the
+ * icons used by the components themselves. With {@code --check icons-subset.txt} as first arguments nothing is
+ * generated and the program exits with status 1 if a used icon is not in the given subset, any error exits with
+ * status 2.
+ */
+@GwtIncompatible
+public class IconsSubsetGenerator {
+
+    private static final String ICONS_PACKAGE = "org/dominokit/domino/ui/icons/";
+    private static final String ICON_CLASS = ICONS_PACKAGE + "Icon";
+    private static final String ICONS_CLASS = ICONS_PACKAGE + "Icons";
+    private static final String ICON_DESCRIPTOR = "()L" + ICON_CLASS + ";";
+    private static final String FONT = "org/dominokit/domino/ui/public/font/MaterialIcons-Regular.ttf";
+    private static final String SUBSET_FONT = "MaterialIcons-Subset";
+
+    public static void main(String[] args) {
+        if (args.length == 0 || ("--check".equals(args[0]) && args.length < 3)) {
+            System.err.println("usage : IconsSubsetGenerator [--check icons-subset.txt] <classes dir or jar>...");
+            System.exit(2);
+        }
+        try {
+            if ("--check".equals(args[0])) {
+                Set<String> subset = new HashSet<>(Files.readAllLines(Paths.get(args[1]), UTF_8));
+                Set<String> missing = new TreeSet<>(scan(Arrays.copyOfRange(args, 2, args.length)));
+                missing.removeAll(subset);
+                if (!missing.isEmpty()) {
+                    System.err.println("Icons used but not in the subset " + args[1] + " : " + missing);
+                    System.exit(1);
+                }
+                return;
+            }
+
+            Map<String, Integer> codepoints = readLigatures(readResource(FONT));
+            Set<String> used = new TreeSet<>(scan(args));
+            used.retainAll(codepoints.keySet());
+
+            write("icons-subset.txt", used.stream().collect(Collectors.joining("\n", "", "\n")));
+            write("icons-subset.css", generateCss());
+            write("icons-subset.sh", generateSubsetCommand(used, codepoints));
+            System.out.println(used.size() + " of " + codepoints.size() + " icons used");
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            System.exit(2);
+        }
+    }
+
+    private static Set<String> scan(String[] paths) throws IOException {
+        Map<String, String> iconMethods = readIconMethods();
+        Set<String> iconNames = new HashSet<>(iconMethods.values());
+        Set<String> used = new HashSet<>();
+        for (String path : paths) {
+            for (byte[] classBytes : readClasses(new File(path))) {
+                ClassFile classFile = new ClassFile(classBytes);
+                if (classFile.name.startsWith(ICONS_PACKAGE)) {
+                    continue;
+                }
+                boolean createsIcons = false;
+                for (String[] reference : classFile.methodReferences) {
+                    if (ICON_DESCRIPTOR.equals(reference[2]) && reference[0].startsWith(ICONS_PACKAGE)
+                            && iconMethods.containsKey(reference[1])) {
+                        used.add(iconMethods.get(reference[1]));
+                    }
+                    createsIcons |= ICON_CLASS.equals(reference[0]) && "create".equals(reference[1]);
+                }
+                if (createsIcons) {
+                    classFile.strings.stream().filter(iconNames::contains).forEach(used::add);
+                }
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Maps the methods of the icons interfaces implemented by {@code Icons} to the icon names they create, from the
+     * string loaded by each method.
+     */
+    private static Map<String, String> readIconMethods() throws IOException {
+        Map<String, String> iconMethods = new HashMap<>();
+        for (String iconsInterface : new ClassFile(readResource(ICONS_CLASS + ".class")).interfaces) {
+            iconMethods.putAll(new ClassFile(readResource(iconsInterface + ".class")).loadedStrings);
+        }
+        return iconMethods;
+    }
+
+    private static List<byte[]> readClasses(File file) throws IOException {
+        List<byte[]> classes = new ArrayList<>();
+        if (file.isDirectory()) {
+            try (Stream<Path> paths = Files.walk(file.toPath())) {
+                for (Path path : paths.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList())) {
+                    classes.add(Files.readAllBytes(path));
+                }
+            }
+        } else {
+            try (ZipFile zipFile = new ZipFile(file)) {
+                for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                    if (entry.getName().endsWith(".class")) {
+                        classes.add(readFully(zipFile.getInputStream(entry)));
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static String generateCss() {
+        return "@font-face {\n" +
+                "    font-family: 'Material Icons';\n" +
+                "    font-style: normal;\n" +
+                "    font-weight: 400;\n" +
+                "    src: url(\"./" + SUBSET_FONT + ".woff2\") format('woff2'),\n" +
+                "    url(\"./" + SUBSET_FONT + ".woff\") format('woff');\n" +
+                "}\n\n" +
+                ".material-icons {\n" +
+                "    font-family: 'Material Icons';\n" +
+                "    font-weight: normal;\n" +
+                "    font-style: normal;\n" +
+                "    font-size: 24px;\n" +
+                "    line-height: 1;\n" +
+                "    letter-spacing: normal;\n" +
+                "    text-transform: none;\n" +
+                "    display: inline-block;\n" +
+                "    white-space: nowrap;\n" +
+                "    word-wrap: normal;\n" +
+                "    direction: ltr;\n" +
+                "    font-feature-settings: 'liga';\n" +
+                "    -webkit-font-smoothing: antialiased;\n" +
+                "    -moz-osx-font-smoothing: grayscale;\n" +
+                "    text-rendering: optimizeLegibility;\n" +
+                "}\n";
+    }
+
+    /**
+     * The icon glyphs are kept by their private use codepoints and the ligatures by the characters of the used names,
+     * the layout closure is disabled so the ligatures of the other icons are dropped instead of pulling their glyphs
+     * back in.
+     */
+    private static String generateSubsetCommand(Set<String> used, Map<String, Integer> codepoints) {
+        String unicodes = used.stream()
+                .map(name -> String.format("U+%04X", codepoints.get(name)))
+                .collect(Collectors.joining(","));
+        String text = used.stream()
+                .flatMapToInt(String::chars)
+                .distinct()
+                .sorted()
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+        StringBuilder sb = new StringBuilder("#!/bin/sh\n");
+        for (String flavor : new String[]{"woff2", "woff"}) {
+            sb.append("pyftsubset MaterialIcons-Regular.ttf")
+                    .append(" --unicodes=\"").append(unicodes).append("\"")
+                    .append(" --text=\"").append(text).append("\"")
+                    .append(" --layout-features=liga --no-layout-closure")
+                    .append(" --flavor=").append(flavor)
+                    .append(" --output-file=").append(SUBSET_FONT).append(".").append(flavor)
+                    .append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads the ligatures of the font, mapping each icon name to the private use codepoint of its glyph.
+     */
+    private static Map<String, Integer> readLigatures(byte[] font) {
+        ByteBuffer data = ByteBuffer.wrap(font);
+        Map<String, Integer> tables = new HashMap<>();
+        int tablesCount = u16(data, 4);
+        for (int i = 0; i < tablesCount; i++) {
+            int record = 12 + 16 * i;
+            tables.put(new String(font, record, 4, UTF_8), data.getInt(record + 8));
+        }
+
+        Map<Integer, Integer> glyphCodepoints = new HashMap<>();
+        int cmap = tables.get("cmap");
+        for (int i = 0; i < u16(data, cmap + 2); i++) {
+            int subtable = cmap + data.getInt(cmap + 8 + 8 * i);
+            if (u16(data, subtable) == 4) {
+                readCmapFormat4(data, subtable, glyphCodepoints);
+            }
+        }
+
+        Map<String, Integer> ligatures = new HashMap<>();
+        int gsub = tables.get("GSUB");
+        int lookupList = gsub + u16(data, gsub + 8);
+        for (int i = 0; i < u16(data, lookupList); i++) {
+            int lookup = lookupList + u16(data, lookupList + 2 + 2 * i);
+            int lookupType = u16(data, lookup);
+            for (int j = 0; j < u16(data, lookup + 4); j++) {
+                int subtable = lookup + u16(data, lookup + 6 + 2 * j);
+                int subtableType = lookupType;
+                if (lookupType == 7) {
+                    subtableType = u16(data, subtable + 2);
+                    subtable = subtable + data.getInt(subtable + 4);
+                }
+                if (subtableType == 4) {
+                    readLigatureSubst(data, subtable, glyphCodepoints, ligatures);
+                }
+            }
+        }
+        return ligatures;
+    }
+
+    private static void readCmapFormat4(ByteBuffer data, int subtable, Map<Integer, Integer> glyphCodepoints) {
+        int segmentsX2 = u16(data, subtable + 6);
+        int ends = subtable + 14;
+        int starts = ends + segmentsX2 + 2;
+        int deltas = starts + segmentsX2;
+        int rangeOffsets = deltas + segmentsX2;
+        for (int i = 0; i < segmentsX2 / 2; i++) {
+            int end = u16(data, ends + 2 * i);
+            int start = u16(data, starts + 2 * i);
+            int delta = data.getShort(deltas + 2 * i);
+            int rangeOffset = u16(data, rangeOffsets + 2 * i);
+            for (int codepoint = start; codepoint <= end && codepoint != 0xFFFF; codepoint++) {
+                int glyph;
+                if (rangeOffset == 0) {
+                    glyph = (codepoint + delta) & 0xFFFF;
+                } else {
+                    glyph = u16(data, rangeOffsets + 2 * i + rangeOffset + 2 * (codepoint - start));
+                    glyph = glyph == 0 ? 0 : (glyph + delta) & 0xFFFF;
+                }
+                if (glyph != 0) {
+                    glyphCodepoints.putIfAbsent(glyph, codepoint);
+                }
+            }
+        }
+    }
+
+    private static void readLigatureSubst(ByteBuffer data, int subtable, Map<Integer, Integer> glyphCodepoints,
+                                          Map<String, Integer> ligatures) {
+        List<Integer> coverage = readCoverage(data, subtable + u16(data, subtable + 2));
+        for (int i = 0; i < u16(data, subtable + 4); i++) {
+            int ligatureSet = subtable + u16(data, subtable + 6 + 2 * i);
+            for (int j = 0; j < u16(data, ligatureSet); j++) {
+                int ligature = ligatureSet + u16(data, ligatureSet + 2 + 2 * j);
+                int ligatureGlyph = u16(data, ligature);
+                int componentsCount = u16(data, ligature + 2);
+                StringBuilder name = new StringBuilder().appendCodePoint(glyphCodepoints.getOrDefault(coverage.get(i), (int) '?'));
+                for (int k = 1; k < componentsCount; k++) {
+                    name.appendCodePoint(glyphCodepoints.getOrDefault(u16(data, ligature + 2 + 2 * k), (int) '?'));
+                }
+                if (glyphCodepoints.containsKey(ligatureGlyph)) {
+                    ligatures.put(name.toString(), glyphCodepoints.get(ligatureGlyph));
+                }
+            }
+        }
+    }
+
+    private static List<Integer> readCoverage(ByteBuffer data, int coverage) {
+        List<Integer> glyphs = new ArrayList<>();
+        int count = u16(data, coverage + 2);
+        if (u16(data, coverage) == 1) {
+            for (int i = 0; i < count; i++) {
+                glyphs.add(u16(data, coverage + 4 + 2 * i));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                int record = coverage + 4 + 6 * i;
+                for (int glyph = u16(data, record); glyph <= u16(data, record + 2); glyph++) {
+                    glyphs.add(glyph);
+                }
+            }
+        }
+        return glyphs;
+    }
+
+    private static int u16(ByteBuffer data, int offset) {
+        return data.getShort(offset) & 0xFFFF;
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        InputStream inputStream = IconsSubsetGenerator.class.getClassLoader().getResourceAsStream(name);
+        if (inputStream == null) {
+            throw new IOException("Resource not found in the classpath : " + name);
+        }
+        return readFully(inputStream);
+    }
+
+    private static byte[] readFully(InputStream inputStream) throws IOException {
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static void write(String fileName, String content) throws IOException {
+        File file = new File(fileName);
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write(content.getBytes(UTF_8));
+            fos.flush();
+        }
+        System.out.println(file.getAbsoluteFile());
+    }
+
+    /**
+     * Reads the parts of a class file needed to find the icons usages : the method references and string constants
+     * of the constant pool, the implemented interfaces, and the first string loaded by each method.
+     */
+    private static final class ClassFile {
+        private final List<String[]> methodReferences = new ArrayList<>();
+        private final Set<String> strings = new HashSet<>();
+        private final List<String> interfaces = new ArrayList<>();
+        private final Map<String, String> loadedStrings = new HashMap<>();
+        private final String name;
+
+        private ClassFile(byte[] bytes) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            in.readInt();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+
+            int poolSize = in.readUnsignedShort();
+            int[] tags = new int[poolSize];
+            String[] utf8 = new String[poolSize];
+            int[] first = new int[poolSize];
+            int[] second = new int[poolSize];
+            for (int i = 1; i < poolSize; i++) {
+                tags[i] = in.readUnsignedByte();
+                switch (tags[i]) {
+                    case 1:
+                        utf8[i] = in.readUTF();
+                        break;
+                    case 7:
+                    case 8:
+                    case 16:
+                    case 19:
+                    case 20:
+                        first[i] = in.readUnsignedShort();
+                        break;
+                    case 15:
+                        in.readUnsignedByte();
+                        first[i] = in.readUnsignedShort();
+                        break;
+                    case 3:
+                    case 4:
+                        in.readInt();
+                        break;
+                    case 5:
+                    case 6:
+                        in.readLong();
+                        i++;
+                        break;
+                    default:
+                        first[i] = in.readUnsignedShort();
+                        second[i] = in.readUnsignedShort();
+                }
+            }
+            for (int i = 1; i < poolSize; i++) {
+                if (tags[i] == 8) {
+                    strings.add(utf8[first[i]]);
+                } else if (tags[i] == 10 || tags[i] == 11) {
+                    int nameAndType = second[i];
+                    methodReferences.add(new String[]{utf8[first[first[i]]], utf8[first[nameAndType]],
+                            utf8[second[nameAndType]]});
+                }
+            }
+
+            in.readUnsignedShort();
+            name = utf8[first[in.readUnsignedShort()]];
+            in.readUnsignedShort();
+            int interfacesCount = in.readUnsignedShort();
+            for (int i = 0; i < interfacesCount; i++) {
+                interfaces.add(utf8[first[in.readUnsignedShort()]]);
+            }
+            skipMembers(in, false, tags, utf8, first);
+            skipMembers(in, true, tags, utf8, first);
+        }
+
+        private void skipMembers(DataInputStream in, boolean methods, int[] tags, String[] utf8, int[] first) throws IOException {
+            int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                in.readUnsignedShort();
+                String memberName = utf8[in.readUnsignedShort()];
+                in.readUnsignedShort();
+                int attributesCount = in.readUnsignedShort();
+                for (int j = 0; j < attributesCount; j++) {
+                    String attributeName = utf8[in.readUnsignedShort()];
+                    byte[] attribute = new byte[in.readInt()];
+                    in.readFully(attribute);
+                    if (methods && "Code".equals(attributeName)) {
+                        String loaded = firstLoadedString(attribute, tags, utf8, first);
+                        if (loaded != null) {
+                            loadedStrings.put(memberName, loaded);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static String firstLoadedString(byte[] code, int[] tags, String[] utf8, int[] first) {
+            ByteBuffer data = ByteBuffer.wrap(code);
+            int codeLength = data.getInt(4);
+            if (codeLength < 2) {
+                return null;
+            }
+            int opcode = data.get(8) & 0xFF;
+            int index = -1;
+            if (opcode == 0x12) {
+                index = data.get(9) & 0xFF;
+            } else if (opcode == 0x13 && codeLength >= 3) {
+                index = u16(data, 9);
+            }
+            return index > 0 && tags[index] == 8 ? utf8[first[index]] : null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.dominokit.domino.ui.benchmark;
+
+import com.google.gwt.core.client.EntryPoint;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLTableElement;
+import org.dominokit.domino.ui.style.Color;
+import org.dominokit.domino.ui.style.ColorScheme;
+
+import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.*;
+
+/**
+ * Times the initialization of the {@link Color} and {@link ColorScheme} constants on page load, the static
+ * initializers only run once per load so the page should be reloaded a few times and the lowest time kept.
+ * <p>
+ * The compiled size comes from the GWT compile report of this module, e.g.
+ * <pre>
+ * mvn dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp src/main/java:src/main/resources:src/test/java:src/test/resources:target/classes:$(cat target/cp.txt) \
+ *     com.google.gwt.dev.Compiler -style OBF -compileReport -extra target/extras -war target/benchmark \
+ *     org.dominokit.domino.ui.benchmark.ColorsBenchmark
+ * </pre>
+ * then open target/extras/colorsbenchmark/soycReport/compile-report/index.html and compare the size of the
+ * org.dominokit.domino.ui.style package and of the whole program with the same report built from the previous
+ * Color and ColorScheme sources.
+ */
+public class ColorsBenchmark implements EntryPoint {
+
+    private final HTMLTableElement results = table().css("table").asElement();
+
+    @Override
+    public void onModuleLoad() {
+        double start = DomGlobal.performance.now();
+        ColorScheme first = ColorScheme.valueOf("RED");
+        double initialized = DomGlobal.performance.now();
+        int count = touchAll();
+        double touched = DomGlobal.performance.now();
+
+        results.appendChild(tr()
+                .add(th().textContent("Step"))
+                .add(th().textContent("Time (ms)"))
+                .asElement());
+        DomGlobal.document.body.appendChild(results);
+        report("Color and ColorScheme initialization (" + first.color().getName() + ")", initialized - start);
+        report("Reading " + count + " scheme shades", touched - initialized);
+    }
+
+    private static int touchAll() {
+        ColorScheme[] schemes = {ColorScheme.RED, ColorScheme.PINK, ColorScheme.PURPLE, ColorScheme.DEEP_PURPLE,
+                ColorScheme.INDIGO, ColorScheme.BLUE, ColorScheme.LIGHT_BLUE, ColorScheme.CYAN, ColorScheme.TEAL,
+                ColorScheme.GREEN, ColorScheme.LIGHT_GREEN, ColorScheme.LIME, ColorScheme.YELLOW, ColorScheme.AMBER,
+                ColorScheme.ORANGE, ColorScheme.DEEP_ORANGE, ColorScheme.BROWN, ColorScheme.GREY,
+                ColorScheme.BLUE_GREY, ColorScheme.BLACK, ColorScheme.WHITE, ColorScheme.TRANSPARENT};
+        int count = 0;
+        for (ColorScheme scheme : schemes) {
+            Color[] shades = {scheme.lighten_5(), scheme.lighten_4(), scheme.lighten_3(), scheme.lighten_2(),
+                    scheme.lighten_1(), scheme.color(), scheme.darker_1(), scheme.darker_2(), scheme.darker_3(),
+                    scheme.darker_4()};
+            for (Color shade : shades) {
+                if (nonNull(shade.getHex()) && nonNull(shade.getBackground())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void report(String step, double millis) {
+        DomGlobal.console.log(step + ": " + millis + "ms");
+        results.appendChild(tr()
+                .add(td().textContent(step))
+                .add(td().textContent(String.valueOf(Math.round(millis * 100) / 100.0)))
+                .asElement());
+    }
+}
@@ -0,0 +1,78 @@
+package org.dominokit.domino.ui.benchmark;
+
+import com.google.gwt.core.client.EntryPoint;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLTableElement;
+import org.dominokit.domino.ui.badges.Badge;
+import org.dominokit.domino.ui.button.Button;
+import org.dominokit.domino.ui.cards.Card;
+import org.dominokit.domino.ui.labels.Label;
+import org.dominokit.domino.ui.utils.BaseDominoElement;
+
+import java.util.function.Supplier;
+
+import static org.jboss.gwt.elemento.core.Elements.*;
+
+/**
+ * Times the construction of components with the lazy bookkeeping of {@link BaseDominoElement} against the same
+ * construction followed by the uuid, style and collapsible creation that init used to do eagerly.
+ */
+public class ConstructionBenchmark implements EntryPoint {
+
+    private static final int COUNT = 5000;
+    private static final int ROUNDS = 5;
+
+    private final HTMLTableElement results = table().css("table").asElement();
+
+    @Override
+    public void onModuleLoad() {
+        results.appendChild(tr()
+                .add(th().textContent("Component"))
+                .add(th().textContent("Lazy (ms)"))
+                .add(th().textContent("Eager (ms)"))
+                .asElement());
+        DomGlobal.document.body.appendChild(results);
+
+        run("Button", () -> Button.create("button"));
+        run("Badge", () -> Badge.create("badge"));
+        run("Label", () -> Label.create("label"));
+        run("Card", () -> Card.create("title", "description"));
+    }
+
+    private void run(String name, Supplier<? extends BaseDominoElement<?, ?>> factory) {
+        // warm up both paths before measuring
+        measure(factory, false);
+        measure(factory, true);
+
+        double lazy = Double.MAX_VALUE;
+        double eager = Double.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            lazy = Math.min(lazy, measure(factory, false));
+            eager = Math.min(eager, measure(factory, true));
+        }
+
+        DomGlobal.console.log(name + " x" + COUNT + " lazy: " + lazy + "ms, eager: " + eager + "ms");
+        results.appendChild(tr()
+                .add(td().textContent(name))
+                .add(td().textContent(format(lazy)))
+                .add(td().textContent(format(eager)))
+                .asElement());
+    }
+
+    private double measure(Supplier<? extends BaseDominoElement<?, ?>> factory, boolean eager) {
+        double start = DomGlobal.performance.now();
+        for (int i = 0; i < COUNT; i++) {
+            BaseDominoElement<?, ?> component = factory.get();
+            if (eager) {
+                component.getDominoId();
+                component.style();
+                component.expand();
+            }
+        }
+        return DomGlobal.performance.now() - start;
+    }
+
+    private static String format(double millis) {
+        return String.valueOf(Math.round(millis * 100) / 100.0);
+    }
+}
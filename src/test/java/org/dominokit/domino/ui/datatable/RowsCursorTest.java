@@ -0,0 +1,95 @@
+package org.dominokit.domino.ui.datatable;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class RowsCursorTest {
+
+    private final List<String> body = new ArrayList<>();
+
+    @Test
+    public void retainedRowsInTheSameOrderAreNotMoved() {
+        body.addAll(asList("a", "b", "c"));
+        RowsCursor<String> cursor = cursor("a", "b", "c");
+        cursor.place("a");
+        cursor.place("b");
+        cursor.place("c");
+        assertEquals(asList("a", "b", "c"), body);
+    }
+
+    @Test
+    public void expandedDetailsRowStaysAfterItsRow() {
+        body.addAll(asList("a", "a-details", "b", "c"));
+        RowsCursor<String> cursor = cursor("a", "b", "c");
+        cursor.place("a");
+        insert(cursor, "x");
+        cursor.place("b");
+        insert(cursor, "y");
+        cursor.place("c");
+        assertEquals(asList("a", "a-details", "x", "b", "y", "c"), body);
+    }
+
+    @Test
+    public void movedRowTakesItsDetailsRow() {
+        body.addAll(asList("a", "b", "b-details", "c"));
+        RowsCursor<String> cursor = cursor("a", "b", "c");
+        cursor.place("c");
+        cursor.place("b");
+        cursor.place("a");
+        assertEquals(asList("c", "b", "b-details", "a"), body);
+    }
+
+    @Test
+    public void detailsRowOfTheLastRowStaysLast() {
+        body.addAll(asList("a", "b", "b-details"));
+        RowsCursor<String> cursor = cursor("a", "b");
+        cursor.place("b");
+        cursor.place("a");
+        insert(cursor, "x");
+        assertEquals(asList("b", "b-details", "a", "x"), body);
+    }
+
+    @Test
+    public void leadingOtherRowsAreSkipped() {
+        body.addAll(asList("spacer", "a", "b"));
+        RowsCursor<String> cursor = cursor("a", "b");
+        insert(cursor, "x");
+        cursor.place("b");
+        cursor.place("a");
+        assertEquals(asList("spacer", "x", "b", "a"), body);
+    }
+
+    private void insert(RowsCursor<String> cursor, String row) {
+        String before = cursor.insertionPoint();
+        body.add(before == null ? body.size() : body.indexOf(before), row);
+    }
+
+    private RowsCursor<String> cursor(String... recordRows) {
+        Set<String> rows = new HashSet<>(asList(recordRows));
+        return new RowsCursor<>(new RowsCursor.Nodes<String>() {
+            @Override
+            public String first() {
+                return body.isEmpty() ? null : body.get(0);
+            }
+
+            @Override
+            public String next(String node) {
+                int index = body.indexOf(node) + 1;
+                return index < body.size() ? body.get(index) : null;
+            }
+
+            @Override
+            public void insertBefore(String node, String before) {
+                body.remove(node);
+                body.add(before == null ? body.size() : body.indexOf(before), node);
+            }
+        }, rows);
+    }
+}
@@ -0,0 +1,91 @@
+package org.dominokit.domino.ui.datatable;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SelectionModelTest {
+
+    private SelectionModel selectionModel;
+
+    @Before
+    public void setUp() {
+        selectionModel = new SelectionModel();
+        selectionModel.reset(10);
+    }
+
+    @Test
+    public void nothingIsSelectedAfterReset() {
+        assertEquals(10, selectionModel.getSize());
+        assertEquals(0, selectionModel.getSelectedCount());
+        assertFalse(selectionModel.hasSelection());
+        assertEquals(Collections.emptyList(), selectionModel.getSelectedIndices());
+    }
+
+    @Test
+    public void selectAndDeselect() {
+        selectionModel.select(7);
+        selectionModel.select(2);
+        selectionModel.select(7);
+        assertTrue(selectionModel.isSelected(2));
+        assertFalse(selectionModel.isSelected(3));
+        assertEquals(asList(2, 7), selectionModel.getSelectedIndices());
+        selectionModel.deselect(7);
+        assertEquals(1, selectionModel.getSelectedCount());
+        assertEquals(asList(2), selectionModel.getSelectedIndices());
+    }
+
+    @Test
+    public void selectAllKeepsTheDeselectedIndicesAsExceptions() {
+        selectionModel.selectAll();
+        assertTrue(selectionModel.isSelectAllMode());
+        assertEquals(10, selectionModel.getSelectedCount());
+        selectionModel.deselect(0);
+        selectionModel.deselect(5);
+        assertFalse(selectionModel.isSelected(5));
+        assertEquals(8, selectionModel.getSelectedCount());
+        assertEquals(asList(0, 5), selectionModel.getExceptions().stream().sorted().collect(Collectors.toList()));
+        selectionModel.select(5);
+        assertEquals(asList(1, 2, 3, 4, 5, 6, 7, 8, 9), selectionModel.getSelectedIndices());
+    }
+
+    @Test
+    public void deselectAllClearsTheSelection() {
+        selectionModel.selectAll();
+        selectionModel.deselect(3);
+        selectionModel.deselectAll();
+        assertFalse(selectionModel.isSelectAllMode());
+        assertFalse(selectionModel.hasSelection());
+        assertTrue(selectionModel.getExceptions().isEmpty());
+    }
+
+    @Test
+    public void grownRecordsAreNotSelected() {
+        selectionModel.selectAll();
+        selectionModel.grow(15);
+        assertEquals(15, selectionModel.getSize());
+        assertEquals(10, selectionModel.getSelectedCount());
+        assertFalse(selectionModel.isSelected(12));
+        assertTrue(selectionModel.isSelected(9));
+
+        selectionModel.deselectAll();
+        selectionModel.select(1);
+        selectionModel.grow(20);
+        assertEquals(asList(1), selectionModel.getSelectedIndices());
+    }
+
+    @Test
+    public void resetClearsTheSelection() {
+        selectionModel.selectAll();
+        selectionModel.reset(3);
+        assertEquals(3, selectionModel.getSize());
+        assertFalse(selectionModel.hasSelection());
+    }
+}
@@ -0,0 +1,111 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class LocalListDataStoreTest {
+
+    private final ColumnConfig<String> lengthColumn = ColumnConfig.create("length");
+    private final ColumnConfig<String> nameColumn = ColumnConfig.create("name");
+
+    private LocalListDataStore<String> store;
+    private List<String> records;
+    private int comparisons;
+
+    @Before
+    public void setUp() {
+        store = new LocalListDataStore<>(new ArrayList<>(asList("bb", "a", "ccc", "dd", "e", "fff")));
+        store.setRecordsSorter((sortBy, sortDirection) -> {
+            Comparator<String> comparator = "length".equals(sortBy)
+                    ? Comparator.comparingInt(String::length)
+                    : Comparator.naturalOrder();
+            Comparator<String> directed = SortDirection.ASC.equals(sortDirection) ? comparator : comparator.reversed();
+            return (first, second) -> {
+                comparisons++;
+                return directed.compare(first, second);
+            };
+        });
+        store.setSearchFilter((event, record) -> record.contains(event.getSearchText()));
+        store.onDataChanged(event -> records = event.getNewData());
+    }
+
+    @Test
+    public void sortsTheRecords() {
+        sort(nameColumn, SortDirection.ASC);
+        assertEquals(asList("a", "bb", "ccc", "dd", "e", "fff"), records);
+        sort(nameColumn, SortDirection.DESC);
+        assertEquals(asList("fff", "e", "dd", "ccc", "bb", "a"), records);
+    }
+
+    @Test
+    public void oppositeDirectionKeepsTheOrderOfEqualRecords() {
+        sort(lengthColumn, SortDirection.ASC);
+        assertEquals(asList("a", "e", "bb", "dd", "ccc", "fff"), records);
+        sort(lengthColumn, SortDirection.DESC);
+        assertEquals(asList("ccc", "fff", "bb", "dd", "a", "e"), records);
+    }
+
+    @Test
+    public void cachedSortIsReusedForTheSameFilter() {
+        sort(nameColumn, SortDirection.ASC);
+        sort(nameColumn, SortDirection.DESC);
+        int sortComparisons = comparisons;
+        sort(nameColumn, SortDirection.ASC);
+        assertEquals(asList("a", "bb", "ccc", "dd", "e", "fff"), records);
+        assertEquals(sortComparisons, comparisons);
+    }
+
+    @Test
+    public void setDataKeepsTheCurrentSort() {
+        sort(nameColumn, SortDirection.DESC);
+        store.setData(asList("b", "d", "a", "c"));
+        store.load();
+        assertEquals(asList("d", "c", "b", "a"), records);
+    }
+
+    @Test
+    public void searchKeepsTheCurrentSort() {
+        sort(nameColumn, SortDirection.DESC);
+        store.handleEvent(new SearchEvent("f", null));
+        assertEquals(asList("fff"), records);
+        store.handleEvent(new SearchEvent("", null));
+        assertEquals(asList("fff", "e", "dd", "ccc", "bb", "a"), records);
+    }
+
+    @Test
+    public void narrowingSearchFiltersThePreviousResult() {
+        store.setIncrementalSearch(true);
+        sort(lengthColumn, SortDirection.ASC);
+        store.handleEvent(new SearchEvent("d", null));
+        assertEquals(asList("dd"), records);
+        store.handleEvent(new SearchEvent("dd", null));
+        assertEquals(asList("dd"), records);
+    }
+
+    @Test
+    public void addedRecordsKeepTheSortAndTheSearch() {
+        sort(nameColumn, SortDirection.ASC);
+        store.handleEvent(new SearchEvent("c", null));
+        store.addRecord("cc");
+        store.addRecord("x");
+        assertEquals(asList("cc", "ccc"), records);
+        store.addRecords(asList("c", "zc", "y"));
+        assertEquals(asList("c", "cc", "ccc", "zc"), records);
+        assertEquals(11, store.getRecords().size());
+    }
+
+    private void sort(ColumnConfig<String> column, SortDirection direction) {
+        store.handleEvent(new SortEvent<>(direction, column));
+    }
+}
@@ -0,0 +1,67 @@
+package org.dominokit.domino.ui.forms;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class SelectSearchIndexTest {
+
+    private SelectSearchIndex<Integer> index;
+
+    @Before
+    public void setUp() {
+        index = new SelectSearchIndex<>();
+        index.add(0, "New York");
+        index.add(1, "Newcastle");
+        index.add(2, "York");
+        index.add(3, "Amsterdam");
+    }
+
+    @Test
+    public void searchIsCaseInsensitiveByDefault() {
+        assertEquals(asList(0, 1), index.search("NEW"));
+    }
+
+    @Test
+    public void caseSensitiveSearchMatchesTheExactCase() {
+        index.setCaseSensitive(true);
+        assertEquals(Collections.emptyList(), index.search("new"));
+        assertEquals(asList(0, 1), index.search("New"));
+    }
+
+    @Test
+    public void everyTokenMustMatch() {
+        assertEquals(asList(0), index.search("york new"));
+        assertEquals(asList(0, 2), index.search(" york "));
+    }
+
+    @Test
+    public void emptySearchMatchesAll() {
+        assertEquals(asList(0, 1, 2, 3), index.search(""));
+        assertEquals(asList(0, 1, 2, 3), index.search(null));
+    }
+
+    @Test
+    public void narrowedAndWidenedSearches() {
+        assertEquals(asList(0, 1), index.search("ne"));
+        assertEquals(asList(1), index.search("newc"));
+        assertEquals(asList(0, 1), index.search("new"));
+        assertEquals(asList(0, 2), index.search("yo"));
+    }
+
+    @Test
+    public void addedAndRemovedItemsResetTheNarrowing() {
+        assertEquals(asList(0, 1), index.search("new"));
+        index.add(4, "New Delhi");
+        assertEquals(asList(0, 1, 4), index.search("new "));
+        index.remove(1);
+        assertEquals(asList(0, 4), index.search("new "));
+        assertEquals(4, index.size());
+        index.clear();
+        assertEquals(Collections.emptyList(), index.search("new"));
+    }
+}
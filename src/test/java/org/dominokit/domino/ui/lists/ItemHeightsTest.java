@@ -0,0 +1,80 @@
+package org.dominokit.domino.ui.lists;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ItemHeightsTest {
+
+    private ItemHeights heights;
+
+    @Before
+    public void setUp() {
+        heights = new ItemHeights();
+    }
+
+    @Test
+    public void estimatedHeights() {
+        heights.reset(100, 20);
+        assertEquals(100, heights.size());
+        assertEquals(0, heights.offsetOf(0), 0);
+        assertEquals(200, heights.offsetOf(10), 0);
+        assertEquals(2000, heights.total(), 0);
+        assertEquals(0, heights.indexAt(0));
+        assertEquals(0, heights.indexAt(19.9));
+        assertEquals(1, heights.indexAt(20));
+        assertEquals(50, heights.indexAt(1010));
+    }
+
+    @Test
+    public void offsetsBeyondTheEndAreClamped() {
+        heights.reset(10, 20);
+        assertEquals(9, heights.indexAt(5000));
+        assertEquals(200, heights.offsetOf(50), 0);
+    }
+
+    @Test
+    public void emptyList() {
+        heights.reset(0, 20);
+        assertEquals(0, heights.total(), 0);
+        assertEquals(0, heights.indexAt(100));
+    }
+
+    @Test
+    public void setReportsChanges() {
+        heights.reset(10, 20);
+        assertFalse(heights.set(3, 20));
+        assertTrue(heights.set(3, 50));
+        assertEquals(230, heights.total(), 0);
+        assertEquals(60, heights.offsetOf(3), 0);
+        assertEquals(110, heights.offsetOf(4), 0);
+        assertEquals(3, heights.indexAt(109));
+        assertEquals(4, heights.indexAt(110));
+    }
+
+    @Test
+    public void measuredHeightsMatchALinearScan() {
+        int size = 1000;
+        double[] measured = new double[size];
+        Random random = new Random(42);
+        heights.reset(size, 30);
+        for (int i = 0; i < size; i++) {
+            measured[i] = 10 + random.nextInt(90);
+            heights.set(i, measured[i]);
+        }
+
+        double offset = 0;
+        for (int i = 0; i < size; i++) {
+            assertEquals(offset, heights.offsetOf(i), 0);
+            assertEquals(i, heights.indexAt(offset));
+            assertEquals(i, heights.indexAt(offset + measured[i] - 1));
+            offset += measured[i];
+        }
+        assertEquals(offset, heights.total(), 0);
+    }
+}
@@ -0,0 +1,58 @@
+package org.dominokit.domino.ui.pagination;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SimplePaginationTest {
+
+    @Test
+    public void allPagesAreVisibleWhenTheyFit() {
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, SimplePagination.visiblePages(3, 5, 7));
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7}, SimplePagination.visiblePages(7, 7, 7));
+        assertArrayEquals(new int[0], SimplePagination.visiblePages(1, 0, 7));
+    }
+
+    @Test
+    public void windowNearTheFirstPage() {
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, -1, 20}, SimplePagination.visiblePages(1, 20, 7));
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, -1, 20}, SimplePagination.visiblePages(4, 20, 7));
+    }
+
+    @Test
+    public void windowInTheMiddle() {
+        assertArrayEquals(new int[]{1, -1, 4, 5, 6, -1, 20}, SimplePagination.visiblePages(5, 20, 7));
+        assertArrayEquals(new int[]{1, -1, 15, 16, 17, -1, 20}, SimplePagination.visiblePages(16, 20, 7));
+        assertArrayEquals(new int[]{1, -1, 48, 49, 50, 51, 52, -1, 100}, SimplePagination.visiblePages(50, 100, 9));
+    }
+
+    @Test
+    public void windowNearTheLastPage() {
+        assertArrayEquals(new int[]{1, -1, 16, 17, 18, 19, 20}, SimplePagination.visiblePages(17, 20, 7));
+        assertArrayEquals(new int[]{1, -1, 16, 17, 18, 19, 20}, SimplePagination.visiblePages(20, 20, 7));
+    }
+
+    @Test
+    public void everyWindowHasTheActivePageAndTheSameSize() {
+        for (int maxVisiblePages = 5; maxVisiblePages <= 11; maxVisiblePages++) {
+            for (int activePage = 1; activePage <= 50; activePage++) {
+                int[] pages = SimplePagination.visiblePages(activePage, 50, maxVisiblePages);
+                assertEquals(maxVisiblePages, pages.length);
+                assertEquals(1, pages[0]);
+                assertEquals(50, pages[pages.length - 1]);
+                boolean hasActivePage = false;
+                int previous = 0;
+                for (int page : pages) {
+                    hasActivePage |= page == activePage;
+                    if (page > 0) {
+                        assertTrue(page > previous);
+                        previous = page;
+                    }
+                }
+                assertTrue("page " + activePage + " of " + maxVisiblePages, hasActivePage);
+            }
+        }
+    }
+}
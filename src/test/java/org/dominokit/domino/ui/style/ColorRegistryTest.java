@@ -0,0 +1,119 @@
+package org.dominokit.domino.ui.style;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+
+/**
+ * Checks the colors and schemes of the registry against colors.tsv, which holds the values of the constants from
+ * before they were backed by the registry.
+ */
+public class ColorRegistryTest {
+
+    private final List<String[]> colorRows = new ArrayList<>();
+    private final List<String[]> schemeRows = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("colors.tsv"), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] row = line.split("\t", -1);
+                if ("color".equals(row[0])) {
+                    colorRows.add(row);
+                } else if ("scheme".equals(row[0])) {
+                    schemeRows.add(row);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void colorsKeepTheirValues() throws Exception {
+        for (String[] row : colorRows) {
+            Color color = (Color) Color.class.getField(row[1]).get(null);
+            assertEquals(row[1], row[2], color.getName());
+            assertEquals(row[1], row[3], color.getStyle());
+            assertEquals(row[1], row[4], color.getHex());
+            assertEquals(row[1], row[5], color.getBackground());
+        }
+    }
+
+    @Test
+    public void allColorsAreChecked() {
+        assertEquals(constants(Color.class).size() - 1, colorRows.size());
+    }
+
+    @Test
+    public void colorsAreFoundByName() throws Exception {
+        for (String[] row : colorRows) {
+            assertSame(Color.class.getField(row[1]).get(null), Color.valueOf(row[2]));
+        }
+        assertNull(Color.valueOf("NOT A COLOR"));
+    }
+
+    @Test
+    public void colorsAreFoundByHex() {
+        assertSame(Color.RED, Color.ofHex("#F44336"));
+        assertSame(Color.RED, Color.ofHex("#f44336"));
+        assertSame(Color.BLUE_GREY_DARKEN_4, Color.ofHex(Color.BLUE_GREY_DARKEN_4.getHex()));
+        assertNull(Color.ofHex("#123456"));
+        assertNull(Color.ofHex(null));
+    }
+
+    @Test
+    public void schemesKeepTheirShades() throws Exception {
+        for (String[] row : schemeRows) {
+            ColorScheme scheme = (ColorScheme) ColorScheme.class.getField(row[1]).get(null);
+            Color[] shades = {scheme.lighten_5(), scheme.lighten_4(), scheme.lighten_3(), scheme.lighten_2(),
+                    scheme.lighten_1(), scheme.color(), scheme.darker_1(), scheme.darker_2(), scheme.darker_3(),
+                    scheme.darker_4()};
+            for (int i = 0; i < shades.length; i++) {
+                assertNotNull(row[1] + " shade " + i, shades[i]);
+                assertSame(row[1] + " shade " + i, Color.valueOf(row[2 + i]), shades[i]);
+            }
+            assertEquals(row[1], row[12], scheme.rgba_1());
+            assertEquals(row[1], row[13], scheme.rgba_2());
+        }
+    }
+
+    @Test
+    public void allSchemesAreChecked() {
+        assertEquals(constants(ColorScheme.class).size(), schemeRows.size());
+    }
+
+    @Test
+    public void schemesAreFoundByName() throws Exception {
+        for (String[] row : schemeRows) {
+            ColorScheme scheme = (ColorScheme) ColorScheme.class.getField(row[1]).get(null);
+            assertSame(scheme, ColorScheme.valueOf(scheme.color().getName()));
+        }
+    }
+
+    private static Map<String, Object> constants(Class<?> type) {
+        Map<String, Object> constants = new HashMap<>();
+        for (Field field : type.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && type.isAssignableFrom(field.getType())) {
+                try {
+                    constants.put(field.getName(), field.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return constants;
+    }
+}
@@ -0,0 +1,103 @@
+package org.dominokit.domino.ui.tag.store;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class IndexedTagsStoreTest {
+
+    private IndexedTagsStore<Integer> store;
+
+    @Before
+    public void setUp() {
+        store = IndexedTagsStore.create();
+        store.addItem("Java", 1);
+        store.addItem("JavaScript", 2);
+        store.addItem("Kotlin", 3);
+        store.addItem("Scala", 4);
+        store.addItem("TypeScript", 5);
+    }
+
+    @Test
+    public void prefixMatchesComeBeforeContainingMatches() {
+        assertEquals(asList("Scala", "JavaScript", "TypeScript"), suggestions("sc"));
+        assertEquals(asList("JavaScript", "TypeScript"), suggestions("script"));
+        assertEquals(asList("Java", "JavaScript"), suggestions("JAVA"));
+    }
+
+    @Test
+    public void shortSearchesMatchAnywhere() {
+        assertEquals(asList("TypeScript", "JavaScript", "Kotlin"), suggestions("t"));
+    }
+
+    @Test
+    public void longSearchesMustMatchAllTheirTrigrams() {
+        assertEquals(Collections.emptyList(), suggestions("scripts"));
+        assertEquals(Collections.emptyList(), suggestions("avascal"));
+        assertEquals(asList("JavaScript"), suggestions("vascr"));
+    }
+
+    @Test
+    public void emptySearchSuggestsAllItems() {
+        assertEquals(asList("Java", "JavaScript", "Kotlin", "Scala", "TypeScript"), suggestions(""));
+    }
+
+    @Test
+    public void suggestionsAreLimited() {
+        store.setMaxSuggestions(2);
+        assertEquals(asList("Scala", "JavaScript"), suggestions("sc"));
+    }
+
+    @Test
+    public void readdingAValueReplacesItsDisplayValue() {
+        store.addItem("Kotlin/JVM", 3);
+        assertNull(store.getItemByDisplayValue("Kotlin"));
+        assertEquals("Kotlin/JVM", store.getDisplayValue(3));
+        assertEquals(asList("Kotlin/JVM"), suggestions("kot"));
+        assertEquals(asList("Kotlin/JVM"), suggestions("jvm"));
+        assertEquals(5, store.getItems().size());
+    }
+
+    @Test
+    public void readdingADisplayValueReplacesItsValue() {
+        store.addItem("Kotlin", 6);
+        assertEquals(Integer.valueOf(6), store.getItemByDisplayValue("Kotlin"));
+        assertNull(store.getDisplayValue(3));
+        assertEquals(asList("Kotlin"), suggestions("otl"));
+    }
+
+    @Test
+    public void removedItemsAreNotSuggested() {
+        store.removeItem(2);
+        assertEquals(asList("TypeScript"), suggestions("script"));
+        assertEquals(asList("Java"), suggestions("java"));
+        store.clear();
+        assertEquals(Collections.emptyList(), suggestions(""));
+    }
+
+    @Test
+    public void loadedSuggestionsAreAddedToTheStore() {
+        store.setSuggestionsLoader((searchValue, handler) -> {
+            Map<String, Integer> loaded = new HashMap<>();
+            loaded.put("Groovy", 7);
+            handler.onSuggestions(loaded);
+        });
+        List<String> loaded = new ArrayList<>();
+        store.filter("gro", suggestions -> loaded.addAll(suggestions.keySet()));
+        assertEquals(asList("Groovy"), loaded);
+        assertEquals(Integer.valueOf(7), store.getItemByDisplayValue("Groovy"));
+    }
+
+    private List<String> suggestions(String searchValue) {
+        return new ArrayList<>(store.filter(searchValue).keySet());
+    }
+}
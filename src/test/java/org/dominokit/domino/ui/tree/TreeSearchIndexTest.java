@@ -0,0 +1,83 @@
+package org.dominokit.domino.ui.tree;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TreeSearchIndexTest {
+
+    private TreeSearchIndex<String> index;
+
+    @Before
+    public void setUp() {
+        Map<String, List<String>> children = new HashMap<>();
+        children.put("Fruits", asList("Apple", "Banana", "Citrus"));
+        children.put("Citrus", asList("Orange", "Lemon"));
+        children.put("Vegetables", asList("Carrot", "Potato"));
+
+        index = new TreeSearchIndex<>(new TreeDataProvider<String>() {
+            @Override
+            public List<String> getRoots() {
+                return asList("Fruits", "Vegetables");
+            }
+
+            @Override
+            public List<String> getChildren(String node) {
+                return children.getOrDefault(node, Collections.emptyList());
+            }
+
+            @Override
+            public String getTitle(String node) {
+                return node;
+            }
+        });
+    }
+
+    @Test
+    public void indexesAllTheNodes() {
+        assertEquals(9, index.size());
+    }
+
+    @Test
+    public void searchReturnsThePathsFromTheRoots() {
+        assertEquals(Collections.singletonList(asList("Fruits", "Citrus", "Lemon")), index.search("lem", 200));
+    }
+
+    @Test
+    public void searchIsCaseInsensitive() {
+        assertEquals(Collections.singletonList(asList("Vegetables", "Potato")), index.search("POTATO", 200));
+    }
+
+    @Test
+    public void searchIsLimitedToMaxResults() {
+        assertEquals(6, index.search("a", 200).size());
+        assertEquals(2, index.search("a", 2).size());
+    }
+
+    @Test
+    public void narrowedSearchUsesAllThePreviousMatches() {
+        index.search("a", 1);
+        List<List<String>> paths = index.search("an", 200);
+        assertEquals(2, paths.size());
+        assertTrue(paths.contains(asList("Fruits", "Banana")));
+        assertTrue(paths.contains(asList("Fruits", "Citrus", "Orange")));
+    }
+
+    @Test
+    public void widenedSearchChecksAllTheNodes() {
+        index.search("carrot", 200);
+        assertEquals(Collections.singletonList(asList("Vegetables", "Carrot")), index.search("car", 200));
+        assertEquals(4, index.search("o", 200).size());
+    }
+
+    @Test
+    public void pathOfUnknownNodeIsEmpty() {
+        assertTrue(index.pathOf("Grape").isEmpty());
+        assertEquals(asList("Fruits", "Apple"), index.pathOf("Apple"));
+    }
+}
@@ -0,0 +1,84 @@
+package org.dominokit.domino.ui.utils;
+
+import org.dominokit.domino.ui.forms.FormElement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ElementValidationsTest {
+
+    private String value = "taken";
+    private final List<HasValidation.ValidationCallback> pendingChecks = new ArrayList<>();
+    private final List<ValidationResult> results = new ArrayList<>();
+    private ElementValidations validations;
+
+    @Before
+    public void setUp() {
+        FormElement element = (FormElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{FormElement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isEnabled":
+                            return true;
+                        case "isEmpty":
+                            return value.isEmpty();
+                        case "getValue":
+                            return value;
+                        default:
+                            return null;
+                    }
+                });
+        validations = new ElementValidations(element);
+        validations.addAsyncValidator(pendingChecks::add);
+    }
+
+    @Test
+    public void callbackGetsTheAsyncResult() {
+        validations.validate(results::add);
+        assertTrue(validations.isValidating());
+        pendingChecks.remove(0).onValidated(ValidationResult.invalid("taken"));
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isValid());
+        assertFalse(validations.isDirty());
+    }
+
+    @Test
+    public void supersededValidationReportsTheNextResult() {
+        validations.validate(results::add);
+        value = "free";
+        validations.validate();
+        pendingChecks.remove(0).onValidated(ValidationResult.invalid("taken"));
+        assertTrue(results.isEmpty());
+        pendingChecks.remove(0).onValidated(ValidationResult.valid());
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isValid());
+    }
+
+    @Test
+    public void canceledValidationReportsTheNextResult() {
+        validations.validate(results::add);
+        validations.cancel();
+        assertFalse(validations.isValidating());
+        pendingChecks.remove(0).onValidated(ValidationResult.valid());
+        assertTrue(results.isEmpty());
+        validations.validate();
+        pendingChecks.remove(0).onValidated(ValidationResult.valid());
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    public void synchronousFailureSkipsTheAsyncValidators() {
+        value = "";
+        validations.setRequired(true);
+        validations.validate(results::add);
+        assertTrue(pendingChecks.isEmpty());
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isValid());
+    }
+}